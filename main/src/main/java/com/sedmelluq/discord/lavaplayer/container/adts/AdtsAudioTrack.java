@@ -14,21 +14,29 @@ import java.io.InputStream;
 public class AdtsAudioTrack extends BaseAudioTrack {
     private static final Logger log = LoggerFactory.getLogger(AdtsAudioTrack.class);
 
-    private final InputStream inputStream;
+    private final AdtsPacketSource packetSource;
 
     /**
      * @param trackInfo   Track info
      * @param inputStream Input stream for the ADTS stream
      */
     public AdtsAudioTrack(AudioTrackInfo trackInfo, InputStream inputStream) {
+        this(trackInfo, new AdtsStreamPacketSource(inputStream));
+    }
+
+    /**
+     * @param trackInfo    Track info
+     * @param packetSource Source of the ADTS packets
+     */
+    public AdtsAudioTrack(AudioTrackInfo trackInfo, AdtsPacketSource packetSource) {
         super(trackInfo);
 
-        this.inputStream = inputStream;
+        this.packetSource = packetSource;
     }
 
     @Override
     public void process(LocalAudioTrackExecutor localExecutor) throws Exception {
-        AdtsStreamProvider provider = new AdtsStreamProvider(inputStream, localExecutor.getProcessingContext());
+        AdtsStreamProvider provider = new AdtsStreamProvider(packetSource, localExecutor.getProcessingContext());
 
         try {
             log.debug("Starting to play ADTS stream {}", getIdentifier());
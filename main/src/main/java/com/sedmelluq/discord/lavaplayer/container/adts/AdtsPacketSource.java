@@ -0,0 +1,27 @@
+package com.sedmelluq.discord.lavaplayer.container.adts;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Source of ADTS packets for {@link AdtsStreamProvider}.
+ */
+public interface AdtsPacketSource {
+    /**
+     * Find the header of the next packet.
+     *
+     * @return The packet header, <code>null</code> if EOF was reached before finding one.
+     * @throws IOException On read error.
+     */
+    AdtsPacketHeader nextPacketHeader() throws IOException;
+
+    /**
+     * Read the payload of the packet whose header was returned by the last call to {@link #nextPacketHeader()}.
+     *
+     * @param header Header of the current packet.
+     * @return Direct buffer containing the payload, only valid until the next call to this source. <code>null</code> if
+     * EOF was reached in the middle of the packet.
+     * @throws IOException On read error.
+     */
+    ByteBuffer readPayload(AdtsPacketHeader header) throws IOException;
+}
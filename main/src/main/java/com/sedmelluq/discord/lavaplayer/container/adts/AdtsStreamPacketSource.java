@@ -0,0 +1,41 @@
+package com.sedmelluq.discord.lavaplayer.container.adts;
+
+import com.sedmelluq.discord.lavaplayer.tools.io.DirectBufferStreamBroker;
+import com.sedmelluq.discord.lavaplayer.tools.io.ResettableBoundedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * ADTS packet source which reads packets from a plain input stream.
+ */
+public class AdtsStreamPacketSource implements AdtsPacketSource {
+    private final AdtsStreamReader streamReader;
+    private final ResettableBoundedInputStream packetBoundedStream;
+    private final DirectBufferStreamBroker directBufferBroker;
+
+    /**
+     * @param inputStream Input stream to read from.
+     */
+    public AdtsStreamPacketSource(InputStream inputStream) {
+        this.streamReader = new AdtsStreamReader(inputStream);
+        this.packetBoundedStream = new ResettableBoundedInputStream(inputStream);
+        this.directBufferBroker = new DirectBufferStreamBroker(2048);
+    }
+
+    @Override
+    public AdtsPacketHeader nextPacketHeader() throws IOException {
+        return streamReader.findPacketHeader();
+    }
+
+    @Override
+    public ByteBuffer readPayload(AdtsPacketHeader header) throws IOException {
+        packetBoundedStream.resetLimit(header.payloadLength);
+        directBufferBroker.consumeNext(packetBoundedStream, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        streamReader.nextPacket();
+
+        ByteBuffer buffer = directBufferBroker.getBuffer();
+        return buffer.limit() < header.payloadLength ? null : buffer;
+    }
+}
@@ -4,8 +4,6 @@ import com.sedmelluq.discord.lavaplayer.filter.AudioPipeline;
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipelineFactory;
 import com.sedmelluq.discord.lavaplayer.filter.PcmFormat;
 import com.sedmelluq.discord.lavaplayer.natives.aac.AacDecoder;
-import com.sedmelluq.discord.lavaplayer.tools.io.DirectBufferStreamBroker;
-import com.sedmelluq.discord.lavaplayer.tools.io.ResettableBoundedInputStream;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
 
 import java.io.IOException;
@@ -19,10 +17,8 @@ import java.nio.ShortBuffer;
  */
 public class AdtsStreamProvider {
     private final AudioProcessingContext context;
-    private final AdtsStreamReader streamReader;
+    private final AdtsPacketSource packetSource;
     private final AacDecoder decoder;
-    private final ResettableBoundedInputStream packetBoundedStream;
-    private final DirectBufferStreamBroker directBufferBroker;
     private ShortBuffer outputBuffer;
     private AdtsPacketHeader previousHeader;
     private AudioPipeline downstream;
@@ -34,11 +30,17 @@ public class AdtsStreamProvider {
      * @param context     Configuration and output information for processing
      */
     public AdtsStreamProvider(InputStream inputStream, AudioProcessingContext context) {
+        this(new AdtsStreamPacketSource(inputStream), context);
+    }
+
+    /**
+     * @param packetSource Source of the ADTS packets.
+     * @param context      Configuration and output information for processing
+     */
+    public AdtsStreamProvider(AdtsPacketSource packetSource, AudioProcessingContext context) {
         this.context = context;
-        this.streamReader = new AdtsStreamReader(inputStream);
+        this.packetSource = packetSource;
         this.decoder = new AacDecoder();
-        this.packetBoundedStream = new ResettableBoundedInputStream(inputStream);
-        this.directBufferBroker = new DirectBufferStreamBroker(2048);
     }
 
     /**
@@ -61,7 +63,7 @@ public class AdtsStreamProvider {
     public void provideFrames() throws InterruptedException {
         try {
             while (true) {
-                AdtsPacketHeader header = streamReader.findPacketHeader();
+                AdtsPacketHeader header = packetSource.nextPacketHeader();
                 if (header == null) {
                     // Reached EOF while scanning for header
                     return;
@@ -69,18 +71,14 @@ public class AdtsStreamProvider {
 
                 configureProcessing(header);
 
-                packetBoundedStream.resetLimit(header.payloadLength);
-                directBufferBroker.consumeNext(packetBoundedStream, Integer.MAX_VALUE, Integer.MAX_VALUE);
-
-                ByteBuffer buffer = directBufferBroker.getBuffer();
+                ByteBuffer buffer = packetSource.readPayload(header);
 
-                if (buffer.limit() < header.payloadLength) {
+                if (buffer == null) {
                     // Reached EOF in the middle of a packet
                     return;
                 }
 
                 decodeAndSend(buffer);
-                streamReader.nextPacket();
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
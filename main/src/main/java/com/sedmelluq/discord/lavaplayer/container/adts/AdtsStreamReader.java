@@ -125,7 +125,13 @@ public class AdtsStreamReader {
         }
     }
 
-    private static AdtsPacketHeader readHeader(BitBufferReader reader) {
+    /**
+     * Parses an ADTS packet header, not including the CRC which follows it if protection is present.
+     *
+     * @param reader Reader positioned at the start of the header, with at least 7 bytes available.
+     * @return The packet header, <code>null</code> if the data is not a supported ADTS header.
+     */
+    public static AdtsPacketHeader readHeader(BitBufferReader reader) {
         if ((reader.asLong(15) & 0x7FFB) != 0x7FF8) {
             // Possible reasons:
             // 1) Syncword is not present, cannot be an ADTS header
@@ -92,25 +92,37 @@ public class FlacFrameReader {
         }
     }
 
+    // The channel buffers are hoisted into locals so that these loops are simple counted loops over one-dimensional
+    // arrays, which the JIT can unroll and vectorize.
+
     private static void applyLeftSideDelta(int[][] rawSampleBuffers, int sampleCount) {
+        int[] left = rawSampleBuffers[0];
+        int[] side = rawSampleBuffers[1];
+
         for (int i = 0; i < sampleCount; i++) {
-            rawSampleBuffers[1][i] = rawSampleBuffers[0][i] - rawSampleBuffers[1][i];
+            side[i] = left[i] - side[i];
         }
     }
 
     private static void applyRightSideDelta(int[][] rawSampleBuffers, int sampleCount) {
+        int[] side = rawSampleBuffers[0];
+        int[] right = rawSampleBuffers[1];
+
         for (int i = 0; i < sampleCount; i++) {
-            rawSampleBuffers[0][i] += rawSampleBuffers[1][i];
+            side[i] += right[i];
         }
     }
 
     private static void applyMidDelta(int[][] rawSampleBuffers, int sampleCount) {
+        int[] mid = rawSampleBuffers[0];
+        int[] side = rawSampleBuffers[1];
+
         for (int i = 0; i < sampleCount; i++) {
-            int delta = rawSampleBuffers[1][i];
-            int middle = (rawSampleBuffers[0][i] << 1) + (delta & 1);
+            int delta = side[i];
+            int middle = (mid[i] << 1) + (delta & 1);
 
-            rawSampleBuffers[0][i] = (middle + delta) >> 1;
-            rawSampleBuffers[1][i] = (middle - delta) >> 1;
+            mid[i] = (middle + delta) >> 1;
+            side[i] = (middle - delta) >> 1;
         }
     }
 
@@ -121,8 +133,11 @@ public class FlacFrameReader {
             decreaseSampleSize(streamInfo, sampleCount, rawSampleBuffers, sampleBuffers);
         } else {
             for (int channel = 0; channel < streamInfo.channelCount; channel++) {
+                int[] source = rawSampleBuffers[channel];
+                short[] target = sampleBuffers[channel];
+
                 for (int i = 0; i < sampleCount; i++) {
-                    sampleBuffers[channel][i] = (short) rawSampleBuffers[channel][i];
+                    target[i] = (short) source[i];
                 }
             }
         }
@@ -132,8 +147,11 @@ public class FlacFrameReader {
         int shiftLeft = 16 - streamInfo.bitsPerSample;
 
         for (int channel = 0; channel < streamInfo.channelCount; channel++) {
+            int[] source = rawSampleBuffers[channel];
+            short[] target = sampleBuffers[channel];
+
             for (int i = 0; i < sampleCount; i++) {
-                sampleBuffers[channel][i] = (short) (rawSampleBuffers[channel][i] << shiftLeft);
+                target[i] = (short) (source[i] << shiftLeft);
             }
         }
     }
@@ -142,8 +160,11 @@ public class FlacFrameReader {
         int shiftRight = streamInfo.bitsPerSample - 16;
 
         for (int channel = 0; channel < streamInfo.channelCount; channel++) {
+            int[] source = rawSampleBuffers[channel];
+            short[] target = sampleBuffers[channel];
+
             for (int i = 0; i < sampleCount; i++) {
-                sampleBuffers[channel][i] = (short) (rawSampleBuffers[channel][i] >> shiftRight);
+                target[i] = (short) (source[i] >> shiftRight);
             }
         }
     }
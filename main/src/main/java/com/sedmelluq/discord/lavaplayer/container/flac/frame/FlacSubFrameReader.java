@@ -128,20 +128,105 @@ public class FlacSubFrameReader {
         int precision = reader.asInteger(4) + 1;
         int shift = reader.asInteger(5);
 
-        for (int i = 0; i < order; i++) {
+        // Stored in reverse, so that coefficients[j] applies to buffer[i - order + j] and the prediction loops walk both
+        // arrays in the same direction.
+        for (int i = order - 1; i >= 0; i--) {
             coefficients[i] = reader.asSignedInteger(precision);
         }
 
         readResidual(reader, order, sampleBuffer, order, sampleCount);
-        restoreLpcSignal(sampleBuffer, sampleCount, order, shift, coefficients);
+
+        // Same condition as the reference decoder uses for deciding when the prediction sum cannot overflow an int.
+        if (bitsPerSample + precision + (32 - Integer.numberOfLeadingZeros(order)) <= 32) {
+            restoreLpcSignalNarrow(sampleBuffer, sampleCount, order, shift, coefficients);
+        } else {
+            restoreLpcSignalWide(sampleBuffer, sampleCount, order, shift, coefficients);
+        }
     }
 
-    private static void restoreLpcSignal(int[] buffer, int sampleCount, int order, int shift, int[] coefficients) {
+    private static void restoreLpcSignalNarrow(int[] buffer, int sampleCount, int order, int shift, int[] coefficients) {
+        // The inner loop has too few iterations for the JIT to unroll it well, so the lowest orders get a loop of their
+        // own and the rest is unrolled by four manually.
+        switch (order) {
+            case 1:
+                restoreLpcSignalOrder1(buffer, sampleCount, shift, coefficients);
+                return;
+            case 2:
+                restoreLpcSignalOrder2(buffer, sampleCount, shift, coefficients);
+                return;
+            case 3:
+                restoreLpcSignalOrder3(buffer, sampleCount, shift, coefficients);
+                return;
+            case 4:
+                restoreLpcSignalOrder4(buffer, sampleCount, shift, coefficients);
+                return;
+        }
+
+        int unrolledOrder = order & ~3;
+
         for (int i = order; i < sampleCount; i++) {
+            int history = i - order;
+            int sum = 0;
+            int j = 0;
+
+            for (; j < unrolledOrder; j += 4) {
+                sum += coefficients[j] * buffer[history + j] + coefficients[j + 1] * buffer[history + j + 1] +
+                    coefficients[j + 2] * buffer[history + j + 2] + coefficients[j + 3] * buffer[history + j + 3];
+            }
+
+            for (; j < order; j++) {
+                sum += coefficients[j] * buffer[history + j];
+            }
+
+            buffer[i] += sum >> shift;
+        }
+    }
+
+    private static void restoreLpcSignalOrder1(int[] buffer, int sampleCount, int shift, int[] coefficients) {
+        int c1 = coefficients[0];
+
+        for (int i = 1; i < sampleCount; i++) {
+            buffer[i] += (c1 * buffer[i - 1]) >> shift;
+        }
+    }
+
+    private static void restoreLpcSignalOrder2(int[] buffer, int sampleCount, int shift, int[] coefficients) {
+        int c2 = coefficients[0];
+        int c1 = coefficients[1];
+
+        for (int i = 2; i < sampleCount; i++) {
+            buffer[i] += (c1 * buffer[i - 1] + c2 * buffer[i - 2]) >> shift;
+        }
+    }
+
+    private static void restoreLpcSignalOrder3(int[] buffer, int sampleCount, int shift, int[] coefficients) {
+        int c3 = coefficients[0];
+        int c2 = coefficients[1];
+        int c1 = coefficients[2];
+
+        for (int i = 3; i < sampleCount; i++) {
+            buffer[i] += (c1 * buffer[i - 1] + c2 * buffer[i - 2] + c3 * buffer[i - 3]) >> shift;
+        }
+    }
+
+    private static void restoreLpcSignalOrder4(int[] buffer, int sampleCount, int shift, int[] coefficients) {
+        int c4 = coefficients[0];
+        int c3 = coefficients[1];
+        int c2 = coefficients[2];
+        int c1 = coefficients[3];
+
+        for (int i = 4; i < sampleCount; i++) {
+            buffer[i] += (c1 * buffer[i - 1] + c2 * buffer[i - 2] + c3 * buffer[i - 3] + c4 * buffer[i - 4]) >> shift;
+        }
+    }
+
+    private static void restoreLpcSignalWide(int[] buffer, int sampleCount, int order, int shift, int[] coefficients) {
+        for (int i = order; i < sampleCount; i++) {
+            int history = i - order;
             long sum = 0;
 
             for (int j = 0; j < order; j++) {
-                sum += (long) coefficients[j] * buffer[i - j - 1];
+                sum += (long) coefficients[j] * buffer[history + j];
             }
 
             buffer[i] += (int) (sum >> shift);
@@ -169,7 +254,7 @@ public class FlacSubFrameReader {
 
             if (parameter < parameterMaximum) {
                 value = partitionSamples - value;
-                readResidualBlock(reader, buffer, sample, sample + value, parameter);
+                reader.readRiceSignedBlock(buffer, sample, sample + value, parameter);
                 sample += value;
             } else {
                 parameter = reader.asInteger(5);
@@ -181,13 +266,6 @@ public class FlacSubFrameReader {
         }
     }
 
-    private static void readResidualBlock(BitStreamReader reader, int[] buffer, int offset, int endOffset, int parameter) throws IOException {
-        for (int i = offset; i < endOffset; i++) {
-            int lowOrderSigned = (reader.readAllZeroes() << parameter) | reader.asInteger(parameter);
-            buffer[i] = (lowOrderSigned & 1) == 0 ? lowOrderSigned >> 1 : -(lowOrderSigned >> 1) - 1;
-        }
-    }
-
     private enum Encoding {
         CONSTANT,
         VERBATIM,
@@ -0,0 +1,146 @@
+package com.sedmelluq.discord.lavaplayer.container.matroska;
+
+import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaEbmlReader;
+import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaFileReader;
+
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Locates clusters in a Matroska file which has no cues. Searches by bisecting the byte range between the closest known
+ * clusters, resynchronising on the cluster element ID at each probe position. Every cluster found on the way, as well as
+ * the ones passed during playback, is remembered, so repeated seeks on the same file need few or no extra reads.
+ */
+public class MatroskaClusterSeeker {
+    private static final int CLUSTER_ID = 0x1F43B675;
+    private static final int TIMECODE_ID = 0xE7;
+    private static final int CRC32_ID = 0xBF;
+
+    private static final int MAX_BISECT_STEPS = 12;
+    private static final long LINEAR_DISCARD_DISTANCE = 256 * 1024;
+
+    private final MatroskaFileReader reader;
+    private final long firstClusterPosition;
+    private final long endPosition;
+    private final TreeMap<Long, Long> clusterPositions;
+    private long probedTimecode;
+
+    /**
+     * @param reader               Reader of the file
+     * @param firstClusterPosition Position of the header of the first cluster in the file
+     * @param endPosition          Position where the clusters of the segment end
+     */
+    public MatroskaClusterSeeker(MatroskaFileReader reader, long firstClusterPosition, long endPosition) {
+        this.reader = reader;
+        this.firstClusterPosition = firstClusterPosition;
+        this.endPosition = endPosition;
+        this.clusterPositions = new TreeMap<>();
+    }
+
+    /**
+     * Remember the position of a cluster.
+     *
+     * @param timecode Timecode of the cluster
+     * @param position Position of the header of the cluster
+     */
+    public void recordCluster(long timecode, long position) {
+        clusterPositions.put(timecode, position);
+    }
+
+    /**
+     * Find a cluster at which to start reading to get to the specified timecode. The returned position may be up to a
+     * small distance before the actual cluster containing the timecode, the blocks before the timecode are expected to be
+     * discarded by the caller. Leaves the reader at an unspecified position.
+     *
+     * @param timecode Timecode using the timescale of the file
+     * @return Position of a cluster header which is not after the requested timecode
+     * @throws IOException On read error
+     */
+    public long findClusterPosition(long timecode) throws IOException {
+        Map.Entry<Long, Long> floor = clusterPositions.floorEntry(timecode);
+        Map.Entry<Long, Long> higher = clusterPositions.higherEntry(timecode);
+
+        long low = floor != null ? floor.getValue() : firstClusterPosition;
+        long high = higher != null ? higher.getValue() : endPosition;
+
+        for (int step = 0; step < MAX_BISECT_STEPS && high - low > LINEAR_DISCARD_DISTANCE; step++) {
+            long middle = low + (high - low) / 2;
+            long clusterPosition = findNextCluster(middle, high);
+
+            if (clusterPosition == -1) {
+                high = middle;
+            } else if (probedTimecode <= timecode) {
+                low = clusterPosition;
+            } else {
+                high = clusterPosition;
+            }
+        }
+
+        return low;
+    }
+
+    private long findNextCluster(long position, long limit) throws IOException {
+        DataInput input = reader.getDataInput();
+        int window = 0;
+
+        reader.seek(position);
+
+        try {
+            while (reader.getPosition() < limit) {
+                window = (window << 8) | input.readUnsignedByte();
+
+                if (window == CLUSTER_ID) {
+                    long clusterPosition = reader.getPosition() - 4;
+
+                    if (readClusterTimecode(input)) {
+                        recordCluster(probedTimecode, clusterPosition);
+                        return clusterPosition;
+                    }
+
+                    window = 0;
+                }
+            }
+        } catch (EOFException e) {
+            return -1;
+        }
+
+        return -1;
+    }
+
+    private boolean readClusterTimecode(DataInput input) throws IOException {
+        try {
+            // Cluster size, may be unknown for live recordings.
+            MatroskaEbmlReader.readEbmlInteger(input, null);
+
+            int childId = input.readUnsignedByte();
+
+            if (childId == CRC32_ID) {
+                if (MatroskaEbmlReader.readEbmlInteger(input, null) != 4) {
+                    return false;
+                }
+
+                input.readInt();
+                childId = input.readUnsignedByte();
+            }
+
+            if (childId != TIMECODE_ID) {
+                return false;
+            }
+
+            long size = MatroskaEbmlReader.readEbmlInteger(input, null);
+
+            if (size < 1 || size > 8) {
+                return false;
+            }
+
+            probedTimecode = MatroskaEbmlReader.readFixedSizeEbmlInteger(input, (int) size, null);
+            return true;
+        } catch (IllegalStateException e) {
+            // Not a valid EBML code, so the ID match was just a coincidence in block data.
+            return false;
+        }
+    }
+}
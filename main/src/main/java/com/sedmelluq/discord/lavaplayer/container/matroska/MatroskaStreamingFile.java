@@ -1,6 +1,7 @@
 package com.sedmelluq.discord.lavaplayer.container.matroska;
 
 import com.sedmelluq.discord.lavaplayer.container.matroska.format.*;
+import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 
 import java.io.IOException;
@@ -32,6 +33,7 @@ public class MatroskaStreamingFile {
 
     private Long cueElementPosition = null;
     private List<MatroskaCuePoint> cuePoints = null;
+    private MatroskaClusterSeeker clusterSeeker = null;
 
     /**
      * @param inputStream The input stream for the file
@@ -110,6 +112,22 @@ public class MatroskaStreamingFile {
             throw new RuntimeException(String.format("Segment not the second element in the file: was %s (%d) instead",
                 segmentElement.getType().name(), segmentElement.getId()));
         }
+
+        if (cuePoints == null && cueElementPosition == null && firstClusterElement != null) {
+            clusterSeeker = createClusterSeeker();
+        }
+    }
+
+    private MatroskaClusterSeeker createClusterSeeker() {
+        long segmentEnd = segmentElement.getDataPosition() + segmentElement.getDataSize();
+        long contentLength = reader.getContentLength();
+        long endPosition = segmentEnd > firstClusterElement.getPosition() ? Math.min(segmentEnd, contentLength) : contentLength;
+
+        if (endPosition == Units.CONTENT_LENGTH_UNKNOWN) {
+            return null;
+        }
+
+        return new MatroskaClusterSeeker(reader, firstClusterElement.getPosition(), endPosition);
     }
 
     private void parseEbmlElement(MatroskaElement ebmlElement) throws IOException {
@@ -278,7 +296,13 @@ public class MatroskaStreamingFile {
             }
         }
 
-        // If there were no cues available, just seek to the beginning and discard until the right timecode
+        // Without cues, bisect the file for the nearest cluster and discard from there until the right timecode
+        if (clusterSeeker != null && reader.canSeekHard()) {
+            reader.seek(clusterSeeker.findClusterPosition(timecode));
+            return;
+        }
+
+        // If that is not possible either, just seek to the beginning and discard until the right timecode
         reader.seek(firstClusterElement.getPosition());
     }
 
@@ -335,6 +359,10 @@ public class MatroskaStreamingFile {
         while ((child = reader.readNextElement(clusterElement)) != null) {
             if (child.is(MatroskaElementType.Timecode)) {
                 clusterTimecode = reader.asLong(child);
+
+                if (clusterSeeker != null) {
+                    clusterSeeker.recordCluster(clusterTimecode, clusterElement.getPosition());
+                }
             } else if (child.is(MatroskaElementType.SimpleBlock)) {
                 parseClusterSimpleBlock(child, consumer, clusterTimecode);
             } else if (child.is(MatroskaElementType.BlockGroup)) {
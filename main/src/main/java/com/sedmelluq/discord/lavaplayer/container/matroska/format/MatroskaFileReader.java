@@ -216,6 +216,21 @@ public class MatroskaFileReader {
         inputStream.seek(position);
     }
 
+    /**
+     * @return Total length of the file, {@link com.sedmelluq.discord.lavaplayer.tools.Units#CONTENT_LENGTH_UNKNOWN} if not
+     * known.
+     */
+    public long getContentLength() {
+        return inputStream.getContentLength();
+    }
+
+    /**
+     * @return <code>true</code> if seeking backwards does not require reading the file again from the start.
+     */
+    public boolean canSeekHard() {
+        return inputStream.canSeekHard();
+    }
+
     public DataInput getDataInput() {
         return dataInput;
     }
@@ -7,8 +7,6 @@ import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor;
 
 import java.io.InputStream;
 
-import static com.sedmelluq.discord.lavaplayer.container.mpegts.MpegTsElementaryInputStream.ADTS_ELEMENTARY_STREAM;
-
 public class MpegAdtsAudioTrack extends DelegatedAudioTrack {
     private final InputStream inputStream;
 
@@ -23,8 +21,6 @@ public class MpegAdtsAudioTrack extends DelegatedAudioTrack {
 
     @Override
     public void process(LocalAudioTrackExecutor executor) throws Exception {
-        MpegTsElementaryInputStream elementaryInputStream = new MpegTsElementaryInputStream(inputStream, ADTS_ELEMENTARY_STREAM);
-        PesPacketInputStream pesPacketInputStream = new PesPacketInputStream(elementaryInputStream);
-        processDelegate(new AdtsAudioTrack(trackInfo, pesPacketInputStream), executor);
+        processDelegate(new AdtsAudioTrack(trackInfo, new MpegTsAdtsPacketSource(inputStream)), executor);
     }
 }
@@ -0,0 +1,186 @@
+package com.sedmelluq.discord.lavaplayer.container.mpegts;
+
+import com.sedmelluq.discord.lavaplayer.container.adts.AdtsPacketHeader;
+import com.sedmelluq.discord.lavaplayer.container.adts.AdtsPacketSource;
+import com.sedmelluq.discord.lavaplayer.container.adts.AdtsStreamReader;
+import com.sedmelluq.discord.lavaplayer.tools.io.BitBufferReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static com.sedmelluq.discord.lavaplayer.container.mpegts.MpegTsElementaryInputStream.ADTS_ELEMENTARY_STREAM;
+
+/**
+ * ADTS packet source for an MPEG-TS stream. Does the same as chaining {@link MpegTsElementaryInputStream},
+ * {@link PesPacketInputStream} and {@link com.sedmelluq.discord.lavaplayer.container.adts.AdtsStreamPacketSource}, but
+ * parses the PES and ADTS headers in place in the TS packet buffer and copies the packet payload straight from there
+ * into the direct buffer passed to the decoder, without intermediate streams or buffers.
+ */
+public class MpegTsAdtsPacketSource implements AdtsPacketSource {
+    private static final int HEADER_BASE_SIZE = 7;
+    // Frame length field is 13 bits
+    private static final int MAXIMUM_PACKET_SIZE = 8192;
+
+    private final MpegTsElementaryInputStream elementaryStream;
+    private final byte[] headerBytes;
+    private final BitBufferReader headerReader;
+    private final ByteBuffer headerBuffer;
+    private final ByteBuffer payloadBuffer;
+    private int pesBytesLeft;
+
+    /**
+     * @param inputStream Input stream of the MPEG-TS data.
+     */
+    public MpegTsAdtsPacketSource(InputStream inputStream) {
+        this(new MpegTsElementaryInputStream(inputStream, ADTS_ELEMENTARY_STREAM));
+    }
+
+    /**
+     * @param elementaryStream Elementary stream of ADTS type of an MPEG-TS stream.
+     */
+    public MpegTsAdtsPacketSource(MpegTsElementaryInputStream elementaryStream) {
+        this.elementaryStream = elementaryStream;
+        this.headerBytes = new byte[HEADER_BASE_SIZE];
+        this.headerBuffer = ByteBuffer.wrap(headerBytes);
+        this.headerReader = new BitBufferReader(headerBuffer);
+        this.payloadBuffer = ByteBuffer.allocateDirect(MAXIMUM_PACKET_SIZE);
+    }
+
+    @Override
+    public AdtsPacketHeader nextPacketHeader() throws IOException {
+        int headerLength = 0;
+        int nextByte;
+
+        while ((nextByte = readPayloadByte()) != -1) {
+            if (headerLength == HEADER_BASE_SIZE) {
+                System.arraycopy(headerBytes, 1, headerBytes, 0, HEADER_BASE_SIZE - 1);
+                headerLength--;
+            }
+
+            headerBytes[headerLength++] = (byte) nextByte;
+
+            if (headerLength == HEADER_BASE_SIZE && headerBytes[0] == (byte) 0xFF && (headerBytes[1] & 0xF6) == 0xF0) {
+                headerBuffer.clear();
+                headerReader.readRemainingBits();
+
+                AdtsPacketHeader header = AdtsStreamReader.readHeader(headerReader);
+
+                if (header != null) {
+                    return header.isProtectionAbsent || skipPayloadBytes(2) ? header : null;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public ByteBuffer readPayload(AdtsPacketHeader header) throws IOException {
+        payloadBuffer.clear();
+        payloadBuffer.limit(Math.max(header.payloadLength, 0));
+
+        while (payloadBuffer.hasRemaining()) {
+            ByteBuffer data = findPayloadData();
+
+            if (data == null) {
+                return null;
+            }
+
+            int chunk = Math.min(Math.min(payloadBuffer.remaining(), pesBytesLeft), data.remaining());
+            int dataLimit = data.limit();
+
+            data.limit(data.position() + chunk);
+            payloadBuffer.put(data);
+            data.limit(dataLimit);
+
+            pesBytesLeft -= chunk;
+        }
+
+        payloadBuffer.flip();
+        return payloadBuffer;
+    }
+
+    private boolean skipPayloadBytes(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            if (readPayloadByte() == -1) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int readPayloadByte() throws IOException {
+        ByteBuffer data = findPayloadData();
+
+        if (data == null) {
+            return -1;
+        }
+
+        pesBytesLeft--;
+        return data.get() & 0xFF;
+    }
+
+    private ByteBuffer findPayloadData() throws IOException {
+        while (pesBytesLeft <= 0) {
+            if (!findPesPacket()) {
+                return null;
+            }
+        }
+
+        return elementaryStream.getElementaryData();
+    }
+
+    private boolean findPesPacket() throws IOException {
+        int zeroes = 0;
+        int streamByte;
+
+        // Same as PesPacketInputStream, scan for the 00 00 01 start code prefix and skip the rest of the header.
+        while ((streamByte = readElementaryByte()) != -1) {
+            if (streamByte == 0) {
+                zeroes++;
+            } else if (streamByte == 1 && zeroes >= 2 && processPesHeader()) {
+                return true;
+            } else {
+                zeroes = 0;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean processPesHeader() throws IOException {
+        // Stream ID is not checked
+        if (readElementaryByte() == -1) {
+            return false;
+        }
+
+        int lengthHigh = readElementaryByte();
+        int lengthLow = readElementaryByte();
+
+        if (lengthLow == -1 || readElementaryByte() == -1 || readElementaryByte() == -1) {
+            return false;
+        }
+
+        int headerLength = readElementaryByte();
+
+        if (headerLength == -1) {
+            return false;
+        }
+
+        for (int i = 0; i < headerLength; i++) {
+            if (readElementaryByte() == -1) {
+                return false;
+            }
+        }
+
+        pesBytesLeft = (short) ((lengthHigh << 8) | lengthLow) - 3 - headerLength;
+        return pesBytesLeft > 0;
+    }
+
+    private int readElementaryByte() throws IOException {
+        ByteBuffer data = elementaryStream.getElementaryData();
+        return data != null ? data.get() & 0xFF : -1;
+    }
+}
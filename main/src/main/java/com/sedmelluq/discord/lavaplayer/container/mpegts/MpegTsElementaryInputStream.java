@@ -119,6 +119,28 @@ public class MpegTsElementaryInputStream extends InputStream {
         return chunk;
     }
 
+    /**
+     * Gives direct access to the elementary stream data in the current TS packet, reading the next packets as needed. The
+     * caller consumes data by advancing the position of the returned buffer, which is only valid until the next call to
+     * this stream.
+     *
+     * @return Buffer positioned at the unread elementary data of the current packet, <code>null</code> on EOF.
+     * @throws IOException On read error.
+     */
+    public ByteBuffer getElementaryData() throws IOException {
+        checkElementaryDataEnd();
+
+        while (findElementaryData()) {
+            if (packetBuffer.hasRemaining()) {
+                return packetBuffer;
+            }
+
+            elementaryDataInPacket = false;
+        }
+
+        return null;
+    }
+
     private boolean findElementaryData() throws IOException {
         if (!elementaryDataInPacket) {
             while (processPacket()) {
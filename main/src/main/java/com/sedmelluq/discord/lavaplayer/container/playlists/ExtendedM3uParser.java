@@ -13,7 +13,7 @@ import java.util.regex.Pattern;
  * #SOMETHING:FOO="thing",BAR=4
  */
 public class ExtendedM3uParser {
-    private static final Pattern directiveArgumentPattern = Pattern.compile("([A-Z-]+)=(?:\"([^\"]*)\"|([^,]*))(?:,|\\z)");
+    private static final Pattern directiveArgumentPattern = Pattern.compile("([A-Z0-9-]+)=(?:\"([^\"]*)\"|([^,]*))(?:,|\\z)");
 
     /**
      * Parses one line.
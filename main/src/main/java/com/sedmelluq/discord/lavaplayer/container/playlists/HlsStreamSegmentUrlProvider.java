@@ -11,7 +11,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
-import static com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools.fetchResponseLines;
+import static com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools.fetchPlaybackResponseLines;
 
 public class HlsStreamSegmentUrlProvider extends M3uStreamSegmentUrlProvider {
     private static final Logger log = LoggerFactory.getLogger(HlsStreamSegmentUrlProvider.class);
@@ -41,7 +41,7 @@ public class HlsStreamSegmentUrlProvider extends M3uStreamSegmentUrlProvider {
         }
 
         HttpUriRequest request = new HttpGet(streamListUrl);
-        String[] lines = fetchResponseLines(httpInterface, request, "HLS stream list");
+        String[] lines = fetchPlaybackResponseLines(httpInterface, request, "HLS stream list");
 
         if (isSegmentPlaylist(lines)) {
             return (segmentPlaylistUrl = streamListUrl);
@@ -1,5 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.container.playlists;
 
+import com.sedmelluq.discord.lavaplayer.source.stream.M3uStreamPlaylistRegistry;
 import com.sedmelluq.discord.lavaplayer.source.stream.M3uStreamSegmentUrlProvider;
 import com.sedmelluq.discord.lavaplayer.source.stream.MpegTsM3uStreamAudioTrack;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
@@ -12,17 +13,34 @@ public class HlsStreamTrack extends MpegTsM3uStreamAudioTrack {
 
     /**
      * @param trackInfo            Track info
-     * @param httpInterfaceManager
+     * @param streamUrl            URL of the master playlist, or of the media playlist if it is an inner URL
+     * @param httpInterfaceManager HTTP interface manager to use for fetching the playlists and segments of the stream
+     * @param isInnerUrl           Whether the URL points directly to the media playlist
      */
     public HlsStreamTrack(AudioTrackInfo trackInfo, String streamUrl, HttpInterfaceManager httpInterfaceManager,
                           boolean isInnerUrl) {
 
+        this(trackInfo, streamUrl, httpInterfaceManager, isInnerUrl, null);
+    }
+
+    /**
+     * @param trackInfo            Track info
+     * @param streamUrl            URL of the master playlist, or of the media playlist if it is an inner URL
+     * @param httpInterfaceManager HTTP interface manager to use for fetching the playlists and segments of the stream
+     * @param isInnerUrl           Whether the URL points directly to the media playlist
+     * @param playlistRegistry     Registry for sharing the polling of the segment playlist with other tracks, may be
+     *                             <code>null</code>.
+     */
+    public HlsStreamTrack(AudioTrackInfo trackInfo, String streamUrl, HttpInterfaceManager httpInterfaceManager,
+                          boolean isInnerUrl, M3uStreamPlaylistRegistry playlistRegistry) {
+
         super(trackInfo);
 
         segmentUrlProvider = isInnerUrl ?
             new HlsStreamSegmentUrlProvider(null, streamUrl) :
             new HlsStreamSegmentUrlProvider(streamUrl, null);
 
+        segmentUrlProvider.setPlaylistRegistry(playlistRegistry, httpInterfaceManager);
         this.httpInterfaceManager = httpInterfaceManager;
     }
 
@@ -5,6 +5,7 @@ import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerHints;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerProbe;
 import com.sedmelluq.discord.lavaplayer.source.http.HttpAudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.stream.M3uStreamPlaylistRegistry;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
@@ -110,10 +111,13 @@ public class M3uPlaylistContainerProbe implements MediaContainerProbe {
 
     @Override
     public AudioTrack createTrack(String parameters, AudioTrackInfo trackInfo, SeekableInputStream inputStream) {
+        // Held by the HTTP source manager which plays these tracks, and shut down along with it.
+        M3uStreamPlaylistRegistry playlistRegistry = M3uStreamPlaylistRegistry.getSharedIfAcquired();
+
         if (parameters.equals(TYPE_HLS_INNER)) {
-            return new HlsStreamTrack(trackInfo, trackInfo.identifier, httpInterfaceManager, true);
+            return new HlsStreamTrack(trackInfo, trackInfo.identifier, httpInterfaceManager, true, playlistRegistry);
         } else if (parameters.equals(TYPE_HLS_OUTER)) {
-            return new HlsStreamTrack(trackInfo, trackInfo.identifier, httpInterfaceManager, false);
+            return new HlsStreamTrack(trackInfo, trackInfo.identifier, httpInterfaceManager, false, playlistRegistry);
         } else {
             throw new IllegalArgumentException("Unsupported parameters: " + parameters);
         }
@@ -13,9 +13,13 @@ public class WavFileInfo {
      */
     public final int sampleRate;
     /**
-     * Bits per sample (currently only 16 supported).
+     * Bits per sample (8, 16, 24 or 32 for integer samples, 32 or 64 for floating point samples).
      */
     public final int bitsPerSample;
+    /**
+     * Whether the samples are IEEE floating point values instead of integers.
+     */
+    public final boolean floatingPoint;
     /**
      * Size of a block (one sample for each channel + padding).
      */
@@ -32,15 +36,31 @@ public class WavFileInfo {
     /**
      * @param channelCount  Number of channels.
      * @param sampleRate    Sample rate.
-     * @param bitsPerSample Bits per sample (currently only 16 supported).
+     * @param bitsPerSample Bits per sample (8, 16, 24 or 32).
      * @param blockAlign    Size of a block (one sample for each channel + padding).
      * @param blockCount    Number of blocks in the file.
      * @param startOffset   Starting position of the raw PCM samples in the file.
      */
     public WavFileInfo(int channelCount, int sampleRate, int bitsPerSample, int blockAlign, long blockCount, long startOffset) {
+        this(channelCount, sampleRate, bitsPerSample, false, blockAlign, blockCount, startOffset);
+    }
+
+    /**
+     * @param channelCount  Number of channels.
+     * @param sampleRate    Sample rate.
+     * @param bitsPerSample Bits per sample (8, 16, 24 or 32 for integer samples, 32 or 64 for floating point samples).
+     * @param floatingPoint Whether the samples are IEEE floating point values instead of integers.
+     * @param blockAlign    Size of a block (one sample for each channel + padding).
+     * @param blockCount    Number of blocks in the file.
+     * @param startOffset   Starting position of the raw PCM samples in the file.
+     */
+    public WavFileInfo(int channelCount, int sampleRate, int bitsPerSample, boolean floatingPoint, int blockAlign,
+                       long blockCount, long startOffset) {
+
         this.channelCount = channelCount;
         this.sampleRate = sampleRate;
         this.bitsPerSample = bitsPerSample;
+        this.floatingPoint = floatingPoint;
         this.blockAlign = blockAlign;
         this.blockCount = blockCount;
         this.startOffset = startOffset;
@@ -17,6 +17,7 @@ import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection
 public class WavFileLoader {
     static final int[] WAV_RIFF_HEADER = new int[] { 0x52, 0x49, 0x46, 0x46, -1, -1, -1, -1, 0x57, 0x41, 0x56, 0x45 };
     static final byte[] FORMAT_SUBTYPE_PCM = { 0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x10, 0x00, (byte) 0x80, 0x00, 0x00, (byte) 0xaa, 0x00, 0x38, (byte) 0x9b, 0x71 };
+    static final byte[] FORMAT_SUBTYPE_IEEE_FLOAT = { 0x03, 0x00, 0x00, 0x00, 0x00, 0x00, 0x10, 0x00, (byte) 0x80, 0x00, 0x00, (byte) 0xaa, 0x00, 0x38, (byte) 0x9b, 0x71 };
 
     private final SeekableInputStream inputStream;
 
@@ -121,19 +122,25 @@ public class WavFileLoader {
             validateFormat();
             validateAlignment();
 
-            return new WavFileInfo(channelCount, sampleRate, bitsPerSample, blockAlign, sampleAreaSize / blockAlign, startOffset);
+            return new WavFileInfo(channelCount, sampleRate, bitsPerSample, isFloatingPoint(), blockAlign,
+                sampleAreaSize / blockAlign, startOffset);
+        }
+
+        private boolean isFloatingPoint() {
+            return formatType == WaveFormatType.WAVE_FORMAT_IEEE_FLOAT || Arrays.equals(subFormat, FORMAT_SUBTYPE_IEEE_FLOAT);
         }
 
         private void validateFormat() {
             if (formatType == WaveFormatType.WAVE_FORMAT_UNKNOWN) {
-                throw new IllegalStateException("Invalid audio format " + audioFormat + ", must be 1 (PCM) or 65534 (WAVE_FORMAT_EXTENSIBLE)");
-            } else if (subFormat != null && !Arrays.equals(subFormat, FORMAT_SUBTYPE_PCM)) {
+                throw new IllegalStateException("Invalid audio format " + audioFormat + ", must be 1 (PCM), 3 (IEEE float) or 65534 (WAVE_FORMAT_EXTENSIBLE)");
+            } else if (subFormat != null && !Arrays.equals(subFormat, FORMAT_SUBTYPE_PCM) && !Arrays.equals(subFormat, FORMAT_SUBTYPE_IEEE_FLOAT)) {
                 throw new IllegalStateException("Invalid subformat " + Arrays.toString(subFormat));
             } else if (channelCount < 1 || channelCount > 16) {
                 throw new IllegalStateException("Invalid channel count: " + channelCount);
             } else if (sampleRate < 100 || sampleRate > 384000) {
                 throw new IllegalStateException("Invalid sample rate: " + sampleRate);
-            } else if (bitsPerSample != 16 && bitsPerSample != 24 && bitsPerSample != 32) {
+            } else if (isFloatingPoint() ? bitsPerSample != 32 && bitsPerSample != 64 :
+                bitsPerSample != 8 && bitsPerSample != 16 && bitsPerSample != 24 && bitsPerSample != 32) {
                 throw new IllegalStateException("Unsupported bits per sample: " + bitsPerSample);
             }
         }
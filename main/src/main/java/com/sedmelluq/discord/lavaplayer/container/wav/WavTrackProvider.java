@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.container.wav;
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipeline;
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipelineFactory;
 import com.sedmelluq.discord.lavaplayer.filter.PcmFormat;
+import com.sedmelluq.discord.lavaplayer.tools.io.ByteBufferReadable;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
 
@@ -20,9 +21,11 @@ public class WavTrackProvider {
     private static final int BLOCKS_IN_BUFFER = 4096;
 
     private final SeekableInputStream inputStream;
+    private final ByteBufferReadable bufferReadable;
     private final DataInput dataInput;
     private final WavFileInfo info;
     private final int bytesPerSample;
+    private final boolean directlyUsable;
     private final AudioPipeline downstream;
 
     private final short[] buffer;
@@ -36,11 +39,13 @@ public class WavTrackProvider {
      */
     public WavTrackProvider(AudioProcessingContext context, SeekableInputStream inputStream, WavFileInfo info) {
         this.inputStream = inputStream;
+        this.bufferReadable = inputStream instanceof ByteBufferReadable ? (ByteBufferReadable) inputStream : null;
         this.dataInput = new DataInputStream(inputStream);
         this.info = info;
         this.bytesPerSample = info.bitsPerSample >> 3;
+        this.directlyUsable = !info.floatingPoint && info.bitsPerSample == 16 && info.getPadding() == 0;
         this.downstream = AudioPipelineFactory.create(context, new PcmFormat(info.channelCount, info.sampleRate));
-        this.buffer = info.getPadding() > 0 ? new short[info.channelCount * BLOCKS_IN_BUFFER] : null;
+        this.buffer = directlyUsable ? null : new short[info.channelCount * BLOCKS_IN_BUFFER];
 
         this.byteBuffer = ByteBuffer.allocate(info.blockAlign * BLOCKS_IN_BUFFER).order(LITTLE_ENDIAN);
         this.rawBuffer = byteBuffer.array();
@@ -71,11 +76,7 @@ public class WavTrackProvider {
             int blockCount;
 
             while ((blockCount = getNextChunkBlocks()) > 0) {
-                if (buffer != null) {
-                    processChunkWithPadding(blockCount);
-                } else {
-                    processChunk(blockCount);
-                }
+                processChunk(blockCount);
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -89,51 +90,118 @@ public class WavTrackProvider {
         downstream.close();
     }
 
-    private void processChunkWithPadding(int blockCount) throws IOException, InterruptedException {
-        if (info.bitsPerSample != 16) {
-            throw new IllegalStateException("Cannot process " + info.bitsPerSample + "-bit PCM with padding!");
-        }
+    private void processChunk(int blockCount) throws IOException, InterruptedException {
+        ByteBuffer chunk = readChunk(blockCount);
 
-        readChunkToBuffer(blockCount);
+        if (directlyUsable) {
+            // Already 16-bit samples without padding, the pipeline can consume the read buffer as is.
+            downstream.process(chunk.asShortBuffer());
+            return;
+        }
 
-        int padding = info.getPadding() / 2;
         int sampleCount = blockCount * info.channelCount;
-        int indexInBlock = 0;
 
-        for (int i = 0; i < sampleCount; i++) {
-            buffer[i] = byteBuffer.getShort();
+        if (info.floatingPoint) {
+            if (info.bitsPerSample == 32) {
+                convertFloatSamples(chunk, blockCount);
+            } else {
+                convertDoubleSamples(chunk, blockCount);
+            }
+        } else if (info.bitsPerSample == 8) {
+            convert8BitSamples(chunk, blockCount);
+        } else {
+            // For 16, 24 and 32-bit samples, the two most significant bytes are the last two bytes of the sample.
+            convertIntegerSamples(chunk, blockCount);
+        }
+
+        downstream.process(buffer, 0, sampleCount);
+    }
 
-            if (++indexInBlock == info.channelCount) {
-                byteBuffer.position(byteBuffer.position() + padding);
-                indexInBlock = 0;
+    private void convert8BitSamples(ByteBuffer chunk, int blockCount) {
+        int channelCount = info.channelCount;
+        int blockAlign = info.blockAlign;
+        int index = 0;
+
+        for (int block = 0; block < blockCount; block++) {
+            int offset = chunk.position() + block * blockAlign;
+
+            for (int channel = 0; channel < channelCount; channel++) {
+                buffer[index++] = (short) (((chunk.get(offset + channel) & 0xFF) - 128) << 8);
             }
         }
+    }
 
-        downstream.process(buffer, 0, blockCount * info.channelCount);
+    private void convertIntegerSamples(ByteBuffer chunk, int blockCount) {
+        int channelCount = info.channelCount;
+        int blockAlign = info.blockAlign;
+        int sampleSize = bytesPerSample;
+        int index = 0;
+
+        for (int block = 0; block < blockCount; block++) {
+            int offset = chunk.position() + block * blockAlign + sampleSize - 2;
+
+            for (int channel = 0; channel < channelCount; channel++) {
+                buffer[index++] = chunk.getShort(offset + channel * sampleSize);
+            }
+        }
     }
 
-    private void processChunk(int blockCount) throws IOException, InterruptedException {
-        int sampleCount = readChunkToBuffer(blockCount);
+    private void convertFloatSamples(ByteBuffer chunk, int blockCount) {
+        int channelCount = info.channelCount;
+        int blockAlign = info.blockAlign;
+        int index = 0;
+
+        for (int block = 0; block < blockCount; block++) {
+            int offset = chunk.position() + block * blockAlign;
 
-        if (info.bitsPerSample != 16) {
-            for (int i = 0; i < sampleCount; i++) {
-                byteBuffer.putShort(i * 2, byteBuffer.getShort((i * bytesPerSample) + bytesPerSample - 2));
+            for (int channel = 0; channel < channelCount; channel++) {
+                buffer[index++] = floatToShort(chunk.getFloat(offset + channel * 4));
             }
+        }
+    }
+
+    private void convertDoubleSamples(ByteBuffer chunk, int blockCount) {
+        int channelCount = info.channelCount;
+        int blockAlign = info.blockAlign;
+        int index = 0;
 
-            byteBuffer.limit(sampleCount * 2);
+        for (int block = 0; block < blockCount; block++) {
+            int offset = chunk.position() + block * blockAlign;
+
+            for (int channel = 0; channel < channelCount; channel++) {
+                buffer[index++] = floatToShort((float) chunk.getDouble(offset + channel * 8));
+            }
         }
+    }
 
-        downstream.process(byteBuffer.asShortBuffer());
+    private static short floatToShort(float sample) {
+        return (short) Math.min(Math.max((int) (sample * 32768.f), -32768), 32767);
     }
 
-    private int readChunkToBuffer(int blockCount) throws IOException {
+    private ByteBuffer readChunk(int blockCount) throws IOException {
         int bytesToRead = blockCount * info.blockAlign;
-        dataInput.readFully(rawBuffer, 0, bytesToRead);
+
+        if (bufferReadable != null) {
+            ByteBuffer view = bufferReadable.readBufferView(bytesToRead);
+
+            if (view != null && view.remaining() == bytesToRead) {
+                return view.order(LITTLE_ENDIAN);
+            } else if (view != null) {
+                // The view ended before the chunk did, copy it and read the rest normally.
+                int viewLength = view.remaining();
+                view.get(rawBuffer, 0, viewLength);
+                dataInput.readFully(rawBuffer, viewLength, bytesToRead - viewLength);
+            } else {
+                dataInput.readFully(rawBuffer, 0, bytesToRead);
+            }
+        } else {
+            dataInput.readFully(rawBuffer, 0, bytesToRead);
+        }
 
         byteBuffer.position(0);
         byteBuffer.limit(bytesToRead);
 
-        return bytesToRead / bytesPerSample;
+        return byteBuffer;
     }
 
     private int getNextChunkBlocks() {
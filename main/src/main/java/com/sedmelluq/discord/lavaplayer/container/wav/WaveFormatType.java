@@ -6,6 +6,7 @@ public enum WaveFormatType {
     // https://www.mmsp.ece.mcgill.ca/Documents/AudioFormats/WAVE/Docs/Pages%20from%20mmreg.h.pdf
     WAVE_FORMAT_UNKNOWN(0x0000),
     WAVE_FORMAT_PCM(0x0001),
+    WAVE_FORMAT_IEEE_FLOAT(0x0003),
     WAVE_FORMAT_EXTENSIBLE(0xFFFE);
 
     final int code;
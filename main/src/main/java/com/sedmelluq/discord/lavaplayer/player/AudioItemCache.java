@@ -0,0 +1,20 @@
+package com.sedmelluq.discord.lavaplayer.player;
+
+/**
+ * Cache for the results of item loads. Items are stored in their encoded form, the audio player manager decodes a fresh
+ * copy of the tracks for every hit.
+ */
+public interface AudioItemCache {
+    /**
+     * @param identifier Identifier of the load.
+     * @return The encoded item previously stored for the identifier, or null if there is none or it has expired.
+     */
+    byte[] get(String identifier);
+
+    /**
+     * @param identifier  Identifier of the load.
+     * @param sourceName  Name of the source manager which loaded the item.
+     * @param encodedItem The encoded item.
+     */
+    void put(String identifier, String sourceName, byte[] encodedItem);
+}
@@ -1,6 +1,8 @@
 package com.sedmelluq.discord.lavaplayer.player;
 
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.RoutableAudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.tools.http.SourceCircuitBreaker;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageInput;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageOutput;
 import com.sedmelluq.discord.lavaplayer.track.AudioItem;
@@ -13,6 +15,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -137,6 +140,43 @@ public interface AudioPlayerManager {
     @Nullable
     AudioItem loadItemSync(final AudioReference reference);
 
+    /**
+     * Loads a track or playlist with the specified identifier asynchronously.
+     *
+     * @param identifier The identifier that a specific source manager should be able to find the track with.
+     * @return A future of the loaded {@link AudioItem}, completed with `null` if nothing was found or exceptionally with
+     * a {@link com.sedmelluq.discord.lavaplayer.tools.FriendlyException} if loading failed.
+     * @see #loadItemAsync(AudioReference)
+     */
+    default CompletableFuture<AudioItem> loadItemAsync(final String identifier) {
+        return loadItemAsync(new AudioReference(identifier, null));
+    }
+
+    /**
+     * Loads a track or playlist with the specified identifier asynchronously. This is the same load as with
+     * {@link #loadItem(AudioReference, AudioLoadResultHandler)}, with the result delivered as a future instead. Source
+     * managers which implement {@link com.sedmelluq.discord.lavaplayer.source.AsyncAudioSourceManager} do not occupy an
+     * item loader thread while they wait for their requests.
+     *
+     * @param reference The audio reference that holds the identifier that a specific source manager
+     *                  should be able to find the track with.
+     * @return A future of the loaded {@link AudioItem}, completed with `null` if nothing was found or exceptionally with
+     * a {@link com.sedmelluq.discord.lavaplayer.tools.FriendlyException} if loading failed.
+     * @see #loadItemAsync(String)
+     */
+    default CompletableFuture<AudioItem> loadItemAsync(final AudioReference reference) {
+        CompletableFuture<AudioItem> result = new CompletableFuture<>();
+
+        loadItem(reference, new FunctionalResultHandler(
+            result::complete,
+            result::complete,
+            () -> result.complete(null),
+            result::completeExceptionally
+        ));
+
+        return result;
+    }
+
     /**
      * Schedules loading a track or playlist with the specified identifier with an ordering key so that items with the
      * same ordering key are handled sequentially in the order of calls to this method.
@@ -238,6 +278,86 @@ public interface AudioPlayerManager {
      */
     void setItemLoaderThreadPoolSize(int poolSize);
 
+    /**
+     * Sets the maximum number of asynchronous source loads which may wait for their requests at the same time, see
+     * {@link #loadItemAsync(AudioReference)}. Loads over the limit are performed synchronously on the item loader threads.
+     *
+     * @param maxInFlight Maximum number of concurrent asynchronous source loads.
+     * @throws UnsupportedOperationException If the implementation does not support this.
+     */
+    default void setItemLoadMaxInFlight(int maxInFlight) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets whether concurrent loads of the same identifier share a single resolution. Each caller still receives its own
+     * track instances. Enabled by default.
+     *
+     * @param enabled True to share the resolution between concurrent loads of the same identifier.
+     * @throws UnsupportedOperationException If the implementation does not support this.
+     */
+    default void setItemLoadCoalescingEnabled(boolean enabled) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets how long a successful load result is reused for subsequent loads of the same identifier. Only applies when
+     * load coalescing is enabled.
+     *
+     * @param resultTtl Time in milliseconds to reuse a load result for, 0 to only share it between concurrent loads.
+     * @throws UnsupportedOperationException If the implementation does not support this.
+     */
+    default void setItemLoadResultTtl(long resultTtl) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the cache which the results of item loads are stored in and looked up from before asking the source managers.
+     * Only results of which all tracks are encodable are cached.
+     *
+     * @param itemCache Cache to use, null to disable caching, which is the default.
+     * @throws UnsupportedOperationException If the implementation does not support this.
+     */
+    default void setItemCache(AudioItemCache itemCache) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sets the circuit breaker which the HTTP requests of a source go through, so that a failing source fails its loads
+     * immediately instead of tying up loader threads in timeouts and retries. Setting this while the source is already in
+     * use will close its active connections.
+     *
+     * @param sourceManager  Source manager which performs HTTP requests.
+     * @param circuitBreaker Circuit breaker to use for the source, null to remove it.
+     * @throws UnsupportedOperationException If the implementation does not support this.
+     */
+    default void setSourceCircuitBreaker(AudioSourceManager sourceManager, SourceCircuitBreaker circuitBreaker) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @param sourceManager Source manager.
+     * @return The circuit breaker of the source, null if it has none.
+     */
+    default SourceCircuitBreaker getSourceCircuitBreaker(AudioSourceManager sourceManager) {
+        return null;
+    }
+
+    /**
+     * Limits the number of item loads of a source which can run at the same time, so that a slow source cannot take up
+     * all the loader threads and delay the loads of other sources. Loads over the limit wait for their turn without
+     * occupying a thread. Only applies to sources which implement {@link RoutableAudioSourceManager}, as the source of a
+     * load must be known before it is started. A load is only limited if no source registered before this one could
+     * claim it, so sources which do not implement it should be registered after the limited ones.
+     *
+     * @param sourceManager Source manager which implements {@link RoutableAudioSourceManager}.
+     * @param concurrency   Maximum number of concurrent loads, zero to remove the limit.
+     * @throws UnsupportedOperationException If the implementation does not support this.
+     */
+    default void setSourceLoadConcurrency(AudioSourceManager sourceManager, int concurrency) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * @return New audio player.
      */
@@ -0,0 +1,106 @@
+package com.sedmelluq.discord.lavaplayer.player;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory item cache with a time to live for its entries, which can be configured separately for each source, and a
+ * limit on the total size of the encoded items. The least recently used entries are evicted when the limit is exceeded.
+ */
+public class DefaultAudioItemCache implements AudioItemCache {
+    private final long maximumSize;
+    private final long defaultTtl;
+    private final Map<String, Long> sourceTtls;
+    private final LinkedHashMap<String, Entry> entries;
+    private long totalSize;
+
+    /**
+     * @param maximumSize Maximum total size of the cached encoded items in bytes.
+     * @param defaultTtl  Time in milliseconds to keep items for, unless configured differently for their source.
+     */
+    public DefaultAudioItemCache(long maximumSize, long defaultTtl) {
+        this.maximumSize = maximumSize;
+        this.defaultTtl = defaultTtl;
+        this.sourceTtls = new ConcurrentHashMap<>();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * @param sourceName Name of the source manager.
+     * @param ttl        Time in milliseconds to keep items loaded by this source for, 0 to not cache them at all.
+     */
+    public void setSourceTtl(String sourceName, long ttl) {
+        sourceTtls.put(sourceName, ttl);
+    }
+
+    /**
+     * @return Total size of the cached encoded items in bytes.
+     */
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    /**
+     * @return Number of cached items.
+     */
+    public synchronized int getItemCount() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized byte[] get(String identifier) {
+        Entry entry = entries.get(identifier);
+
+        if (entry == null) {
+            return null;
+        } else if (entry.expiresAt <= System.currentTimeMillis()) {
+            remove(identifier);
+            return null;
+        }
+
+        return entry.encodedItem;
+    }
+
+    @Override
+    public void put(String identifier, String sourceName, byte[] encodedItem) {
+        long ttl = sourceTtls.getOrDefault(sourceName, defaultTtl);
+
+        if (ttl <= 0 || encodedItem.length > maximumSize) {
+            return;
+        }
+
+        synchronized (this) {
+            remove(identifier);
+
+            entries.put(identifier, new Entry(encodedItem, System.currentTimeMillis() + ttl));
+            totalSize += encodedItem.length;
+
+            Iterator<Entry> iterator = entries.values().iterator();
+
+            while (totalSize > maximumSize && iterator.hasNext()) {
+                totalSize -= iterator.next().encodedItem.length;
+                iterator.remove();
+            }
+        }
+    }
+
+    private void remove(String identifier) {
+        Entry entry = entries.remove(identifier);
+
+        if (entry != null) {
+            totalSize -= entry.encodedItem.length;
+        }
+    }
+
+    private static class Entry {
+        private final byte[] encodedItem;
+        private final long expiresAt;
+
+        private Entry(byte[] encodedItem, long expiresAt) {
+            this.encodedItem = encodedItem;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.sedmelluq.discord.lavaplayer.player;
 
+import com.sedmelluq.discord.lavaplayer.source.AsyncAudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.source.ProbingAudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.RoutableAudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.*;
+import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpClientBuilder;
+import com.sedmelluq.discord.lavaplayer.tools.http.SourceCircuitBreaker;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageInput;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageOutput;
@@ -23,6 +27,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -43,6 +48,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     private static final int MAXIMUM_LOAD_REDIRECTS = 5;
     private static final int DEFAULT_LOADER_POOL_SIZE = 10;
     private static final int LOADER_QUEUE_CAPACITY = 5000;
+    private static final int DEFAULT_MAX_IN_FLIGHT_LOADS = 100;
 
     private static final Logger log = LoggerFactory.getLogger(DefaultAudioPlayerManager.class);
 
@@ -55,6 +61,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     private final ThreadPoolExecutor trackInfoExecutorService;
     private final ScheduledExecutorService scheduledExecutorService;
     private final OrderedExecutor orderedInfoExecutor;
+    private final ItemLoadCoalescer itemLoadCoalescer;
 
     // Configuration
     private volatile long trackStuckThreshold;
@@ -62,6 +69,11 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     private final AtomicLong cleanupThreshold;
     private volatile int frameBufferDuration;
     private volatile boolean useSeekGhosting;
+    private volatile AudioItemCache itemCache;
+    private final ConcurrentMap<AudioSourceManager, SourceCircuitBreaker> circuitBreakers;
+    private final ConcurrentMap<AudioSourceManager, BulkheadExecutor> loadBulkheads;
+    private final AtomicInteger inFlightLoads;
+    private volatile int maxInFlightLoads;
 
     // Additional services
     private final GarbageCollectionMonitor garbageCollectionMonitor;
@@ -81,6 +93,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
             TimeUnit.SECONDS.toMillis(30), LOADER_QUEUE_CAPACITY, new DaemonThreadFactory("info-loader"));
         scheduledExecutorService = Executors.newScheduledThreadPool(1, new DaemonThreadFactory("manager"));
         orderedInfoExecutor = new OrderedExecutor(trackInfoExecutorService);
+        itemLoadCoalescer = new ItemLoadCoalescer(scheduledExecutorService);
 
         // Configuration
         trackStuckThreshold = TimeUnit.MILLISECONDS.toNanos(10000);
@@ -88,6 +101,10 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
         cleanupThreshold = new AtomicLong(DEFAULT_CLEANUP_THRESHOLD);
         frameBufferDuration = DEFAULT_FRAME_BUFFER_DURATION;
         useSeekGhosting = true;
+        circuitBreakers = new ConcurrentHashMap<>();
+        loadBulkheads = new ConcurrentHashMap<>();
+        inFlightLoads = new AtomicInteger();
+        maxInFlightLoads = DEFAULT_MAX_IN_FLIGHT_LOADS;
 
         // Additional services
         garbageCollectionMonitor = new GarbageCollectionMonitor(scheduledExecutorService);
@@ -151,7 +168,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
 
     @Override
     public @Nullable AudioItem loadItemSync(AudioReference reference) {
-        AudioItem item = checkSourcesForItem(reference);
+        AudioItem item = itemLoadCoalescer.load(reference, () -> loadItemThroughCache(reference));
         if (item == null) {
             log.debug("No matches for track with identifier {}.", reference.identifier);
         }
@@ -179,11 +196,11 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
 
     @Override
     public Future<Void> loadItem(final AudioReference reference, final AudioLoadResultHandler resultHandler) {
+        LoadTask task = new LoadTask(reference, resultHandler);
+
         try {
-            return trackInfoExecutorService.submit(() -> {
-                loadItemSync(reference, resultHandler);
-                return null;
-            });
+            getLoadExecutor(reference).execute(task);
+            return task;
         } catch (RejectedExecutionException e) {
             return handleLoadRejected(reference.identifier, resultHandler, e);
         }
@@ -192,15 +209,213 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     @Override
     public Future<Void> loadItemOrdered(Object orderingKey, final AudioReference reference, final AudioLoadResultHandler resultHandler) {
         try {
-            return orderedInfoExecutor.submit(orderingKey, () -> {
+            return orderedInfoExecutor.submit(orderingKey, getLoadExecutor(reference), () -> {
                 loadItemSync(reference, resultHandler);
                 return null;
-            });
+            }, e -> handleLoadRejected(reference.identifier, resultHandler, e));
         } catch (RejectedExecutionException e) {
             return handleLoadRejected(reference.identifier, resultHandler, e);
         }
     }
 
+    @Override
+    public CompletableFuture<AudioItem> loadItemAsync(final AudioReference reference) {
+        Executor executor = getLoadExecutor(reference);
+        CompletableFuture<AudioItem> result = new CompletableFuture<>();
+        CompletableFuture<AudioItem> item;
+
+        try {
+            item = itemLoadCoalescer.loadAsync(reference, () -> loadItemThroughCacheAsync(reference, executor));
+        } catch (Throwable throwable) {
+            item = CompletableFuture.failedFuture(throwable);
+        }
+
+        item.whenComplete((loadedItem, throwable) -> {
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+
+            if (cause instanceof RejectedExecutionException) {
+                FriendlyException exception = new FriendlyException("Cannot queue loading a track, queue is full.", SUSPICIOUS, cause);
+                ExceptionTools.log(log, exception, "queueing item " + reference.identifier);
+
+                result.completeExceptionally(exception);
+            } else if (cause != null) {
+                FriendlyException exception = ExceptionTools.wrapUnfriendlyExceptions("Something went wrong when looking up the track", FAULT, cause);
+                ExceptionTools.log(log, exception, "loading item " + reference.identifier);
+
+                result.completeExceptionally(exception);
+            } else {
+                if (loadedItem == null) {
+                    log.debug("No matches for track with identifier {}.", reference.identifier);
+                }
+
+                result.complete(loadedItem);
+            }
+        });
+
+        return result;
+    }
+
+    private CompletableFuture<AudioItem> loadItemThroughCacheAsync(AudioReference reference, Executor executor) {
+        if (itemCache == null) {
+            return checkSourcesForItemAsync(reference, 0, executor);
+        }
+
+        // The cache may block, so it is only accessed from the loader threads.
+        return CompletableFuture.supplyAsync(() -> getCachedItem(reference), executor).thenCompose(cachedItem -> {
+            if (cachedItem != null) {
+                return CompletableFuture.completedFuture(cachedItem);
+            }
+
+            return checkSourcesForItemAsync(reference, 0, executor).thenApplyAsync(item -> {
+                storeCachedItem(reference, item);
+                return item;
+            }, executor);
+        });
+    }
+
+    private AudioItem loadItemThroughCache(AudioReference reference) {
+        AudioItem item = getCachedItem(reference);
+
+        if (item == null) {
+            item = checkSourcesForItem(reference);
+            storeCachedItem(reference, item);
+        }
+
+        return item;
+    }
+
+    private AudioItem getCachedItem(AudioReference reference) {
+        AudioItemCache cache = itemCache;
+
+        if (cache == null || reference.identifier == null || reference.containerDescriptor != null) {
+            return null;
+        }
+
+        byte[] encodedItem = cache.get(reference.identifier.trim());
+
+        if (encodedItem == null) {
+            return null;
+        }
+
+        try {
+            AudioItem item = decodeItem(encodedItem);
+
+            if (item != null) {
+                log.debug("Loaded item with identifier {} from cache.", reference.identifier);
+            }
+
+            return item;
+        } catch (IOException e) {
+            log.warn("Failed to decode cached item for identifier {}.", reference.identifier, e);
+            return null;
+        }
+    }
+
+    private void storeCachedItem(AudioReference reference, AudioItem item) {
+        AudioItemCache cache = itemCache;
+
+        if (cache == null || reference.identifier == null || reference.containerDescriptor != null) {
+            return;
+        }
+
+        List<AudioTrack> tracks;
+
+        if (item instanceof AudioTrack) {
+            tracks = Collections.singletonList((AudioTrack) item);
+        } else if (item instanceof AudioPlaylist) {
+            tracks = ((AudioPlaylist) item).getTracks();
+        } else {
+            return;
+        }
+
+        for (AudioTrack track : tracks) {
+            if (track.getSourceManager() == null || !track.getSourceManager().isTrackEncodable(track)) {
+                return;
+            }
+        }
+
+        if (tracks.isEmpty()) {
+            return;
+        }
+
+        try {
+            cache.put(reference.identifier.trim(), tracks.get(0).getSourceManager().getSourceName(), encodeItem(item, tracks));
+        } catch (IOException e) {
+            log.warn("Failed to encode item with identifier {} for caching.", reference.identifier, e);
+        }
+    }
+
+    private byte[] encodeItem(AudioItem item, List<AudioTrack> tracks) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+
+        if (item instanceof AudioPlaylist) {
+            AudioPlaylist playlist = (AudioPlaylist) item;
+
+            output.writeBoolean(true);
+            DataFormatTools.writeNullableText(output, playlist.getName());
+            output.writeBoolean(playlist.isSearchResult());
+            output.writeInt(tracks.indexOf(playlist.getSelectedTrack()));
+        } else {
+            output.writeBoolean(false);
+        }
+
+        MessageOutput messageOutput = new MessageOutput(output);
+
+        for (AudioTrack track : tracks) {
+            encodeTrack(messageOutput, track);
+        }
+
+        messageOutput.finish();
+        return bytes.toByteArray();
+    }
+
+    private AudioItem decodeItem(byte[] encodedItem) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(encodedItem));
+        boolean isPlaylist = input.readBoolean();
+        String playlistName = isPlaylist ? DataFormatTools.readNullableText(input) : null;
+        boolean isSearchResult = isPlaylist && input.readBoolean();
+        int selectedIndex = isPlaylist ? input.readInt() : -1;
+
+        MessageInput messageInput = new MessageInput(input);
+        List<AudioTrack> tracks = new ArrayList<>();
+        DecodedTrackHolder holder;
+
+        while ((holder = decodeTrack(messageInput)) != null) {
+            if (holder.decodedTrack == null) {
+                return null;
+            }
+
+            tracks.add(holder.decodedTrack);
+        }
+
+        if (!isPlaylist) {
+            return tracks.isEmpty() ? null : tracks.get(0);
+        }
+
+        AudioTrack selectedTrack = selectedIndex >= 0 && selectedIndex < tracks.size() ? tracks.get(selectedIndex) : null;
+        return new BasicAudioPlaylist(playlistName, tracks, selectedTrack, isSearchResult);
+    }
+
+    private Executor getLoadExecutor(AudioReference reference) {
+        if (loadBulkheads.isEmpty() || reference.identifier == null || reference.containerDescriptor != null) {
+            return trackInfoExecutorService;
+        }
+
+        // Sources are tried in registration order, so the first one which may claim the reference decides. One which
+        // cannot tell in advance is assumed to claim it.
+        for (AudioSourceManager sourceManager : sourceManagers) {
+            if (!(sourceManager instanceof RoutableAudioSourceManager)) {
+                return trackInfoExecutorService;
+            } else if (((RoutableAudioSourceManager) sourceManager).canRoute(reference)) {
+                BulkheadExecutor bulkhead = loadBulkheads.get(sourceManager);
+                return bulkhead != null ? bulkhead : trackInfoExecutorService;
+            }
+        }
+
+        return trackInfoExecutorService;
+    }
+
     private Future<Void> handleLoadRejected(String identifier, AudioLoadResultHandler resultHandler, RejectedExecutionException e) {
         FriendlyException exception = new FriendlyException("Cannot queue loading a track, queue is full.", SUSPICIOUS, e);
         ExceptionTools.log(log, exception, "queueing item " + identifier);
@@ -396,6 +611,70 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
         trackInfoExecutorService.setMaximumPoolSize(poolSize);
     }
 
+    @Override
+    public void setItemLoadMaxInFlight(int maxInFlight) {
+        this.maxInFlightLoads = Math.max(0, maxInFlight);
+    }
+
+    @Override
+    public void setItemLoadCoalescingEnabled(boolean enabled) {
+        itemLoadCoalescer.setEnabled(enabled);
+    }
+
+    @Override
+    public void setItemLoadResultTtl(long resultTtl) {
+        itemLoadCoalescer.setResultTtl(resultTtl);
+    }
+
+    @Override
+    public void setItemCache(AudioItemCache itemCache) {
+        this.itemCache = itemCache;
+    }
+
+    @Override
+    public void setSourceCircuitBreaker(AudioSourceManager sourceManager, SourceCircuitBreaker circuitBreaker) {
+        if (!(sourceManager instanceof HttpConfigurable)) {
+            throw new IllegalArgumentException("Source manager " + sourceManager.getSourceName() + " does not perform HTTP requests.");
+        }
+
+        if (circuitBreaker != null) {
+            circuitBreakers.put(sourceManager, circuitBreaker);
+        } else {
+            circuitBreakers.remove(sourceManager);
+        }
+
+        ((HttpConfigurable) sourceManager).configureBuilder(builder -> {
+            if (builder instanceof ExtendedHttpClientBuilder) {
+                ((ExtendedHttpClientBuilder) builder).setCircuitBreaker(circuitBreaker);
+            }
+        });
+    }
+
+    @Override
+    public SourceCircuitBreaker getSourceCircuitBreaker(AudioSourceManager sourceManager) {
+        return circuitBreakers.get(sourceManager);
+    }
+
+    @Override
+    public void setSourceLoadConcurrency(AudioSourceManager sourceManager, int concurrency) {
+        if (!(sourceManager instanceof RoutableAudioSourceManager)) {
+            throw new IllegalArgumentException("Source manager " + sourceManager.getSourceName() + " cannot route loads.");
+        }
+
+        if (concurrency <= 0) {
+            loadBulkheads.remove(sourceManager);
+        } else {
+            loadBulkheads.compute(sourceManager, (key, bulkhead) -> {
+                if (bulkhead == null) {
+                    return new BulkheadExecutor(trackInfoExecutorService, concurrency, LOADER_QUEUE_CAPACITY);
+                }
+
+                bulkhead.setConcurrency(concurrency);
+                return bulkhead;
+            });
+        }
+    }
+
     private void submitItemToResultHandler(AudioItem item, AudioLoadResultHandler handler, boolean[] reported) {
         if (item == null) {
             reported[0] = true;
@@ -441,12 +720,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
 
             AudioItem item = sourceManager.loadItem(this, reference);
             if (item != null) {
-                if (item instanceof AudioTrack) {
-                    log.debug("Loaded a track with identifier {} using {}.", reference.identifier, sourceManager.getClass().getSimpleName());
-                } else if (item instanceof AudioPlaylist) {
-                    log.debug("Loaded a playlist with identifier {} using {}.", reference.identifier, sourceManager.getClass().getSimpleName());
-                }
-
+                logLoadedItem(reference, item, sourceManager);
                 return item;
             }
         }
@@ -454,6 +728,94 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
         return null;
     }
 
+    /**
+     * Asynchronous version of {@link #checkSourcesForItem}. Source managers which cannot load asynchronously are called
+     * on the given executor.
+     */
+    private CompletableFuture<AudioItem> checkSourcesForItemAsync(AudioReference reference, int redirects, Executor executor) {
+        if (redirects >= MAXIMUM_LOAD_REDIRECTS || reference.identifier == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return checkSourcesForItemOnceAsync(reference, 0, executor).thenCompose(item -> {
+            if (item instanceof AudioReference) {
+                return checkSourcesForItemAsync((AudioReference) item, redirects + 1, executor);
+            }
+
+            return CompletableFuture.completedFuture(item);
+        });
+    }
+
+    private CompletableFuture<AudioItem> checkSourcesForItemOnceAsync(AudioReference reference, int firstSourceIndex,
+                                                                      Executor executor) {
+
+        return CompletableFuture.supplyAsync(() -> checkSourcesUntilAsync(reference, firstSourceIndex, executor), executor)
+            .thenCompose(Function.identity());
+    }
+
+    /**
+     * Checks the source managers one by one on the current thread, until one loads the item or one which can load
+     * asynchronously is reached. The latter is started if the limit of in-flight loads allows it, and the remaining
+     * source managers are checked on a loader thread again once it completes without a result.
+     */
+    private CompletableFuture<AudioItem> checkSourcesUntilAsync(AudioReference reference, int firstSourceIndex,
+                                                                Executor executor) {
+
+        for (int i = firstSourceIndex; i < sourceManagers.size(); i++) {
+            AudioSourceManager sourceManager = sourceManagers.get(i);
+
+            if (reference.containerDescriptor != null && !(sourceManager instanceof ProbingAudioSourceManager)) {
+                continue;
+            }
+
+            if (sourceManager instanceof AsyncAudioSourceManager && acquireInFlightLoad()) {
+                int nextSourceIndex = i + 1;
+                CompletableFuture<AudioItem> load;
+
+                try {
+                    load = ((AsyncAudioSourceManager) sourceManager).loadItemAsync(this, reference, executor);
+                } catch (Throwable throwable) {
+                    load = CompletableFuture.failedFuture(throwable);
+                }
+
+                return load.whenComplete((item, throwable) -> inFlightLoads.decrementAndGet()).thenCompose(item -> {
+                    if (item != null) {
+                        logLoadedItem(reference, item, sourceManager);
+                        return CompletableFuture.completedFuture(item);
+                    }
+
+                    return checkSourcesForItemOnceAsync(reference, nextSourceIndex, executor);
+                });
+            }
+
+            AudioItem item = sourceManager.loadItem(this, reference);
+            if (item != null) {
+                logLoadedItem(reference, item, sourceManager);
+                return CompletableFuture.completedFuture(item);
+            }
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private boolean acquireInFlightLoad() {
+        if (inFlightLoads.incrementAndGet() <= maxInFlightLoads) {
+            return true;
+        }
+
+        // Over the limit, the source is loaded synchronously on the loader thread instead.
+        inFlightLoads.decrementAndGet();
+        return false;
+    }
+
+    private void logLoadedItem(AudioReference reference, AudioItem item, AudioSourceManager sourceManager) {
+        if (item instanceof AudioTrack) {
+            log.debug("Loaded a track with identifier {} using {}.", reference.identifier, sourceManager.getClass().getSimpleName());
+        } else if (item instanceof AudioPlaylist) {
+            log.debug("Loaded a playlist with identifier {} using {}.", reference.identifier, sourceManager.getClass().getSimpleName());
+        }
+    }
+
     public ExecutorService getExecutor() {
         return trackPlaybackExecutorService;
     }
@@ -495,4 +857,26 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
             }
         }
     }
+
+    private class LoadTask extends FutureTask<Void> implements BulkheadExecutor.RejectableTask {
+        private final AudioReference reference;
+        private final AudioLoadResultHandler resultHandler;
+
+        private LoadTask(AudioReference reference, AudioLoadResultHandler resultHandler) {
+            super(() -> {
+                loadItemSync(reference, resultHandler);
+                return null;
+            });
+
+            this.reference = reference;
+            this.resultHandler = resultHandler;
+        }
+
+        @Override
+        public void rejected(RejectedExecutionException exception) {
+            if (cancel(false)) {
+                handleLoadRejected(reference.identifier, resultHandler, exception);
+            }
+        }
+    }
 }
@@ -0,0 +1,282 @@
+package com.sedmelluq.discord.lavaplayer.player;
+
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.track.AudioItem;
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.AudioReference;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.SUSPICIOUS;
+
+/**
+ * Makes concurrent loads of the same identifier share a single resolution. The caller which performed the resolution
+ * receives the loaded item as is. A private clone of it is kept for the callers which joined the load, and each of them
+ * receives its own clones of the tracks without user data. Items which cannot be cloned without changing their type
+ * are not shared, the callers which joined the load then perform their own. Successful results can optionally be kept
+ * for a while, so that loads shortly after it also reuse the result.
+ */
+class ItemLoadCoalescer {
+    private static final long AWAIT_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+    private final ScheduledExecutorService scheduledExecutor;
+    private final ConcurrentHashMap<String, Flight> flights;
+    private volatile boolean enabled;
+    private volatile long resultTtl;
+
+    /**
+     * @param scheduledExecutor Executor used for removing kept results once they expire.
+     */
+    ItemLoadCoalescer(ScheduledExecutorService scheduledExecutor) {
+        this.scheduledExecutor = scheduledExecutor;
+        this.flights = new ConcurrentHashMap<>();
+        this.enabled = true;
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+
+        if (!enabled) {
+            flights.clear();
+        }
+    }
+
+    void setResultTtl(long resultTtl) {
+        this.resultTtl = resultTtl;
+    }
+
+    /**
+     * @param reference Reference which is being loaded.
+     * @param loader    Function which performs the actual resolution.
+     * @return The loaded item, or a clone of it if it was loaded by another caller.
+     */
+    AudioItem load(AudioReference reference, Supplier<AudioItem> loader) {
+        String key = getKey(reference);
+
+        if (key == null) {
+            return loader.get();
+        }
+
+        Flight flight = new Flight();
+        Flight existing = join(key, flight);
+
+        if (existing != null) {
+            SharedItem shared;
+
+            try {
+                shared = await(existing.future);
+            } catch (TimeoutException e) {
+                // The other load is taking too long, so this one is performed separately instead of waiting longer.
+                return loader.get();
+            }
+
+            if (!shared.shareable) {
+                return loader.get();
+            } else if (shared.item == null) {
+                return null;
+            }
+
+            AudioItem clone = cloneItem(shared.item);
+            return clone != null ? clone : loader.get();
+        }
+
+        try {
+            AudioItem item = loader.get();
+            AudioItem privateCopy = cloneItem(item);
+
+            flight.future.complete(new SharedItem(privateCopy, privateCopy != null || item == null));
+            return item;
+        } catch (Throwable throwable) {
+            flight.future.completeExceptionally(throwable);
+            throw throwable;
+        } finally {
+            land(key, flight);
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #load}, which shares the resolution with both synchronous and asynchronous loads.
+     *
+     * @param reference Reference which is being loaded.
+     * @param loader    Function which starts the actual resolution.
+     * @return Future of the loaded item, or of a clone of it if it was loaded by another caller.
+     */
+    CompletableFuture<AudioItem> loadAsync(AudioReference reference, Supplier<CompletableFuture<AudioItem>> loader) {
+        String key = getKey(reference);
+
+        if (key == null) {
+            return loader.get();
+        }
+
+        Flight flight = new Flight();
+        Flight existing = join(key, flight);
+
+        if (existing != null) {
+            // A null result means the other load is taking too long, see the synchronous version.
+            return existing.future.copy().completeOnTimeout(null, AWAIT_TIMEOUT, TimeUnit.MILLISECONDS).thenCompose(shared -> {
+                if (shared == null || !shared.shareable) {
+                    return loader.get();
+                } else if (shared.item == null) {
+                    return CompletableFuture.completedFuture(null);
+                }
+
+                AudioItem clone = cloneItem(shared.item);
+                return clone != null ? CompletableFuture.completedFuture(clone) : loader.get();
+            });
+        }
+
+        CompletableFuture<AudioItem> result;
+
+        try {
+            result = loader.get();
+        } catch (Throwable throwable) {
+            flight.future.completeExceptionally(throwable);
+            land(key, flight);
+            throw throwable;
+        }
+
+        return result.whenComplete((item, throwable) -> {
+            if (throwable != null) {
+                flight.future.completeExceptionally(throwable);
+            } else {
+                AudioItem privateCopy = cloneItem(item);
+                flight.future.complete(new SharedItem(privateCopy, privateCopy != null || item == null));
+            }
+
+            land(key, flight);
+        });
+    }
+
+    private String getKey(AudioReference reference) {
+        if (!enabled || reference.identifier == null || reference.containerDescriptor != null) {
+            return null;
+        }
+
+        return reference.identifier.trim();
+    }
+
+    private Flight join(String key, Flight flight) {
+        while (true) {
+            Flight existing = flights.putIfAbsent(key, flight);
+
+            if (existing == null) {
+                return null;
+            } else if (existing.expiresAt == 0 || existing.expiresAt > System.currentTimeMillis()) {
+                return existing;
+            } else if (flights.replace(key, existing, flight)) {
+                return null;
+            }
+        }
+    }
+
+    private void land(String key, Flight flight) {
+        long ttl = resultTtl;
+
+        if (ttl <= 0 || flight.future.isCompletedExceptionally()) {
+            flights.remove(key, flight);
+            return;
+        }
+
+        flight.expiresAt = System.currentTimeMillis() + ttl;
+
+        try {
+            scheduledExecutor.schedule(() -> flights.remove(key, flight), ttl, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flights.remove(key, flight);
+        }
+    }
+
+    private static SharedItem await(CompletableFuture<SharedItem> future) throws TimeoutException {
+        try {
+            return future.get(AWAIT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FriendlyException("Interrupted while waiting for the track to load.", SUSPICIOUS, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * @return A clone of the item, the item itself if it is immutable, or null if it cannot be cloned.
+     */
+    private static AudioItem cloneItem(AudioItem item) {
+        try {
+            return cloneItemOrThrow(item);
+        } catch (UnsupportedOperationException e) {
+            // Tracks which do not implement cloning.
+            return null;
+        }
+    }
+
+    private static AudioItem cloneItemOrThrow(AudioItem item) {
+        if (item instanceof AudioTrack) {
+            return cloneTrack((AudioTrack) item);
+        } else if (item != null && item.getClass() == BasicAudioPlaylist.class) {
+            // Other playlist classes may carry information which would be lost by rebuilding them.
+            AudioPlaylist playlist = (AudioPlaylist) item;
+            List<AudioTrack> tracks = new ArrayList<>(playlist.getTracks().size());
+            AudioTrack selectedTrack = null;
+
+            for (AudioTrack track : playlist.getTracks()) {
+                AudioTrack clone = cloneTrack(track);
+                tracks.add(clone);
+
+                if (track == playlist.getSelectedTrack()) {
+                    selectedTrack = clone;
+                }
+            }
+
+            if (selectedTrack == null && playlist.getSelectedTrack() != null) {
+                selectedTrack = cloneTrack(playlist.getSelectedTrack());
+            }
+
+            return new BasicAudioPlaylist(playlist.getName(), tracks, selectedTrack, playlist.isSearchResult());
+        } else if (item instanceof AudioReference) {
+            return item;
+        }
+
+        return null;
+    }
+
+    private static AudioTrack cloneTrack(AudioTrack track) {
+        AudioTrack clone = track.makeClone();
+        clone.setUserData(null);
+        return clone;
+    }
+
+    private static class SharedItem {
+        private final AudioItem item;
+        private final boolean shareable;
+
+        private SharedItem(AudioItem item, boolean shareable) {
+            this.item = item;
+            this.shareable = shareable;
+        }
+    }
+
+    private static class Flight {
+        private final CompletableFuture<SharedItem> future = new CompletableFuture<>();
+        private volatile long expiresAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.sedmelluq.discord.lavaplayer.source;
+
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
+import com.sedmelluq.discord.lavaplayer.track.AudioItem;
+import com.sedmelluq.discord.lavaplayer.track.AudioReference;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Source manager which is able to load items without blocking the calling thread. Used by
+ * {@link AudioPlayerManager#loadItemAsync(AudioReference)}, so that a load from this source does not occupy an item
+ * loader thread while it waits for its requests to complete.
+ */
+public interface AsyncAudioSourceManager extends AudioSourceManager {
+    /**
+     * Asynchronous version of {@link #loadItem(AudioPlayerManager, AudioReference)}. Must return quickly, the actual
+     * work should be done by non-blocking operations.
+     *
+     * @param manager          The audio manager to attach to the loaded tracks
+     * @param reference        The reference with the identifier which the source manager should find the track with
+     * @param blockingExecutor Executor for the parts of the load which have to block, for example when falling back to
+     *                         {@link #loadItem(AudioPlayerManager, AudioReference)}
+     * @return A future of the loaded item, which is completed with null on unrecognized identifier
+     */
+    CompletableFuture<AudioItem> loadItemAsync(AudioPlayerManager manager, AudioReference reference,
+                                               Executor blockingExecutor);
+}
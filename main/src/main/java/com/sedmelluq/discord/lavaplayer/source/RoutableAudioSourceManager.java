@@ -0,0 +1,20 @@
+package com.sedmelluq.discord.lavaplayer.source;
+
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
+import com.sedmelluq.discord.lavaplayer.track.AudioReference;
+
+/**
+ * Source manager which can tell cheaply, before loading, whether it would handle a reference. Used for choosing the
+ * per-source concurrency limit a load is subject to before it is started, see
+ * {@link AudioPlayerManager#setSourceLoadConcurrency(AudioSourceManager, int)}.
+ */
+public interface RoutableAudioSourceManager extends AudioSourceManager {
+    /**
+     * Must not perform any requests or other blocking operations. It may return true for references which the source
+     * manager then fails to load or finds nothing for.
+     *
+     * @param reference The reference to check
+     * @return True if {@link #loadItem(AudioPlayerManager, AudioReference)} would handle the reference
+     */
+    boolean canRoute(AudioReference reference);
+}
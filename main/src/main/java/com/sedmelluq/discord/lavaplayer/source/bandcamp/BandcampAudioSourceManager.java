@@ -1,14 +1,18 @@
 package com.sedmelluq.discord.lavaplayer.source.bandcamp;
 
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
-import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.RoutableAudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.*;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpContentCache;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadConfigurable;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadCounters;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadStatistics;
+import com.sedmelluq.discord.lavaplayer.tools.io.StreamingTextExtractor;
 import com.sedmelluq.discord.lavaplayer.track.*;
-import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -23,6 +27,7 @@ import org.jsoup.select.Elements;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
@@ -39,7 +44,7 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
 /**
  * Audio source manager that implements finding Bandcamp tracks based on URL.
  */
-public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfigurable {
+public class BandcampAudioSourceManager implements RoutableAudioSourceManager, HttpConfigurable, ReadAheadConfigurable {
     private static final String SEARCH_PREFIX = "bcsearch:";
     private static final String URL_REGEX = "^(https?://(?:[^.]+\\.|)bandcamp\\.com)/(track|album)/([a-zA-Z0-9-_]+)/?(?:\\?.*|)$";
     private static final Pattern urlRegex = Pattern.compile(URL_REGEX);
@@ -47,6 +52,9 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
     private static final String ARTWORK_URL_FORMAT = "https://f4.bcbits.com/img/a%s_1.png";
 
     private final HttpInterfaceManager httpInterfaceManager;
+    private final ReadAheadCounters readAheadCounters = new ReadAheadCounters();
+    private volatile int readAheadSize;
+    private volatile HttpContentCache contentCache;
     private final boolean allowSearch;
 
     /**
@@ -88,6 +96,15 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
         return null;
     }
 
+    @Override
+    public boolean canRoute(AudioReference reference) {
+        if (reference.identifier.startsWith(SEARCH_PREFIX)) {
+            return allowSearch;
+        }
+
+        return urlRegex.matcher(reference.identifier).matches();
+    }
+
     private URI buildSearchUri(String query) {
         try {
             return new URIBuilder("https://bandcamp.com/search")
@@ -100,8 +117,10 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
     }
 
     private AudioItem loadSearch(String query) {
-        return extractFromPage(buildSearchUri(query).toString(), (httpClient, text) -> {
-            Document doc = Jsoup.parse(text);
+        String url = buildSearchUri(query).toString();
+
+        return extractFromPage(url, (httpClient, content) -> {
+            Document doc = Jsoup.parse(content, StandardCharsets.UTF_8.name(), url);
             Elements elements = doc.select(".searchresult");
             List<AudioTrack> tracks = new ArrayList<>();
 
@@ -158,8 +177,8 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
     }
 
     private AudioItem loadTrack(UrlInfo urlInfo) {
-        return extractFromPage(urlInfo.fullUrl, (httpClient, text) -> {
-            JsonBrowser trackListInfo = readTrackListInformation(text);
+        return extractFromPage(urlInfo.fullUrl, (httpClient, content) -> {
+            JsonBrowser trackListInfo = readTrackListInformation(content);
             String artist = trackListInfo.get("artist").safeText();
             String artworkUrl = extractArtwork(trackListInfo);
 
@@ -168,8 +187,8 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
     }
 
     private AudioItem loadAlbum(UrlInfo urlInfo) {
-        return extractFromPage(urlInfo.fullUrl, (httpClient, text) -> {
-            JsonBrowser trackListInfo = readTrackListInformation(text);
+        return extractFromPage(urlInfo.fullUrl, (httpClient, content) -> {
+            JsonBrowser trackListInfo = readTrackListInformation(content);
             String artist = trackListInfo.get("artist").text();
             String artworkUrl = extractArtwork(trackListInfo);
 
@@ -179,8 +198,7 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
                 tracks.add(extractTrack(trackInfo, urlInfo.baseUrl, artist, artworkUrl, null));
             }
 
-            JsonBrowser albumInfo = readAlbumInformation(text);
-            return new BasicAudioPlaylist(albumInfo.get("current").get("title").text(), tracks, null, false);
+            return new BasicAudioPlaylist(trackListInfo.get("current").get("title").text(), tracks, null, false);
         });
     }
 
@@ -199,19 +217,11 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
         ), this);
     }
 
-    private JsonBrowser readAlbumInformation(String text) throws IOException {
-        String albumInfoJson = DataFormatTools.extractBetween(text, "data-tralbum=\"", "\"");
-
-        if (albumInfoJson == null) {
-            throw new FriendlyException("Album information not found on the Bandcamp page.", SUSPICIOUS, null);
-        }
-
-        albumInfoJson = albumInfoJson.replace("&quot;", "\"");
-        return JsonBrowser.parse(albumInfoJson);
-    }
-
-    JsonBrowser readTrackListInformation(String text) throws IOException {
-        String trackInfoJson = DataFormatTools.extractBetween(text, "data-tralbum=\"", "\"");
+    /**
+     * Reads the page only up to the end of the track list attribute, the rest of the page is not needed.
+     */
+    JsonBrowser readTrackListInformation(InputStream content) throws IOException {
+        String trackInfoJson = StreamingTextExtractor.extractBetween(content, "data-tralbum=\"", "\"");
 
         if (trackInfoJson == null) {
             throw new FriendlyException("Track information not found on the Bandcamp page.", SUSPICIOUS, null);
@@ -230,8 +240,6 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
     }
 
     private AudioItem extractFromPageWithInterface(HttpInterface httpInterface, String url, AudioItemExtractor extractor) throws Exception {
-        String responseText;
-
         try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(url))) {
             int statusCode = response.getStatusLine().getStatusCode();
 
@@ -241,10 +249,8 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
                 throw new IOException("Invalid status code for track page: " + statusCode);
             }
 
-            responseText = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+            return extractor.extract(httpInterface, response.getEntity().getContent());
         }
-
-        return extractor.extract(httpInterface, responseText);
     }
 
     private String extractArtwork(JsonBrowser root) {
@@ -289,6 +295,41 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
         return httpInterfaceManager.getInterface();
     }
 
+    @Override
+    public int getReadAheadSize() {
+        return readAheadSize;
+    }
+
+    @Override
+    public void setReadAheadSize(int readAheadSize) {
+        this.readAheadSize = readAheadSize;
+    }
+
+    @Override
+    public ReadAheadStatistics getReadAheadStatistics() {
+        return readAheadCounters.getStatistics();
+    }
+
+    ReadAheadCounters getReadAheadCounters() {
+        return readAheadCounters;
+    }
+
+    /**
+     * @return Disk cache which the content of tracks is read through, null if disabled.
+     */
+    public HttpContentCache getContentCache() {
+        return contentCache;
+    }
+
+    /**
+     * @param contentCache Disk cache to read the content of tracks through, so that replaying or seeking in a track does
+     *                     not download the same ranges again. Null to disable, which is the default. The same cache may
+     *                     be shared between source managers.
+     */
+    public void setContentCache(HttpContentCache contentCache) {
+        this.contentCache = contentCache;
+    }
+
     @Override
     public void configureRequests(Function<RequestConfig, RequestConfig> configurator) {
         httpInterfaceManager.configureRequests(configurator);
@@ -300,7 +341,7 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
     }
 
     private interface AudioItemExtractor {
-        AudioItem extract(HttpInterface httpInterface, String text) throws Exception;
+        AudioItem extract(HttpInterface httpInterface, InputStream content) throws Exception;
     }
 
     private static class UrlInfo {
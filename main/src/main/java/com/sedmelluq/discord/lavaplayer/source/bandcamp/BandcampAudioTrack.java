@@ -4,13 +4,15 @@ import com.sedmelluq.discord.lavaplayer.container.mp3.Mp3AudioTrack;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpContentCache;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.PersistentHttpStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadSeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.DelegatedAudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor;
-import org.apache.commons.io.IOUtils;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.jsoup.parser.Parser;
@@ -19,7 +21,6 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Audio track that handles processing Bandcamp tracks.
@@ -47,7 +48,11 @@ public class BandcampAudioTrack extends DelegatedAudioTrack {
             String trackMediaUrl = getTrackMediaUrl(httpInterface);
             log.debug("Starting Bandcamp track from URL: {}", trackMediaUrl);
 
-            try (PersistentHttpStream stream = new PersistentHttpStream(httpInterface, new URI(trackMediaUrl), null)) {
+            try (PersistentHttpStream httpStream = new PersistentHttpStream(httpInterface, new URI(trackMediaUrl), null);
+                 SeekableInputStream cachedStream = HttpContentCache.wrap(sourceManager.getContentCache(), httpStream, sourceManager.getSourceName() + ":" + trackInfo.identifier);
+                 SeekableInputStream stream = ReadAheadSeekableInputStream.wrap(cachedStream, sourceManager.getReadAheadSize(),
+                     sourceManager.getReadAheadCounters())) {
+
                 processDelegate(new Mp3AudioTrack(trackInfo, stream), localExecutor);
             }
         }
@@ -60,8 +65,7 @@ public class BandcampAudioTrack extends DelegatedAudioTrack {
                 throw new IOException("Invalid status code for track page: " + statusCode);
             }
 
-            String responseText = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
-            JsonBrowser trackInfo = sourceManager.readTrackListInformation(responseText);
+            JsonBrowser trackInfo = sourceManager.readTrackListInformation(response.getEntity().getContent());
 
             String url = trackInfo.get("trackinfo").index(0).get("file").get("mp3-128").text();
             return url != null ? Parser.unescapeEntities(url, false) : null;
@@ -9,7 +9,6 @@ import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.info.AudioTrackInfoBuilder;
-import org.apache.commons.io.IOUtils;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -20,7 +19,6 @@ import org.jsoup.nodes.Document;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -101,8 +99,9 @@ public class GetyarnAudioSourceManager implements HttpConfigurable, AudioSourceM
 
     private AudioTrack extractVideoUrlFromPage(AudioReference reference) {
         try (final CloseableHttpResponse response = getHttpInterface().execute(new HttpGet(reference.identifier))) {
-            final String html = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
-            final Document document = Jsoup.parse(html);
+            // The meta tags which are needed are all in the head, the rest of the page is not read.
+            final String head = StreamingTextExtractor.readUntil(response.getEntity().getContent(), "</head>");
+            final Document document = Jsoup.parse(head);
 
             final AudioTrackInfo trackInfo = AudioTrackInfoBuilder.empty()
                 .setUri(reference.identifier)
@@ -0,0 +1,342 @@
+package com.sedmelluq.discord.lavaplayer.source.http;
+
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerHints;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerRegistry;
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.Units;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.track.AudioReference;
+import com.sedmelluq.discord.lavaplayer.track.info.AudioTrackInfoBuilder;
+import com.sedmelluq.discord.lavaplayer.track.info.AudioTrackInfoProvider;
+import org.apache.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.refer;
+import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.COMMON;
+
+/**
+ * Detects the container of an HTTP resource without blocking, by fetching only the head of it with a non-blocking
+ * client and running the detection on that. If the detection needs more of the resource than the head, the result
+ * tells that the detection has to be done with a stream of the whole resource instead.
+ */
+class AsyncHttpContainerDetection {
+    private static final int HEAD_SIZE = 64 * 1024;
+    private static final Pattern CONTENT_RANGE_TOTAL = Pattern.compile("^bytes \\d+-\\d+/(\\d+)$");
+
+    private final HttpClient httpClient;
+    private final MediaContainerRegistry containerRegistry;
+    private final AudioReference reference;
+    private final Duration timeout;
+
+    /**
+     * @param httpClient        Non-blocking HTTP client, which must not follow redirects.
+     * @param containerRegistry Registry of the containers to detect.
+     * @param reference         Reference with the URL of the resource.
+     * @param timeout           Timeout for receiving the response headers, and separately for receiving the head.
+     */
+    AsyncHttpContainerDetection(HttpClient httpClient, MediaContainerRegistry containerRegistry, AudioReference reference,
+                                Duration timeout) {
+
+        this.httpClient = httpClient;
+        this.containerRegistry = containerRegistry;
+        this.reference = reference;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return Future of the outcome of the detection.
+     */
+    CompletableFuture<Outcome> detect() {
+        HttpRequest request;
+
+        try {
+            request = HttpRequest.newBuilder(new URI(reference.identifier))
+                .header("Range", "bytes=0-" + (HEAD_SIZE - 1))
+                .timeout(timeout)
+                .GET()
+                .build();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new FriendlyException("Not a valid URL.", COMMON, e));
+        }
+
+        return httpClient.sendAsync(request, this::createBodySubscriber).thenApply(response -> {
+            Head head = response.body();
+            return head != null ? detectFromHead(response, head) : checkStatus(response);
+        });
+    }
+
+    private HttpResponse.BodySubscriber<Head> createBodySubscriber(HttpResponse.ResponseInfo responseInfo) {
+        if (HttpClientTools.isSuccessWithContent(responseInfo.statusCode())) {
+            return new HeadSubscriber(HEAD_SIZE, timeout);
+        }
+
+        return HttpResponse.BodySubscribers.replacing(null);
+    }
+
+    private Outcome checkStatus(HttpResponse<Head> response) {
+        int statusCode = response.statusCode();
+        String location = response.headers().firstValue("Location").orElse(null);
+
+        if (isRedirectStatus(statusCode) && location != null) {
+            return new Outcome(refer(null, new AudioReference(URI.create(reference.identifier).resolve(location).toString(), null)));
+        } else if (statusCode == HttpStatus.SC_NOT_FOUND) {
+            return new Outcome(null);
+        } else if (statusCode == HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE) {
+            // Empty resource, left for the regular detection to report.
+            return Outcome.NEEDS_STREAM;
+        }
+
+        throw new FriendlyException("That URL is not playable.", COMMON, new IllegalStateException("Status code " + statusCode));
+    }
+
+    private Outcome detectFromHead(HttpResponse<Head> response, Head head) {
+        HeadSeekableInputStream stream = new HeadSeekableInputStream(head, getContentLength(response, head),
+            createIceCastHeaderProvider(response));
+
+        MediaContainerHints hints = MediaContainerHints.from(response.headers().firstValue("Content-Type").orElse(null), null);
+        MediaContainerDetectionResult result = new MediaContainerDetection(containerRegistry, reference, stream, hints).detectContainer();
+
+        return stream.exhausted ? Outcome.NEEDS_STREAM : new Outcome(result);
+    }
+
+    private static long getContentLength(HttpResponse<Head> response, Head head) {
+        if (!head.truncated) {
+            return head.bytes.length;
+        }
+
+        if (response.statusCode() == HttpStatus.SC_PARTIAL_CONTENT) {
+            Matcher matcher = CONTENT_RANGE_TOTAL.matcher(response.headers().firstValue("Content-Range").orElse(""));
+            return matcher.find() ? Long.parseLong(matcher.group(1)) : Units.CONTENT_LENGTH_UNKNOWN;
+        }
+
+        return response.headers().firstValueAsLong("Content-Length").orElse(Units.CONTENT_LENGTH_UNKNOWN);
+    }
+
+    private static AudioTrackInfoProvider createIceCastHeaderProvider(HttpResponse<Head> response) {
+        AudioTrackInfoBuilder builder = AudioTrackInfoBuilder.empty()
+            .setTitle(response.headers().firstValue("icy-description").orElse(null))
+            .setAuthor(response.headers().firstValue("icy-name").orElse(null));
+
+        if (builder.getTitle() == null) {
+            builder.setTitle(response.headers().firstValue("icy-url").orElse(null));
+        }
+
+        return builder;
+    }
+
+    private static boolean isRedirectStatus(int statusCode) {
+        return statusCode == HttpStatus.SC_MOVED_PERMANENTLY || statusCode == HttpStatus.SC_MOVED_TEMPORARILY ||
+            statusCode == HttpStatus.SC_SEE_OTHER || statusCode == HttpStatus.SC_TEMPORARY_REDIRECT;
+    }
+
+    /**
+     * Outcome of the detection.
+     */
+    static class Outcome {
+        private static final Outcome NEEDS_STREAM = new Outcome(null);
+
+        /**
+         * Result of the detection, null if the resource does not exist.
+         */
+        final MediaContainerDetectionResult result;
+
+        private Outcome(MediaContainerDetectionResult result) {
+            this.result = result;
+        }
+
+        /**
+         * @return True if the detection could not be done from the head of the resource.
+         */
+        boolean needsStream() {
+            return this == NEEDS_STREAM;
+        }
+    }
+
+    private static class Head {
+        private final byte[] bytes;
+        private final boolean truncated;
+
+        private Head(byte[] bytes, boolean truncated) {
+            this.bytes = bytes;
+            this.truncated = truncated;
+        }
+    }
+
+    /**
+     * Receives the body up to the size limit, the rest of it is not downloaded.
+     */
+    private static class HeadSubscriber implements HttpResponse.BodySubscriber<Head> {
+        private final int limit;
+        private final ByteArrayOutputStream buffer;
+        private final CompletableFuture<Head> result;
+        private volatile Flow.Subscription subscription;
+
+        private HeadSubscriber(int limit, Duration timeout) {
+            this.limit = limit;
+            this.buffer = new ByteArrayOutputStream();
+            this.result = new CompletableFuture<>();
+
+            result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((head, throwable) -> {
+                Flow.Subscription current = subscription;
+
+                if (throwable != null && current != null) {
+                    current.cancel();
+                }
+            });
+        }
+
+        @Override
+        public CompletionStage<Head> getBody() {
+            return result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (result.isDone()) {
+                return;
+            }
+
+            for (ByteBuffer item : items) {
+                int length = Math.min(item.remaining(), limit - buffer.size());
+                byte[] chunk = new byte[length];
+                item.get(chunk);
+                buffer.write(chunk, 0, length);
+
+                if (buffer.size() == limit) {
+                    subscription.cancel();
+                    result.complete(new Head(buffer.toByteArray(), true));
+                    return;
+                }
+            }
+
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(new Head(buffer.toByteArray(), false));
+        }
+    }
+
+    /**
+     * Stream of the head of the resource. Reading past the head when the resource continues after it is reported as the
+     * end of the stream, and marks the stream as exhausted.
+     */
+    private static class HeadSeekableInputStream extends SeekableInputStream {
+        private final Head head;
+        private final List<AudioTrackInfoProvider> trackInfoProviders;
+        private long position;
+        private boolean exhausted;
+
+        private HeadSeekableInputStream(Head head, long contentLength, AudioTrackInfoProvider trackInfoProvider) {
+            super(contentLength, 0);
+            this.head = head;
+            this.trackInfoProviders = Collections.singletonList(trackInfoProvider);
+        }
+
+        @Override
+        public int read() {
+            if (!checkAvailable()) {
+                return -1;
+            }
+
+            return head.bytes[(int) position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            } else if (!checkAvailable()) {
+                return -1;
+            }
+
+            int chunk = (int) Math.min(length, head.bytes.length - position);
+            System.arraycopy(head.bytes, (int) position, buffer, offset, chunk);
+            position += chunk;
+            return chunk;
+        }
+
+        @Override
+        public long skip(long distance) {
+            if (distance <= 0) {
+                return 0;
+            }
+
+            long skipped = Math.min(distance, Math.max(0, head.bytes.length - position));
+
+            if (skipped < distance && head.truncated) {
+                exhausted = true;
+            }
+
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.max(0, head.bytes.length - position);
+        }
+
+        private boolean checkAvailable() {
+            if (position < head.bytes.length) {
+                return true;
+            }
+
+            if (head.truncated) {
+                exhausted = true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public long getPosition() {
+            return position;
+        }
+
+        @Override
+        protected void seekHard(long position) {
+            this.position = position;
+        }
+
+        @Override
+        public boolean canSeekHard() {
+            return true;
+        }
+
+        @Override
+        public List<AudioTrackInfoProvider> getTrackInfoProviders() {
+            return trackInfoProviders;
+        }
+    }
+}
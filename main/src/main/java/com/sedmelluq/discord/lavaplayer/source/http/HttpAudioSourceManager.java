@@ -2,7 +2,9 @@ package com.sedmelluq.discord.lavaplayer.source.http;
 
 import com.sedmelluq.discord.lavaplayer.container.*;
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
+import com.sedmelluq.discord.lavaplayer.source.AsyncAudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.source.ProbingAudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.stream.M3uStreamPlaylistRegistry;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.*;
@@ -20,6 +22,10 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -31,8 +37,17 @@ import static com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools.getHeade
 /**
  * Audio source manager which implements finding audio files from HTTP addresses.
  */
-public class HttpAudioSourceManager extends ProbingAudioSourceManager implements HttpConfigurable {
+public class HttpAudioSourceManager extends ProbingAudioSourceManager implements AsyncAudioSourceManager,
+    HttpConfigurable, ReadAheadConfigurable {
+
     private final HttpInterfaceManager httpInterfaceManager;
+    private final M3uStreamPlaylistRegistry playlistRegistry;
+    private volatile HttpClient asyncHttpClient;
+    private volatile boolean asyncHttpClientConfigured;
+    private volatile boolean httpConfigured;
+    private final ReadAheadCounters readAheadCounters = new ReadAheadCounters();
+    private volatile int readAheadSize;
+    private volatile HttpContentCache contentCache;
 
     /**
      * Create a new instance with default media container registry.
@@ -53,6 +68,9 @@ public class HttpAudioSourceManager extends ProbingAudioSourceManager implements
                 .setRedirectStrategy(new HttpClientTools.NoRedirectsStrategy()),
             HttpClientTools.DEFAULT_REQUEST_CONFIG
         );
+
+        // Followed by the HLS tracks created by the M3U container probe.
+        playlistRegistry = M3uStreamPlaylistRegistry.acquireShared();
     }
 
     @Override
@@ -74,6 +92,78 @@ public class HttpAudioSourceManager extends ProbingAudioSourceManager implements
         }
     }
 
+    @Override
+    public CompletableFuture<AudioItem> loadItemAsync(AudioPlayerManager manager, AudioReference reference,
+                                                      Executor blockingExecutor) {
+
+        AudioReference httpReference = getAsHttpReference(reference);
+        HttpClient httpClient = getAsyncHttpClient();
+
+        if (httpReference == null) {
+            return CompletableFuture.completedFuture(null);
+        } else if (httpReference.containerDescriptor != null) {
+            return CompletableFuture.completedFuture(loadItem(manager, reference));
+        } else if (httpClient == null) {
+            return CompletableFuture.supplyAsync(() -> loadItem(manager, reference), blockingExecutor);
+        }
+
+        Duration timeout = Duration.ofMillis(HttpClientTools.DEFAULT_REQUEST_CONFIG.getSocketTimeout());
+
+        return new AsyncHttpContainerDetection(httpClient, containerRegistry, httpReference, timeout).detect()
+            .thenCompose(outcome -> {
+                if (outcome.needsStream()) {
+                    return CompletableFuture.supplyAsync(() -> loadItem(manager, reference), blockingExecutor);
+                }
+
+                return CompletableFuture.completedFuture(handleLoadResult(outcome.result));
+            });
+    }
+
+    /**
+     * @return Non-blocking HTTP client used for detecting the container of a URL with
+     * {@link #loadItemAsync(AudioPlayerManager, AudioReference, Executor)}, null if such loads block a loader thread
+     * like {@link #loadItem(AudioPlayerManager, AudioReference)} does.
+     */
+    public HttpClient getAsyncHttpClient() {
+        if (asyncHttpClientConfigured) {
+            return asyncHttpClient;
+        } else if (httpConfigured) {
+            // The client would not apply the configuration of the HTTP interface manager, such as proxies.
+            return null;
+        }
+
+        HttpClient client = asyncHttpClient;
+
+        if (client == null) {
+            synchronized (this) {
+                client = asyncHttpClient;
+
+                if (client == null) {
+                    client = HttpClient.newBuilder()
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .connectTimeout(Duration.ofMillis(HttpClientTools.DEFAULT_REQUEST_CONFIG.getConnectTimeout()))
+                        .build();
+
+                    asyncHttpClient = client;
+                }
+            }
+        }
+
+        return client;
+    }
+
+    /**
+     * @param asyncHttpClient Non-blocking HTTP client to use for detecting the container of a URL with
+     *                        {@link #loadItemAsync(AudioPlayerManager, AudioReference, Executor)}, it must not follow
+     *                        redirects. Null to always block a loader thread instead. By default, a client is created
+     *                        unless the requests or the builder of this source have been configured, as those settings
+     *                        do not apply to it.
+     */
+    public void setAsyncHttpClient(HttpClient asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+        this.asyncHttpClientConfigured = true;
+    }
+
     @Override
     protected AudioTrack createTrack(AudioTrackInfo trackInfo, MediaContainerDescriptor containerDescriptor) {
         return new HttpAudioTrack(trackInfo, containerDescriptor, this);
@@ -86,13 +176,50 @@ public class HttpAudioSourceManager extends ProbingAudioSourceManager implements
         return httpInterfaceManager.getInterface();
     }
 
+    @Override
+    public int getReadAheadSize() {
+        return readAheadSize;
+    }
+
+    @Override
+    public void setReadAheadSize(int readAheadSize) {
+        this.readAheadSize = readAheadSize;
+    }
+
+    @Override
+    public ReadAheadStatistics getReadAheadStatistics() {
+        return readAheadCounters.getStatistics();
+    }
+
+    ReadAheadCounters getReadAheadCounters() {
+        return readAheadCounters;
+    }
+
+    /**
+     * @return Disk cache which the content of tracks is read through, null if disabled.
+     */
+    public HttpContentCache getContentCache() {
+        return contentCache;
+    }
+
+    /**
+     * @param contentCache Disk cache to read the content of tracks through, so that replaying or seeking in a track does
+     *                     not download the same ranges again. Null to disable, which is the default. The same cache may
+     *                     be shared between source managers.
+     */
+    public void setContentCache(HttpContentCache contentCache) {
+        this.contentCache = contentCache;
+    }
+
     @Override
     public void configureRequests(Function<RequestConfig, RequestConfig> configurator) {
+        httpConfigured = true;
         httpInterfaceManager.configureRequests(configurator);
     }
 
     @Override
     public void configureBuilder(Consumer<HttpClientBuilder> configurator) {
+        httpConfigured = true;
         httpInterfaceManager.configureBuilder(configurator);
     }
 
@@ -160,6 +287,6 @@ public class HttpAudioSourceManager extends ProbingAudioSourceManager implements
 
     @Override
     public void shutdown() {
-        // Nothing to shut down
+        playlistRegistry.release();
     }
 }
@@ -3,8 +3,11 @@ package com.sedmelluq.discord.lavaplayer.source.http;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerDescriptor;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.Units;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpContentCache;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.PersistentHttpStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadSeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.DelegatedAudioTrack;
@@ -50,8 +53,12 @@ public class HttpAudioTrack extends DelegatedAudioTrack {
         try (HttpInterface httpInterface = sourceManager.getHttpInterface()) {
             log.debug("Starting http track from URL: {}", trackInfo.identifier);
 
-            try (PersistentHttpStream inputStream = new PersistentHttpStream(httpInterface, new URI(trackInfo.identifier), Units.CONTENT_LENGTH_UNKNOWN)) {
-                processDelegate((InternalAudioTrack) containerTrackFactory.createTrack(trackInfo, inputStream), localExecutor);
+            try (PersistentHttpStream inputStream = new PersistentHttpStream(httpInterface, new URI(trackInfo.identifier), Units.CONTENT_LENGTH_UNKNOWN);
+                 SeekableInputStream cachedStream = HttpContentCache.wrap(sourceManager.getContentCache(), inputStream, sourceManager.getSourceName() + ":" + trackInfo.identifier);
+                 SeekableInputStream stream = ReadAheadSeekableInputStream.wrap(cachedStream, sourceManager.getReadAheadSize(),
+                     sourceManager.getReadAheadCounters())) {
+
+                processDelegate((InternalAudioTrack) containerTrackFactory.createTrack(trackInfo, stream), localExecutor);
             }
         }
     }
@@ -4,10 +4,13 @@ import com.sedmelluq.discord.lavaplayer.container.*;
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.source.ProbingAudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioItem;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.DataInput;
 import java.io.DataOutput;
@@ -20,6 +23,10 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
  * Audio source manager that implements finding audio files from the local file system.
  */
 public class LocalAudioSourceManager extends ProbingAudioSourceManager {
+    private static final Logger log = LoggerFactory.getLogger(LocalAudioSourceManager.class);
+
+    private volatile boolean memoryMappingEnabled;
+
     public LocalAudioSourceManager() {
         this(MediaContainerRegistry.DEFAULT_REGISTRY);
     }
@@ -28,6 +35,14 @@ public class LocalAudioSourceManager extends ProbingAudioSourceManager {
         super(containerRegistry);
     }
 
+    /**
+     * @param memoryMappingEnabled Whether to read files through memory mapped windows instead of buffered reads. Files
+     *                             which fail to be mapped are still read with buffered reads.
+     */
+    public void setMemoryMappingEnabled(boolean memoryMappingEnabled) {
+        this.memoryMappingEnabled = memoryMappingEnabled;
+    }
+
     @Override
     public String getSourceName() {
         return "local";
@@ -50,7 +65,7 @@ public class LocalAudioSourceManager extends ProbingAudioSourceManager {
     }
 
     private MediaContainerDetectionResult detectContainerForFile(AudioReference reference, File file) {
-        try (LocalSeekableInputStream inputStream = new LocalSeekableInputStream(file)) {
+        try (SeekableInputStream inputStream = openFile(file)) {
             int lastDotIndex = file.getName().lastIndexOf('.');
             String fileExtension = lastDotIndex >= 0 ? file.getName().substring(lastDotIndex + 1) : null;
 
@@ -61,6 +76,22 @@ public class LocalAudioSourceManager extends ProbingAudioSourceManager {
         }
     }
 
+    /**
+     * @param file File to open
+     * @return Seekable input stream for reading the file
+     */
+    SeekableInputStream openFile(File file) {
+        if (memoryMappingEnabled) {
+            try {
+                return new MappedLocalSeekableInputStream(file);
+            } catch (IOException | RuntimeException e) {
+                log.debug("Failed to memory map file {}, falling back to buffered reads.", file, e);
+            }
+        }
+
+        return new LocalSeekableInputStream(file);
+    }
+
     @Override
     public boolean isTrackEncodable(AudioTrack track) {
         return true;
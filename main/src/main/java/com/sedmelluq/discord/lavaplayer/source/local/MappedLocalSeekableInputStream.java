@@ -0,0 +1,171 @@
+package com.sedmelluq.discord.lavaplayer.source.local;
+
+import com.sedmelluq.discord.lavaplayer.tools.io.ByteBufferReadable;
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.track.info.AudioTrackInfoProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Seekable input stream implementation for local files which reads from memory mapped windows of the file instead of
+ * copying the data through an intermediate buffer. A window is remapped when reading or seeking goes outside of it.
+ */
+public class MappedLocalSeekableInputStream extends SeekableInputStream implements ByteBufferReadable {
+    private static final Logger log = LoggerFactory.getLogger(MappedLocalSeekableInputStream.class);
+
+    private static final long WINDOW_SIZE = 16 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private ByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    /**
+     * @param file File to create a stream for.
+     * @throws IOException If opening or mapping the file fails.
+     */
+    public MappedLocalSeekableInputStream(File file) throws IOException {
+        super(file.length(), 0);
+
+        channel = FileChannel.open(file.toPath(), READ);
+
+        try {
+            contentLength = channel.size();
+            mapWindow(0);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureWindowData()) {
+            return -1;
+        }
+
+        position++;
+        return window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        } else if (!ensureWindowData()) {
+            return -1;
+        }
+
+        int chunk = Math.min(len, window.remaining());
+        window.get(b, off, chunk);
+        position += chunk;
+        return chunk;
+    }
+
+    @Override
+    public ByteBuffer readBufferView(int maximumLength) throws IOException {
+        if (!ensureWindowData()) {
+            return null;
+        }
+
+        int chunk = Math.min(maximumLength, window.remaining());
+        ByteBuffer view = window.slice();
+        view.limit(chunk);
+
+        window.position(window.position() + chunk);
+        position += chunk;
+        return view;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = Math.max(0, Math.min(n, contentLength - position));
+        moveTo(position + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return window.remaining();
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The mapping itself is released once the buffers are garbage collected.
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close channel", e);
+        }
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean canSeekHard() {
+        return true;
+    }
+
+    @Override
+    public List<AudioTrackInfoProvider> getTrackInfoProviders() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected void seekHard(long position) throws IOException {
+        moveTo(position);
+    }
+
+    private void moveTo(long target) {
+        position = target;
+
+        long offset = target - windowStart;
+
+        if (offset >= 0 && offset <= window.limit()) {
+            window.position((int) offset);
+        } else {
+            // Remapped on the next read
+            window.position(window.limit());
+        }
+    }
+
+    private boolean ensureWindowData() throws IOException {
+        if (window.hasRemaining()) {
+            return true;
+        } else if (position >= contentLength) {
+            return false;
+        }
+
+        mapWindow(position);
+        return window.hasRemaining();
+    }
+
+    private void mapWindow(long start) throws IOException {
+        long length = Math.min(WINDOW_SIZE, Math.max(0, contentLength - start));
+
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        windowStart = start;
+    }
+}
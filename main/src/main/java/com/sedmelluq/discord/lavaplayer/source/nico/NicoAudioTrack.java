@@ -2,10 +2,10 @@ package com.sedmelluq.discord.lavaplayer.source.nico;
 
 import com.sedmelluq.discord.lavaplayer.container.mpeg.MpegAudioTrack;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
-import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import com.sedmelluq.discord.lavaplayer.tools.io.StreamingTextExtractor;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.DelegatedAudioTrack;
@@ -15,7 +15,6 @@ import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.util.EntityUtils;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.parser.Parser;
@@ -85,7 +84,7 @@ public class NicoAudioTrack extends DelegatedAudioTrack {
         try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(trackInfo.uri))) {
             HttpClientTools.assertSuccessWithContent(response, "video main page");
 
-            String urlEncodedData = DataFormatTools.extractBetween(EntityUtils.toString(response.getEntity()), "data-api-data=\"", "\"");
+            String urlEncodedData = StreamingTextExtractor.extractBetween(response.getEntity().getContent(), "data-api-data=\"", "\"");
             String watchData = Parser.unescapeEntities(urlEncodedData, false);
 
             return JsonBrowser.parse(watchData);
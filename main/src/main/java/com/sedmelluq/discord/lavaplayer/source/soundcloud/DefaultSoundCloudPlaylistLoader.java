@@ -9,6 +9,7 @@ import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URIBuilder;
@@ -16,9 +17,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -31,9 +38,14 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
     protected static final String PLAYLIST_URL_REGEX = "^(?:http://|https://|)(?:www\\.|)(?:m\\.|)soundcloud\\.com/([a-zA-Z0-9-_:]+)/sets/([a-zA-Z0-9-_:]+)/?([a-zA-Z0-9-_:]+)?(?:\\?.*|)$";
     protected static final Pattern playlistUrlPattern = Pattern.compile(PLAYLIST_URL_REGEX);
 
+    private static final int TRACK_BATCH_SIZE = 50;
+    private static final ExecutorService batchExecutor =
+        Executors.newCachedThreadPool(new DaemonThreadFactory("sc-playlist-batch"));
+
     protected final SoundCloudDataLoader dataLoader;
     protected final SoundCloudDataReader dataReader;
     protected final SoundCloudFormatHandler formatHandler;
+    private volatile int batchConcurrency = 4;
 
     public DefaultSoundCloudPlaylistLoader(
         SoundCloudDataLoader dataLoader,
@@ -45,25 +57,53 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
         this.formatHandler = formatHandler;
     }
 
+    @Override
+    public void setBatchConcurrency(int batchConcurrency) {
+        this.batchConcurrency = batchConcurrency;
+    }
+
     @Override
     public AudioPlaylist load(
         String identifier,
         HttpInterfaceManager httpInterfaceManager,
         Function<AudioTrackInfo, AudioTrack> trackFactory
+    ) {
+        return load(identifier, httpInterfaceManager, trackFactory, null);
+    }
+
+    @Override
+    public AudioPlaylist load(
+        String identifier,
+        HttpInterfaceManager httpInterfaceManager,
+        Function<AudioTrackInfo, AudioTrack> trackFactory,
+        Consumer<List<AudioTrack>> trackListener
     ) {
         String url = SoundCloudHelper.nonMobileUrl(identifier);
 
         if (playlistUrlPattern.matcher(url).matches()) {
-            return loadFromSet(httpInterfaceManager, url, trackFactory);
+            return loadFromSet(httpInterfaceManager, url, trackFactory, trackListener);
         } else {
             return null;
         }
     }
 
+    /**
+     * @deprecated Use {@link #loadFromSet(HttpInterfaceManager, String, Function, Consumer)} instead
+     */
+    @Deprecated
     protected AudioPlaylist loadFromSet(
         HttpInterfaceManager httpInterfaceManager,
         String playlistWebUrl,
         Function<AudioTrackInfo, AudioTrack> trackFactory
+    ) {
+        return loadFromSet(httpInterfaceManager, playlistWebUrl, trackFactory, null);
+    }
+
+    protected AudioPlaylist loadFromSet(
+        HttpInterfaceManager httpInterfaceManager,
+        String playlistWebUrl,
+        Function<AudioTrackInfo, AudioTrack> trackFactory,
+        Consumer<List<AudioTrack>> trackListener
     ) {
         try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
             JsonBrowser rootData = dataLoader.load(httpInterface, playlistWebUrl);
@@ -72,7 +112,7 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
 
             return new BasicAudioPlaylist(
                 dataReader.readPlaylistName(playlistData),
-                loadPlaylistTracks(httpInterface, playlistData, trackFactory),
+                loadPlaylistTracks(httpInterfaceManager, playlistData, trackFactory, trackListener),
                 null,
                 false
             );
@@ -81,6 +121,13 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
         }
     }
 
+    /**
+     * Loads the tracks of the playlist one batch after another with the specified HTTP interface.
+     *
+     * @deprecated Use {@link #loadPlaylistTracks(HttpInterfaceManager, JsonBrowser, Function, Consumer)} instead,
+     * which loads the batches concurrently
+     */
+    @Deprecated
     protected List<AudioTrack> loadPlaylistTracks(
         HttpInterface httpInterface,
         JsonBrowser playlistData,
@@ -92,41 +139,67 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
             .map(dataReader::readTrackId)
             .collect(Collectors.toList());
 
-        int numTrackIds = trackIds.size();
-        List<JsonBrowser> trackDataList = new ArrayList<>();
-
-        for (int i = 0; i < numTrackIds; i += 50) {
-            int last = Math.min(i + 50, numTrackIds);
-            List<String> trackIdSegment = trackIds.subList(i, last);
+        int blockedCount = 0;
+        List<AudioTrack> tracks = new ArrayList<>();
 
-            try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(buildTrackListUrl(trackIdSegment)))) {
-                HttpClientTools.assertSuccessWithContent(response, "track list response");
+        for (int i = 0; i < trackIds.size(); i += TRACK_BATCH_SIZE) {
+            List<String> trackIdSegment = trackIds.subList(i, Math.min(i + TRACK_BATCH_SIZE, trackIds.size()));
+            List<JsonBrowser> trackDataList = loadTrackBatch(httpInterface, trackIdSegment);
+            blockedCount += readBatchTracks(playlistId, trackDataList, trackFactory, tracks);
+        }
 
-                JsonBrowser trackList = JsonBrowser.parse(response.getEntity().getContent());
-                trackDataList.addAll(trackList.values());
-            }
+        if (blockedCount > 0) {
+            log.debug("In soundcloud playlist {}, {} tracks were omitted because they are blocked.",
+                playlistId, blockedCount);
         }
 
-        sortPlaylistTracks(trackDataList, trackIds);
+        return tracks;
+    }
+
+    protected List<AudioTrack> loadPlaylistTracks(
+        HttpInterfaceManager httpInterfaceManager,
+        JsonBrowser playlistData,
+        Function<AudioTrackInfo, AudioTrack> trackFactory,
+        Consumer<List<AudioTrack>> trackListener
+    ) throws IOException {
+        String playlistId = dataReader.readPlaylistIdentifier(playlistData);
 
+        List<String> trackIds = dataReader.readPlaylistTracks(playlistData).stream()
+            .map(dataReader::readTrackId)
+            .collect(Collectors.toList());
+
+        int numTrackIds = trackIds.size();
+        int concurrency = Math.max(1, batchConcurrency);
+        Deque<Future<List<JsonBrowser>>> pendingBatches = new ArrayDeque<>();
+        int nextBatchStart = 0;
         int blockedCount = 0;
         List<AudioTrack> tracks = new ArrayList<>();
 
-        for (JsonBrowser trackData : trackDataList) {
-            if (dataReader.isTrackBlocked(trackData)) {
-                blockedCount++;
-            } else {
-                try {
-                    tracks.add(trackFactory.apply(dataReader.readTrackInfo(
-                        trackData,
-                        formatHandler.buildFormatIdentifier(
-                            formatHandler.chooseBestFormat(dataReader.readTrackFormats(trackData))
-                        )
-                    )));
-                } catch (Exception e) {
-                    log.error("In soundcloud playlist {}, failed to load track", playlistId, e);
+        try {
+            // Batches are requested concurrently, but consumed in playlist order.
+            while (nextBatchStart < numTrackIds || !pendingBatches.isEmpty()) {
+                while (nextBatchStart < numTrackIds && pendingBatches.size() < concurrency) {
+                    List<String> trackIdSegment = trackIds.subList(nextBatchStart,
+                        Math.min(nextBatchStart + TRACK_BATCH_SIZE, numTrackIds));
+
+                    pendingBatches.add(batchExecutor.submit(() -> loadTrackBatch(httpInterfaceManager, trackIdSegment)));
+                    nextBatchStart += TRACK_BATCH_SIZE;
+                }
+
+                List<JsonBrowser> trackDataList = awaitBatch(pendingBatches.poll());
+                List<AudioTrack> batchTracks = new ArrayList<>();
+
+                blockedCount += readBatchTracks(playlistId, trackDataList, trackFactory, batchTracks);
+                tracks.addAll(batchTracks);
+
+                if (trackListener != null && !batchTracks.isEmpty()) {
+                    trackListener.accept(batchTracks);
                 }
             }
+        } finally {
+            for (Future<List<JsonBrowser>> batch : pendingBatches) {
+                batch.cancel(true);
+            }
         }
 
         if (blockedCount > 0) {
@@ -152,6 +225,65 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
         }
     }
 
+    /**
+     * @param trackIds IDs of the tracks in the batch.
+     * @return Track data in the same order as the IDs, with null for the tracks that were not returned.
+     */
+    protected List<JsonBrowser> loadTrackBatch(HttpInterfaceManager httpInterfaceManager, List<String> trackIds)
+        throws IOException {
+
+        try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
+            return loadTrackBatch(httpInterface, trackIds);
+        }
+    }
+
+    /**
+     * @param trackIds IDs of the tracks in the batch.
+     * @return Track data in the same order as the IDs, with null for the tracks that were not returned.
+     */
+    protected List<JsonBrowser> loadTrackBatch(HttpInterface httpInterface, List<String> trackIds) throws IOException {
+        try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(buildTrackListUrl(trackIds)))) {
+            HttpClientTools.assertSuccessWithContent(response, "track list response");
+
+            JsonBrowser trackList = JsonBrowser.parse(response.getEntity().getContent());
+            return orderPlaylistTracks(trackList.values(), trackIds);
+        }
+    }
+
+    private int readBatchTracks(
+        String playlistId,
+        List<JsonBrowser> trackDataList,
+        Function<AudioTrackInfo, AudioTrack> trackFactory,
+        List<AudioTrack> tracks
+    ) {
+        int blockedCount = 0;
+
+        for (JsonBrowser trackData : trackDataList) {
+            if (trackData == null) {
+                continue;
+            } else if (dataReader.isTrackBlocked(trackData)) {
+                blockedCount++;
+            } else {
+                try {
+                    tracks.add(trackFactory.apply(dataReader.readTrackInfo(
+                        trackData,
+                        formatHandler.buildFormatIdentifier(
+                            formatHandler.chooseBestFormat(dataReader.readTrackFormats(trackData))
+                        )
+                    )));
+                } catch (Exception e) {
+                    log.error("In soundcloud playlist {}, failed to load track", playlistId, e);
+                }
+            }
+        }
+
+        return blockedCount;
+    }
+
+    /**
+     * @deprecated Use {@link #orderPlaylistTracks(List, List)} instead
+     */
+    @Deprecated
     protected void sortPlaylistTracks(List<JsonBrowser> trackDataList, List<String> trackIds) {
         Map<String, Integer> positions = new HashMap<>();
 
@@ -163,4 +295,43 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
             positions.getOrDefault(dataReader.readTrackId(trackData), Integer.MAX_VALUE)
         ));
     }
+
+    protected List<JsonBrowser> orderPlaylistTracks(List<JsonBrowser> trackDataList, List<String> trackIds) {
+        Map<String, Integer> positions = new HashMap<>(trackIds.size() * 2);
+
+        for (int i = 0; i < trackIds.size(); i++) {
+            positions.putIfAbsent(trackIds.get(i), i);
+        }
+
+        JsonBrowser[] ordered = new JsonBrowser[trackIds.size()];
+
+        for (JsonBrowser trackData : trackDataList) {
+            Integer position = positions.get(dataReader.readTrackId(trackData));
+
+            if (position != null) {
+                ordered[position] = trackData;
+            }
+        }
+
+        return Arrays.asList(ordered);
+    }
+
+    private static List<JsonBrowser> awaitBatch(Future<List<JsonBrowser>> batch) throws IOException {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading playlist tracks.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw new IOException(e.getCause());
+        }
+    }
 }
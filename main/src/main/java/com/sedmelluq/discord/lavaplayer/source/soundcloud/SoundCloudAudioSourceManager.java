@@ -1,13 +1,18 @@
 package com.sedmelluq.discord.lavaplayer.source.soundcloud;
 
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
-import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.RoutableAudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.http.AdaptiveRateLimiter;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpContentCache;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadConfigurable;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadCounters;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadStatistics;
 import com.sedmelluq.discord.lavaplayer.track.*;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpResponse;
@@ -40,7 +45,7 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
 /**
  * Audio source manager that implements finding SoundCloud tracks based on URL.
  */
-public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpConfigurable {
+public class SoundCloudAudioSourceManager implements RoutableAudioSourceManager, HttpConfigurable, ReadAheadConfigurable {
     private static final int DEFAULT_SEARCH_RESULTS = 10;
     private static final int MAXIMUM_SEARCH_RESULTS = 200;
 
@@ -68,6 +73,10 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
     private final SoundCloudFormatHandler formatHandler;
     private final SoundCloudPlaylistLoader playlistLoader;
     private final HttpInterfaceManager httpInterfaceManager;
+    private final ReadAheadCounters readAheadCounters = new ReadAheadCounters();
+    private volatile int readAheadSize;
+    private volatile HttpContentCache contentCache;
+    private volatile AdaptiveRateLimiter rateLimiter;
     private final SoundCloudClientIdTracker clientIdTracker;
     private final boolean allowSearch;
     private final boolean filterOutPreviewTracks;
@@ -139,6 +148,26 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
         return "soundcloud";
     }
 
+    /**
+     * @param batchConcurrency Maximum number of batches of tracks to resolve concurrently when loading a playlist. One
+     *                         batch contains up to 50 tracks.
+     */
+    public void setPlaylistBatchConcurrency(int batchConcurrency) {
+        playlistLoader.setBatchConcurrency(batchConcurrency);
+    }
+
+    /**
+     * Loads a playlist, passing its tracks to the listener in playlist order as soon as they have been resolved, so that
+     * playback can be started before the whole playlist has been loaded.
+     *
+     * @param identifier    URL of the playlist.
+     * @param trackListener Receives the tracks of the playlist in parts on the loading thread.
+     * @return The loaded playlist, or null if the identifier is not a playlist.
+     */
+    public AudioPlaylist loadPlaylist(String identifier, Consumer<List<AudioTrack>> trackListener) {
+        return playlistLoader.load(identifier, httpInterfaceManager, this::buildTrackFromInfo, trackListener);
+    }
+
     @Override
     public AudioItem loadItem(AudioPlayerManager manager, AudioReference reference) {
         Matcher mobileUrlMatcher = mobileUrlPattern.matcher(reference.identifier);
@@ -168,6 +197,12 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
         return track;
     }
 
+    @Override
+    public boolean canRoute(AudioReference reference) {
+        return reference.identifier.contains("soundcloud.com") ||
+            (allowSearch && reference.identifier.startsWith(SEARCH_PREFIX));
+    }
+
     @Override
     public boolean isTrackEncodable(AudioTrack track) {
         return true;
@@ -185,7 +220,7 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
 
     @Override
     public void shutdown() {
-        // Nothing to shut down
+        clientIdTracker.shutdown();
     }
 
     public String getClientId() {
@@ -199,6 +234,57 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
         return httpInterfaceManager.getInterface();
     }
 
+    @Override
+    public int getReadAheadSize() {
+        return readAheadSize;
+    }
+
+    @Override
+    public void setReadAheadSize(int readAheadSize) {
+        this.readAheadSize = readAheadSize;
+    }
+
+    @Override
+    public ReadAheadStatistics getReadAheadStatistics() {
+        return readAheadCounters.getStatistics();
+    }
+
+    ReadAheadCounters getReadAheadCounters() {
+        return readAheadCounters;
+    }
+
+    /**
+     * @return Disk cache which the content of tracks is read through, null if disabled.
+     */
+    public HttpContentCache getContentCache() {
+        return contentCache;
+    }
+
+    /**
+     * @param contentCache Disk cache to read the content of tracks through, so that replaying or seeking in a track does
+     *                     not download the same ranges again. Null to disable, which is the default. The same cache may
+     *                     be shared between source managers.
+     */
+    public void setContentCache(HttpContentCache contentCache) {
+        this.contentCache = contentCache;
+    }
+
+    /**
+     * @return Rate limiter which requests to SoundCloud wait for, null if disabled.
+     */
+    public AdaptiveRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * @param rateLimiter Rate limiter which all requests to SoundCloud wait for, so that loads queue up instead of failing
+     *                    when SoundCloud starts responding with 429. Null to disable, which is the default.
+     */
+    public void setRateLimiter(AdaptiveRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        httpInterfaceManager.setRateLimiter(rateLimiter);
+    }
+
     @Override
     public void configureRequests(Function<RequestConfig, RequestConfig> configurator) {
         httpInterfaceManager.configureRequests(configurator);
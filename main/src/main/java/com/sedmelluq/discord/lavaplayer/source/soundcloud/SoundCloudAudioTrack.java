@@ -3,8 +3,11 @@ package com.sedmelluq.discord.lavaplayer.source.soundcloud;
 import com.sedmelluq.discord.lavaplayer.container.mp3.Mp3AudioTrack;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpContentCache;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.PersistentHttpStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadSeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.DelegatedAudioTrack;
@@ -57,7 +60,7 @@ public class SoundCloudAudioTrack extends DelegatedAudioTrack {
 
         if (mp3LookupUrl != null) {
             String playbackUrl = SoundCloudHelper.loadPlaybackUrl(httpInterface, identifier.substring(2));
-            loadFromMp3Url(localExecutor, httpInterface, playbackUrl);
+            loadFromMp3Url(localExecutor, httpInterface, identifier, playbackUrl);
             return;
         }
 
@@ -72,6 +75,7 @@ public class SoundCloudAudioTrack extends DelegatedAudioTrack {
     private void loadFromMp3Url(
         LocalAudioTrackExecutor localExecutor,
         HttpInterface httpInterface,
+        String formatIdentifier,
         String trackUrl
     ) throws Exception {
         log.debug("Starting SoundCloud track from URL: {}", trackUrl);
@@ -81,7 +85,15 @@ public class SoundCloudAudioTrack extends DelegatedAudioTrack {
                 throw new IOException("Invalid status code for soundcloud stream: " + stream.checkStatusCode());
             }
 
-            processDelegate(new Mp3AudioTrack(trackInfo, stream), localExecutor);
+            // Keyed by the identifier of the chosen transcoding rather than the track, so that a cached copy of one format is
+            // never served for another.
+            String cacheKey = sourceManager.getSourceName() + ":" + formatIdentifier;
+
+            try (SeekableInputStream cachedStream = HttpContentCache.wrap(sourceManager.getContentCache(), stream, cacheKey);
+                 SeekableInputStream readAheadStream = ReadAheadSeekableInputStream.wrap(cachedStream, sourceManager.getReadAheadSize(),
+                     sourceManager.getReadAheadCounters())) {
+                processDelegate(new Mp3AudioTrack(trackInfo, readAheadStream), localExecutor);
+            }
         }
     }
 
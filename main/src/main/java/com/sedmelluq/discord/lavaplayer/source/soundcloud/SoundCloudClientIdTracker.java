@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.source.soundcloud;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.protocol.HttpClientContext;
@@ -11,6 +12,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -26,10 +31,15 @@ public class SoundCloudClientIdTracker {
     private static final Pattern pageAppScriptPattern = Pattern.compile(PAGE_APP_SCRIPT_REGEX);
     private static final Pattern appScriptClientIdPattern = Pattern.compile(APP_SCRIPT_CLIENT_ID_REGEX);
 
+    private static final ScheduledExecutorService refreshExecutor =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("sc-client-id"));
+
     private final Object clientIdLock = new Object();
     private final HttpInterfaceManager httpInterfaceManager;
-    private String clientId;
+    private volatile String clientId;
     private long lastClientIdUpdate;
+    private ScheduledFuture<?> scheduledRefresh;
+    private boolean shutdown;
 
     public SoundCloudClientIdTracker(HttpInterfaceManager httpInterfaceManager) {
         this.httpInterfaceManager = httpInterfaceManager;
@@ -52,6 +62,7 @@ public class SoundCloudClientIdTracker {
             try {
                 clientId = findClientIdFromSite();
                 log.info("Updating SoundCloud client ID succeeded, new ID is {}.", clientId);
+                scheduleRefresh();
             } catch (Exception e) {
                 log.error("SoundCloud client ID update failed.", e);
             }
@@ -59,6 +70,12 @@ public class SoundCloudClientIdTracker {
     }
 
     public String getClientId() {
+        String currentClientId = clientId;
+
+        if (currentClientId != null) {
+            return currentClientId;
+        }
+
         synchronized (clientIdLock) {
             if (clientId == null) {
                 updateClientId();
@@ -68,10 +85,64 @@ public class SoundCloudClientIdTracker {
         }
     }
 
+    /**
+     * Stops refreshing the client ID in the background.
+     */
+    public void shutdown() {
+        synchronized (clientIdLock) {
+            shutdown = true;
+
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+                scheduledRefresh = null;
+            }
+        }
+    }
+
     public boolean isIdFetchContext(HttpClientContext context) {
         return context.getAttribute(ID_FETCH_CONTEXT_ATTRIBUTE) == Boolean.TRUE;
     }
 
+    private void scheduleRefresh() {
+        if (shutdown) {
+            return;
+        }
+
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+
+        try {
+            scheduledRefresh = refreshExecutor.schedule(this::refreshInBackground, CLIENT_ID_REFRESH_INTERVAL,
+                TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Could not schedule SoundCloud client ID refresh.", e);
+        }
+    }
+
+    private void refreshInBackground() {
+        synchronized (clientIdLock) {
+            scheduledRefresh = null;
+
+            if (shutdown) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+
+            try {
+                // Readers keep using the previous ID until the new one is known.
+                clientId = findClientIdFromSite();
+                lastClientIdUpdate = now;
+                log.debug("Refreshed SoundCloud client ID in the background, new ID is {}.", clientId);
+                scheduleRefresh();
+            } catch (Exception e) {
+                // Allows the next unauthorized response to update it right away.
+                lastClientIdUpdate = 0;
+                log.warn("Background refresh of SoundCloud client ID failed, it will be updated on demand instead.", e);
+            }
+        }
+    }
+
     private String findClientIdFromSite() throws IOException {
         try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
             httpInterface.getContext().setAttribute(ID_FETCH_CONTEXT_ATTRIBUTE, true);
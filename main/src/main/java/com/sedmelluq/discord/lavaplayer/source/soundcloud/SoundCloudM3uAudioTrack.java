@@ -6,6 +6,7 @@ import com.sedmelluq.discord.lavaplayer.tools.http.HttpStreamTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.ChainedInputStream;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.NonSeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.PrefetchingStreamProvider;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.DelegatedAudioTrack;
@@ -19,11 +20,13 @@ import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
     private static final Logger log = LoggerFactory.getLogger(SoundCloudM3uAudioTrack.class);
 
     private static final long SEGMENT_UPDATE_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+    private static final int SEGMENT_PREFETCH_COUNT = 2;
 
     private final HttpInterface httpInterface;
     private final SoundCloudM3uInfo m3uInfo;
@@ -77,7 +80,13 @@ public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
         }
 
         private SeekableInputStream createChainedStream() {
-            return new NonSeekableInputStream(new ChainedInputStream(this::getNextStream));
+            // Segments are fetched in the background, so the position is tracked per stream instead of in segmentIndex.
+            AtomicInteger nextIndex = new AtomicInteger(segmentIndex);
+
+            return new NonSeekableInputStream(new ChainedInputStream(new PrefetchingStreamProvider(
+                () -> getSegmentStream(nextIndex.getAndIncrement()),
+                SEGMENT_PREFETCH_COUNT
+            )));
         }
 
         private void seekToTimecode(long timecode) throws IOException {
@@ -119,8 +128,8 @@ public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
             segmentIndex = segments.size();
         }
 
-        private InputStream getNextStream() {
-            HlsStreamSegment segment = getNextSegment();
+        private InputStream getSegmentStream(int index) {
+            HlsStreamSegment segment = getSegment(index);
 
             if (segment == null) {
                 return null;
@@ -153,7 +162,7 @@ public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
             }
         }
 
-        private void checkSegmentListUpdate() {
+        private synchronized void checkSegmentListUpdate() {
             long now = System.currentTimeMillis();
             long delta = now - lastUpdate;
 
@@ -165,12 +174,10 @@ public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
             }
         }
 
-        private HlsStreamSegment getNextSegment() {
-            int current = segmentIndex++;
-
-            if (current < segments.size()) {
+        private synchronized HlsStreamSegment getSegment(int index) {
+            if (index < segments.size()) {
                 checkSegmentListUpdate();
-                return segments.get(current);
+                return segments.get(index);
             } else {
                 return null;
             }
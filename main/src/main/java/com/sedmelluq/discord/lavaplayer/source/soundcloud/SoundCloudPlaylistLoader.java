@@ -5,6 +5,8 @@ import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public interface SoundCloudPlaylistLoader {
@@ -13,4 +15,32 @@ public interface SoundCloudPlaylistLoader {
         HttpInterfaceManager httpInterfaceManager,
         Function<AudioTrackInfo, AudioTrack> trackFactory
     );
+
+    /**
+     * Loads a playlist, passing its tracks to the listener in playlist order as soon as they have been loaded.
+     *
+     * @param trackListener Receives the tracks of the playlist in parts on the loading thread, may be null.
+     * @return The loaded playlist, or null if the identifier is not a playlist.
+     */
+    default AudioPlaylist load(
+        String identifier,
+        HttpInterfaceManager httpInterfaceManager,
+        Function<AudioTrackInfo, AudioTrack> trackFactory,
+        Consumer<List<AudioTrack>> trackListener
+    ) {
+        AudioPlaylist playlist = load(identifier, httpInterfaceManager, trackFactory);
+
+        if (trackListener != null && playlist != null && !playlist.getTracks().isEmpty()) {
+            trackListener.accept(playlist.getTracks());
+        }
+
+        return playlist;
+    }
+
+    /**
+     * @param batchConcurrency Maximum number of batches of tracks to resolve concurrently for one playlist.
+     */
+    default void setBatchConcurrency(int batchConcurrency) {
+        // Sequential by default.
+    }
 }
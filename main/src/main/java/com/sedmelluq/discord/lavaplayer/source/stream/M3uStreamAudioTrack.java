@@ -31,8 +31,10 @@ public abstract class M3uStreamAudioTrack extends DelegatedAudioTrack {
     @Override
     public void process(LocalAudioTrackExecutor localExecutor) throws Exception {
         try (final HttpInterface httpInterface = getHttpInterface()) {
-            try (ChainedInputStream chainedInputStream = new ChainedInputStream(() -> getSegmentUrlProvider().getNextSegmentStream(httpInterface))) {
+            try (ChainedInputStream chainedInputStream = new ChainedInputStream(getSegmentUrlProvider().createSegmentStreamProvider(httpInterface))) {
                 processJoinedStream(localExecutor, chainedInputStream);
+            } finally {
+                getSegmentUrlProvider().close();
             }
         }
     }
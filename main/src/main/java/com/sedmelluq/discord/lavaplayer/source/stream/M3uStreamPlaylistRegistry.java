@@ -0,0 +1,334 @@
+package com.sedmelluq.discord.lavaplayer.source.stream;
+
+import com.sedmelluq.discord.lavaplayer.source.stream.M3uStreamSegmentUrlProvider.SegmentInfo;
+import com.sedmelluq.discord.lavaplayer.source.stream.M3uStreamSegmentUrlProvider.SegmentPlaylist;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import org.apache.http.client.methods.HttpGet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools.fetchPlaybackResponseLines;
+
+/**
+ * Registry of live media playlists followed by stream segment providers. Each playlist URL is polled by a single
+ * background task regardless of how many providers follow it, and the parsed playlist is shared between all of them.
+ * Polling of a playlist stops once its last subscription is closed.
+ *
+ * There is one registry shared by all source managers. A source manager which creates tracks following it acquires it
+ * with {@link #acquireShared()} and releases it with {@link #release()} when it is shut down. The registry is shut down
+ * once the last source manager has released it.
+ */
+public class M3uStreamPlaylistRegistry {
+    private static final Logger log = LoggerFactory.getLogger(M3uStreamPlaylistRegistry.class);
+
+    private static final int POLLER_THREAD_COUNT = 4;
+    private static final long MINIMUM_POLL_INTERVAL_MS = 200;
+    private static final long ERROR_POLL_INTERVAL_MS = 1000;
+
+    private static final ScheduledThreadPoolExecutor executor = createExecutor();
+
+    private static M3uStreamPlaylistRegistry shared;
+    private static int sharedReferenceCount;
+
+    private final Map<String, Poller> pollers;
+    private boolean shutdown;
+
+    private M3uStreamPlaylistRegistry() {
+        this.pollers = new HashMap<>();
+    }
+
+    /**
+     * @return The shared registry. Must be released with {@link #release()} once it is no longer used, usually when the
+     *         source manager which acquired it is shut down.
+     */
+    public static M3uStreamPlaylistRegistry acquireShared() {
+        synchronized (M3uStreamPlaylistRegistry.class) {
+            if (shared == null) {
+                shared = new M3uStreamPlaylistRegistry();
+            }
+
+            sharedReferenceCount++;
+            return shared;
+        }
+    }
+
+    /**
+     * @return The shared registry if some source manager currently holds it, otherwise <code>null</code>.
+     */
+    public static M3uStreamPlaylistRegistry getSharedIfAcquired() {
+        synchronized (M3uStreamPlaylistRegistry.class) {
+            return shared;
+        }
+    }
+
+    /**
+     * Releases a reference acquired with {@link #acquireShared()}. When the last reference is released, the registry is
+     * shut down.
+     */
+    public void release() {
+        synchronized (M3uStreamPlaylistRegistry.class) {
+            if (shared != this || --sharedReferenceCount > 0) {
+                return;
+            }
+
+            shared = null;
+        }
+
+        shutdown();
+    }
+
+    private static ScheduledThreadPoolExecutor createExecutor() {
+        // Shared by all registries, the threads time out when no playlists are being polled.
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(POLLER_THREAD_COUNT,
+            new DaemonThreadFactory("playlist-poller"));
+
+        executor.setKeepAliveTime(30, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * @return Number of playlists which are currently being polled.
+     */
+    public synchronized int getPolledPlaylistCount() {
+        return pollers.size();
+    }
+
+    /**
+     * Stops polling all playlists. Waiting subscribers receive an error.
+     */
+    private synchronized void shutdown() {
+        shutdown = true;
+
+        for (Poller poller : pollers.values()) {
+            poller.cancel();
+            poller.publish(null, new IOException("Playlist registry has been shut down."));
+        }
+
+        pollers.clear();
+    }
+
+    /**
+     * @param playlistUrl          URL of the playlist to follow.
+     * @param httpInterfaceManager HTTP interface manager to fetch the playlist with, if this subscription starts polling
+     *                             it. Otherwise the playlist keeps being fetched with the manager of the subscription
+     *                             which started polling it.
+     * @param parser               Parser for the playlist, used in the same way as the HTTP interface manager.
+     * @return Subscription to the playlist, which must be closed once it is no longer followed.
+     */
+    synchronized Subscription subscribe(String playlistUrl, HttpInterfaceManager httpInterfaceManager,
+                                        Function<String[], SegmentPlaylist> parser) {
+        if (shutdown) {
+            throw new IllegalStateException("Playlist registry has been shut down.");
+        }
+
+        Poller poller = pollers.get(playlistUrl);
+
+        if (poller == null) {
+            poller = new Poller(playlistUrl, httpInterfaceManager, parser);
+            pollers.put(playlistUrl, poller);
+            poller.schedule(0);
+
+            log.debug("Started polling playlist {}.", playlistUrl);
+        }
+
+        poller.subscriberCount++;
+        return new Subscription(poller);
+    }
+
+    private synchronized void unsubscribe(Poller poller) {
+        if (--poller.subscriberCount == 0 && pollers.remove(poller.playlistUrl, poller)) {
+            poller.cancel();
+
+            log.debug("Stopped polling playlist {}, no more subscribers.", poller.playlistUrl);
+        }
+    }
+
+    private synchronized boolean isActive(Poller poller) {
+        return pollers.get(poller.playlistUrl) == poller;
+    }
+
+    /**
+     * Subscription of one segment provider to a playlist.
+     */
+    class Subscription implements AutoCloseable {
+        private final Poller poller;
+        private long lastVersion;
+        private SegmentPlaylist lastPlaylist;
+        private boolean closed;
+
+        private Subscription(Poller poller) {
+            this.poller = poller;
+        }
+
+        boolean isFor(String playlistUrl) {
+            return poller.playlistUrl.equals(playlistUrl);
+        }
+
+        /**
+         * Waits until the playlist has changed since the previous call of this method. The timeout only applies once the
+         * playlist has been loaded at least once.
+         *
+         * @param timeout Maximum time to wait for a change in milliseconds.
+         * @return The changed playlist, or the same playlist as on the previous call if it did not change in time.
+         * @throws IOException If the last poll of the playlist failed.
+         * @throws InterruptedException When interrupted while waiting.
+         */
+        SegmentPlaylist awaitUpdate(long timeout) throws IOException, InterruptedException {
+            Snapshot snapshot = poller.awaitSnapshot(lastVersion, lastPlaylist != null ? timeout : Long.MAX_VALUE);
+
+            if (snapshot.version != lastVersion) {
+                lastVersion = snapshot.version;
+
+                if (snapshot.error != null) {
+                    throw new IOException("Failed to poll playlist " + poller.playlistUrl, snapshot.error);
+                }
+
+                lastPlaylist = snapshot.playlist;
+            }
+
+            return lastPlaylist;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                unsubscribe(poller);
+            }
+        }
+    }
+
+    private class Poller implements Runnable {
+        private final String playlistUrl;
+        private final HttpInterfaceManager httpInterfaceManager;
+        private final Function<String[], SegmentPlaylist> parser;
+        private int subscriberCount;
+        private ScheduledFuture<?> future;
+        private Snapshot snapshot;
+
+        private Poller(String playlistUrl, HttpInterfaceManager httpInterfaceManager,
+                       Function<String[], SegmentPlaylist> parser) {
+
+            this.playlistUrl = playlistUrl;
+            this.httpInterfaceManager = httpInterfaceManager;
+            this.parser = parser;
+        }
+
+        @Override
+        public void run() {
+            SegmentPlaylist playlist;
+
+            try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
+                playlist = parser.apply(
+                    fetchPlaybackResponseLines(httpInterface, new HttpGet(playlistUrl), "stream segments list")
+                );
+            } catch (Exception e) {
+                log.debug("Failed to poll playlist {}.", playlistUrl, e);
+
+                publish(null, e);
+                scheduleIfActive(ERROR_POLL_INTERVAL_MS);
+                return;
+            }
+
+            boolean changed = publish(playlist, null);
+
+            if (!playlist.ended) {
+                scheduleIfActive(getPollInterval(playlist, changed));
+            }
+        }
+
+        private void schedule(long delay) {
+            future = executor.schedule(this, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void scheduleIfActive(long delay) {
+            synchronized (M3uStreamPlaylistRegistry.this) {
+                if (isActive(this)) {
+                    schedule(delay);
+                }
+            }
+        }
+
+        private void cancel() {
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        private synchronized boolean publish(SegmentPlaylist playlist, Throwable error) {
+            if (error == null && snapshot != null && snapshot.playlist != null &&
+                isSameSegmentList(snapshot.playlist.segments, playlist.segments)) {
+
+                return false;
+            }
+
+            long version = snapshot != null ? snapshot.version + 1 : 1;
+            snapshot = new Snapshot(version, playlist, error);
+            notifyAll();
+            return true;
+        }
+
+        private synchronized Snapshot awaitSnapshot(long knownVersion, long timeout) throws InterruptedException {
+            long deadline = timeout == Long.MAX_VALUE ? Long.MAX_VALUE : System.currentTimeMillis() + timeout;
+
+            while (snapshot == null || snapshot.version == knownVersion) {
+                long remaining = deadline - System.currentTimeMillis();
+
+                if (remaining <= 0) {
+                    break;
+                }
+
+                wait(remaining);
+            }
+
+            return snapshot != null ? snapshot : new Snapshot(0, null, null);
+        }
+    }
+
+    private static long getPollInterval(SegmentPlaylist playlist, boolean changed) {
+        if (playlist.targetDuration == null) {
+            return MINIMUM_POLL_INTERVAL_MS;
+        }
+
+        return Math.max(MINIMUM_POLL_INTERVAL_MS, changed ? playlist.targetDuration : playlist.targetDuration / 2);
+    }
+
+    private static boolean isSameSegmentList(List<SegmentInfo> first, List<SegmentInfo> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < first.size(); i++) {
+            if (!first.get(i).url.equals(second.get(i).url)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final SegmentPlaylist playlist;
+        private final Throwable error;
+
+        private Snapshot(long version, SegmentPlaylist playlist, Throwable error) {
+            this.version = version;
+            this.playlist = playlist;
+            this.error = error;
+        }
+    }
+}
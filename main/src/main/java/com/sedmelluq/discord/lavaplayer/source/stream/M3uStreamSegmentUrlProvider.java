@@ -3,8 +3,11 @@ package com.sedmelluq.discord.lavaplayer.source.stream;
 import com.sedmelluq.discord.lavaplayer.container.playlists.ExtendedM3uParser;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.io.ChainedInputStream;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
+import com.sedmelluq.discord.lavaplayer.tools.io.PrefetchingStreamProvider;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -14,25 +17,47 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 
 import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.SUSPICIOUS;
-import static com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools.fetchResponseLines;
+import static com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools.fetchPlaybackResponseLines;
 
 /**
  * Provides track segment URLs for streams which use the M3U segment format. There is a base M3U containing the list of
  * different available streams. Those point to segment M3U urls, which always give the direct stream URLs of last X
  * segments. The segment provider fetches the stream for the next segment on each call to
- * {@link M3uStreamSegmentUrlProvider#getNextSegmentStream}.
+ * {@link M3uStreamSegmentUrlProvider#getNextSegmentStream}, or ahead of time in the background when reading through
+ * {@link M3uStreamSegmentUrlProvider#createSegmentStreamProvider}.
  */
-public abstract class M3uStreamSegmentUrlProvider {
+public abstract class M3uStreamSegmentUrlProvider implements AutoCloseable {
     private static final long SEGMENT_WAIT_STEP_MS = 200;
     private static final RequestConfig streamingRequestConfig = RequestConfig.custom().setSocketTimeout(5000).setConnectionRequestTimeout(5000).setConnectTimeout(5000).build();
 
+    private static final int DEFAULT_PREFETCH_SEGMENT_COUNT = 2;
+
     protected String baseUrl;
     protected SegmentInfo lastSegment;
 
+    private final Deque<SegmentInfo> pendingSegments = new ArrayDeque<>();
+    private String pendingPlaylistUrl;
+    private Long targetDuration;
+    private boolean playlistEnded;
+    private long nextPlaylistRefreshTime;
+    private SegmentPlaylist lowLatencyPlaylist;
+    private long lowLatencySequence = -1;
+    private int lowLatencyPart;
+    private String lastPreloadHintUrl;
+    private volatile int prefetchSegmentCount = DEFAULT_PREFETCH_SEGMENT_COUNT;
+    private M3uStreamPlaylistRegistry playlistRegistry;
+    private HttpInterfaceManager playlistHttpInterfaceManager;
+    private M3uStreamPlaylistRegistry.Subscription playlistSubscription;
+    private boolean closed;
+
     protected M3uStreamSegmentUrlProvider() {
         this(null);
     }
@@ -64,7 +89,9 @@ public abstract class M3uStreamSegmentUrlProvider {
     protected abstract String fetchSegmentPlaylistUrl(HttpInterface httpInterface) throws IOException;
 
     /**
-     * Logic for getting the URL for the next segment.
+     * Logic for getting the URL for the next segment. Segments from the last loaded playlist which have not been played
+     * yet are returned without reloading it. Once those run out, the playlist is reloaded according to its
+     * EXT-X-TARGETDURATION: one target duration after a reload which produced new segments, half of it otherwise.
      *
      * @param httpInterface HTTP interface to use for any requests required to perform to find the segment URL.
      * @return The direct stream URL of the next segment.
@@ -76,22 +103,40 @@ public abstract class M3uStreamSegmentUrlProvider {
                 return null;
             }
 
+            if (!streamSegmentPlaylistUrl.equals(pendingPlaylistUrl)) {
+                pendingSegments.clear();
+                pendingPlaylistUrl = streamSegmentPlaylistUrl;
+            }
+
+            if (lowLatencyPlaylist != null) {
+                return getNextPartUrl(httpInterface, streamSegmentPlaylistUrl);
+            }
+
             long startTime = System.currentTimeMillis();
             SegmentInfo nextSegment;
 
-            while (true) {
-                List<SegmentInfo> segments = loadStreamSegmentsList(httpInterface, streamSegmentPlaylistUrl);
-                nextSegment = chooseNextSegment(segments, lastSegment);
+            while ((nextSegment = pendingSegments.poll()) == null) {
+                if (playlistEnded) {
+                    return null;
+                }
+
+                SegmentPlaylist playlist = loadNextPlaylist(httpInterface, streamSegmentPlaylistUrl);
 
-                if (nextSegment != null || !shouldWaitForSegment(startTime, segments)) {
-                    break;
+                if (lastSegment == null && playlist.isLowLatency()) {
+                    lowLatencyPlaylist = playlist;
+                    return getNextPartUrl(httpInterface, streamSegmentPlaylistUrl);
                 }
 
-                Thread.sleep(SEGMENT_WAIT_STEP_MS);
-            }
+                List<SegmentInfo> newSegments = chooseNewSegments(playlist.segments, lastSegment);
 
-            if (nextSegment == null) {
-                return null;
+                pendingSegments.addAll(newSegments);
+                targetDuration = playlist.targetDuration;
+                playlistEnded = playlist.ended;
+                nextPlaylistRefreshTime = System.currentTimeMillis() + getPlaylistRefreshDelay(!newSegments.isEmpty());
+
+                if (newSegments.isEmpty() && !shouldWaitForSegment(startTime, playlist.segments)) {
+                    return null;
+                }
             }
 
             lastSegment = nextSegment;
@@ -103,6 +148,236 @@ public abstract class M3uStreamSegmentUrlProvider {
         }
     }
 
+    /**
+     * Low-latency variant of {@link #getNextSegmentUrl}, used when the playlist lists partial segments and supports
+     * blocking reloads. Playback starts PART-HOLD-BACK behind the live edge, continues part by part and uses the preload
+     * hint for the part which is not published yet. The playlist is reloaded with _HLS_msn and _HLS_part set to the next
+     * part, so the server responds as soon as that part is available.
+     */
+    private String getNextPartUrl(HttpInterface httpInterface, String playlistUrl) throws IOException, InterruptedException {
+        if (lowLatencySequence < 0) {
+            initializeLowLatencyPosition(lowLatencyPlaylist);
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            String partUrl = chooseNextPartUrl(lowLatencyPlaylist);
+
+            if (partUrl != null) {
+                return createSegmentUrl(playlistUrl, partUrl);
+            } else if (lowLatencyPlaylist.ended) {
+                return null;
+            } else if (attempt > 0) {
+                // Server did not block until the requested part was available, avoid reloading in a tight loop.
+                Thread.sleep(Math.max(1, lowLatencyPlaylist.partTargetDuration / 2));
+            }
+
+            lowLatencyPlaylist = loadStreamSegmentPlaylist(httpInterface, createBlockingReloadUrl(playlistUrl));
+        }
+    }
+
+    private String createBlockingReloadUrl(String playlistUrl) {
+        return playlistUrl + (playlistUrl.contains("?") ? "&" : "?") +
+            "_HLS_msn=" + lowLatencySequence + "&_HLS_part=" + lowLatencyPart;
+    }
+
+    private void initializeLowLatencyPosition(SegmentPlaylist playlist) {
+        long holdBack = playlist.partHoldBack != null ? playlist.partHoldBack : playlist.partTargetDuration * 3;
+        boolean hasIndependentParts = playlist.pendingParts.stream().anyMatch(part -> part.independent) ||
+            playlist.segments.stream().anyMatch(segment -> segment.parts.stream().anyMatch(part -> part.independent));
+
+        long accumulated = 0;
+        lowLatencySequence = playlist.mediaSequence + playlist.segments.size();
+        lowLatencyPart = playlist.pendingParts.size();
+
+        for (int segmentIndex = playlist.segments.size(); segmentIndex >= 0; segmentIndex--) {
+            List<PartInfo> parts = segmentIndex == playlist.segments.size() ?
+                playlist.pendingParts : playlist.segments.get(segmentIndex).parts;
+
+            if (segmentIndex < playlist.segments.size() && parts.isEmpty()) {
+                break;
+            }
+
+            for (int i = parts.size() - 1; i >= 0; i--) {
+                PartInfo part = parts.get(i);
+
+                lowLatencySequence = playlist.mediaSequence + segmentIndex;
+                lowLatencyPart = i;
+                accumulated += part.duration != null ? part.duration : playlist.partTargetDuration;
+
+                if (accumulated >= holdBack && (!hasIndependentParts || part.independent)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private String chooseNextPartUrl(SegmentPlaylist playlist) {
+        while (true) {
+            long index = lowLatencySequence - playlist.mediaSequence;
+
+            if (index < 0) {
+                // Fell behind the playlist window, continue from the oldest segment still listed.
+                lowLatencySequence = playlist.mediaSequence;
+                lowLatencyPart = 0;
+                continue;
+            }
+
+            List<PartInfo> parts;
+
+            if (index < playlist.segments.size()) {
+                SegmentInfo segment = playlist.segments.get((int) index);
+
+                if (segment.parts.isEmpty()) {
+                    int part = lowLatencyPart;
+                    moveToNextSequence();
+
+                    if (part == 0) {
+                        return segment.url;
+                    }
+
+                    continue;
+                }
+
+                parts = segment.parts;
+            } else if (index == playlist.segments.size()) {
+                parts = playlist.pendingParts;
+            } else {
+                return null;
+            }
+
+            if (lowLatencyPart < parts.size()) {
+                String url = parts.get(lowLatencyPart++).url;
+
+                // The part played from the preload hint may turn out to be the first part of the next segment.
+                if (!url.equals(lastPreloadHintUrl)) {
+                    return url;
+                }
+            } else if (index < playlist.segments.size()) {
+                moveToNextSequence();
+            } else if (playlist.preloadHintUrl != null && !playlist.preloadHintUrl.equals(lastPreloadHintUrl)) {
+                lowLatencyPart++;
+                lastPreloadHintUrl = playlist.preloadHintUrl;
+                return lastPreloadHintUrl;
+            } else {
+                return null;
+            }
+        }
+    }
+
+    private void moveToNextSequence() {
+        lowLatencySequence++;
+        lowLatencyPart = 0;
+    }
+
+    private SegmentPlaylist loadNextPlaylist(HttpInterface httpInterface, String playlistUrl)
+        throws IOException, InterruptedException {
+
+        M3uStreamPlaylistRegistry.Subscription subscription = obtainPlaylistSubscription(playlistUrl);
+
+        if (subscription != null) {
+            // Allow for one reload of an unchanged playlist on top of the usual interval, as polling is not aligned with
+            // the time this provider started waiting.
+            return subscription.awaitUpdate(getPlaylistRefreshDelay(true) + getPlaylistRefreshDelay(false));
+        }
+
+        long refreshDelay = nextPlaylistRefreshTime - System.currentTimeMillis();
+
+        if (refreshDelay > 0) {
+            Thread.sleep(refreshDelay);
+        }
+
+        return loadStreamSegmentPlaylist(httpInterface, playlistUrl);
+    }
+
+    private synchronized M3uStreamPlaylistRegistry.Subscription obtainPlaylistSubscription(String playlistUrl) {
+        if (closed) {
+            throw new IllegalStateException("Segment provider has been closed.");
+        } else if (playlistRegistry == null) {
+            return null;
+        }
+
+        if (playlistSubscription != null && !playlistSubscription.isFor(playlistUrl)) {
+            playlistSubscription.close();
+            playlistSubscription = null;
+        }
+
+        if (playlistSubscription == null) {
+            playlistSubscription = playlistRegistry.subscribe(playlistUrl, playlistHttpInterfaceManager,
+                this::parseSegmentPlaylist);
+        }
+
+        return playlistSubscription;
+    }
+
+    private List<SegmentInfo> chooseNewSegments(List<SegmentInfo> segments, SegmentInfo lastSegment) {
+        SegmentInfo nextSegment = chooseNextSegment(segments, lastSegment);
+
+        if (nextSegment == null) {
+            return Collections.emptyList();
+        }
+
+        return segments.subList(segments.indexOf(nextSegment), segments.size());
+    }
+
+    private long getPlaylistRefreshDelay(boolean playlistChanged) {
+        if (targetDuration == null) {
+            return SEGMENT_WAIT_STEP_MS;
+        }
+
+        return Math.max(SEGMENT_WAIT_STEP_MS, playlistChanged ? targetDuration : targetDuration / 2);
+    }
+
+    /**
+     * @param prefetchSegmentCount Number of segments to download ahead of the one currently being played, 0 to only
+     *                             start downloading a segment once the previous one has been fully read.
+     */
+    public void setPrefetchSegmentCount(int prefetchSegmentCount) {
+        this.prefetchSegmentCount = prefetchSegmentCount;
+    }
+
+    /**
+     * @param playlistRegistry     Registry through which to follow the segment playlist, so that its polling is shared
+     *                             with other providers playing the same stream. <code>null</code> to poll it
+     *                             independently.
+     * @param httpInterfaceManager HTTP interface manager for the registry to fetch the segment playlist with.
+     */
+    public synchronized void setPlaylistRegistry(M3uStreamPlaylistRegistry playlistRegistry,
+                                                 HttpInterfaceManager httpInterfaceManager) {
+
+        this.playlistRegistry = playlistRegistry;
+        this.playlistHttpInterfaceManager = httpInterfaceManager;
+    }
+
+    /**
+     * Releases the subscription to the shared playlist registry, if there is one. The provider cannot be used afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+
+        if (playlistSubscription != null) {
+            playlistSubscription.close();
+            playlistSubscription = null;
+        }
+    }
+
+    /**
+     * Creates a provider for the streams of consecutive segments, to be joined with a {@link ChainedInputStream}. If
+     * segment prefetching is enabled, the segments are downloaded in the background ahead of time.
+     *
+     * @param httpInterface HTTP interface to use for all requests of the provider.
+     * @return Provider for segment streams.
+     */
+    public ChainedInputStream.Provider createSegmentStreamProvider(HttpInterface httpInterface) {
+        ChainedInputStream.Provider provider = () -> getNextSegmentStream(httpInterface);
+
+        if (prefetchSegmentCount > 0) {
+            return new PrefetchingStreamProvider(provider, prefetchSegmentCount);
+        } else {
+            return provider;
+        }
+    }
+
     /**
      * Fetches the input stream for the next segment in the M3U stream.
      *
@@ -120,7 +395,7 @@ public abstract class M3uStreamSegmentUrlProvider {
         boolean success = false;
 
         try {
-            response = httpInterface.execute(createSegmentGetRequest(url));
+            response = httpInterface.executeForPlayback(createSegmentGetRequest(url));
             int statusCode = response.getStatusLine().getStatusCode();
 
             if (!HttpClientTools.isSuccessWithContent(statusCode)) {
@@ -178,31 +453,114 @@ public abstract class M3uStreamSegmentUrlProvider {
         return streams;
     }
 
-    protected List<SegmentInfo> loadStreamSegmentsList(HttpInterface httpInterface, String streamSegmentPlaylistUrl) throws IOException {
+    protected SegmentPlaylist loadStreamSegmentPlaylist(HttpInterface httpInterface, String streamSegmentPlaylistUrl)
+        throws IOException {
+
+        return parseSegmentPlaylist(
+            fetchPlaybackResponseLines(httpInterface, new HttpGet(streamSegmentPlaylistUrl), "stream segments list")
+        );
+    }
+
+    /**
+     * Parses a segment playlist. Can be overridden to handle directives which are specific to one source.
+     *
+     * @param lines Lines of the segment playlist.
+     * @return The parsed playlist.
+     */
+    protected SegmentPlaylist parseSegmentPlaylist(String[] lines) {
+        return parseStreamSegmentPlaylist(lines);
+    }
+
+    /**
+     * @param httpInterface            HTTP interface to use for fetching the playlist.
+     * @param streamSegmentPlaylistUrl URL of the segment playlist.
+     * @return The segments listed in the playlist.
+     * @throws IOException On network error.
+     * @deprecated Use {@link #loadStreamSegmentPlaylist(HttpInterface, String)} instead
+     */
+    @Deprecated
+    protected List<SegmentInfo> loadStreamSegmentsList(HttpInterface httpInterface, String streamSegmentPlaylistUrl)
+        throws IOException {
+
+        return loadStreamSegmentPlaylist(httpInterface, streamSegmentPlaylistUrl).segments;
+    }
+
+    protected static SegmentPlaylist parseStreamSegmentPlaylist(String[] lines) {
         List<SegmentInfo> segments = new ArrayList<>();
+        List<PartInfo> parts = new ArrayList<>();
         ExtendedM3uParser.Line segmentInfo = null;
+        Long targetDuration = null;
+        boolean ended = false;
+        long mediaSequence = 0;
+        Long partTargetDuration = null;
+        Long partHoldBack = null;
+        boolean canBlockReload = false;
+        String preloadHintUrl = null;
 
-        for (String lineText : fetchResponseLines(httpInterface, new HttpGet(streamSegmentPlaylistUrl), "stream segments list")) {
+        for (String lineText : lines) {
             ExtendedM3uParser.Line line = ExtendedM3uParser.parseLine(lineText);
 
             if (line.isDirective() && "EXTINF".equals(line.directiveName)) {
                 segmentInfo = line;
+            } else if (line.isDirective() && "EXT-X-TARGETDURATION".equals(line.directiveName)) {
+                targetDuration = parseSecondDuration(line.extraData);
+            } else if (line.isDirective() && "EXT-X-ENDLIST".equals(line.directiveName)) {
+                ended = true;
+            } else if (line.isDirective() && "EXT-X-MEDIA-SEQUENCE".equals(line.directiveName)) {
+                mediaSequence = parseMediaSequence(line.extraData);
+            } else if (line.isDirective() && "EXT-X-PART-INF".equals(line.directiveName)) {
+                partTargetDuration = parseSecondDuration(line.directiveArguments.get("PART-TARGET"));
+            } else if (line.isDirective() && "EXT-X-SERVER-CONTROL".equals(line.directiveName)) {
+                canBlockReload = "YES".equals(line.directiveArguments.get("CAN-BLOCK-RELOAD"));
+                partHoldBack = parseSecondDuration(line.directiveArguments.get("PART-HOLD-BACK"));
+            } else if (line.isDirective() && "EXT-X-PART".equals(line.directiveName)) {
+                Map<String, String> arguments = line.directiveArguments;
+
+                // Byte range parts are not supported, such playlists are played by full segments instead.
+                if (arguments.get("URI") != null && !arguments.containsKey("BYTERANGE")) {
+                    parts.add(new PartInfo(
+                        arguments.get("URI"),
+                        parseSecondDuration(arguments.get("DURATION")),
+                        "YES".equals(arguments.get("INDEPENDENT"))
+                    ));
+                }
+            } else if (line.isDirective() && "EXT-X-PRELOAD-HINT".equals(line.directiveName)) {
+                Map<String, String> arguments = line.directiveArguments;
+
+                if ("PART".equals(arguments.get("TYPE")) && !arguments.containsKey("BYTERANGE-START")) {
+                    preloadHintUrl = arguments.get("URI");
+                }
             }
 
             if (line.isData()) {
                 if (segmentInfo != null && segmentInfo.extraData.contains(",")) {
                     String[] fields = segmentInfo.extraData.split(",", 2);
-                    segments.add(new SegmentInfo(line.lineData, parseSecondDuration(fields[0]), fields[1]));
+                    segments.add(new SegmentInfo(line.lineData, parseSecondDuration(fields[0]), fields[1], parts));
                 } else {
-                    segments.add(new SegmentInfo(line.lineData, null, null));
+                    segments.add(new SegmentInfo(line.lineData, null, null, parts));
                 }
+
+                parts = new ArrayList<>();
             }
         }
 
-        return segments;
+        return new SegmentPlaylist(segments, targetDuration, ended, mediaSequence, parts, preloadHintUrl,
+            partTargetDuration, partHoldBack, canBlockReload);
+    }
+
+    private static long parseMediaSequence(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ignored) {
+            return 0;
+        }
     }
 
     private static Long parseSecondDuration(String value) {
+        if (value == null) {
+            return null;
+        }
+
         try {
             double asDouble = Double.parseDouble(value);
             return (long) (asDouble * 1000.0);
@@ -267,11 +625,108 @@ public abstract class M3uStreamSegmentUrlProvider {
          * Name of the segment. <code>null</code> if unknown.
          */
         public final String name;
+        /**
+         * Partial segments of this segment (EXT-X-PART), empty if the playlist did not list any for it.
+         */
+        public final List<PartInfo> parts;
 
         public SegmentInfo(String url, Long duration, String name) {
+            this(url, duration, name, Collections.emptyList());
+        }
+
+        public SegmentInfo(String url, Long duration, String name, List<PartInfo> parts) {
             this.url = url;
             this.duration = duration;
             this.name = name;
+            this.parts = parts;
+        }
+    }
+
+    protected static class PartInfo {
+        /**
+         * URL of the partial segment.
+         */
+        public final String url;
+        /**
+         * Duration of the partial segment in milliseconds. <code>null</code> if unknown.
+         */
+        public final Long duration;
+        /**
+         * Whether the partial segment can be decoded without the ones preceding it.
+         */
+        public final boolean independent;
+
+        public PartInfo(String url, Long duration, boolean independent) {
+            this.url = url;
+            this.duration = duration;
+            this.independent = independent;
+        }
+    }
+
+    protected static class SegmentPlaylist {
+        /**
+         * Segments listed in the playlist.
+         */
+        public final List<SegmentInfo> segments;
+        /**
+         * Target duration of the playlist in milliseconds. <code>null</code> if unknown.
+         */
+        public final Long targetDuration;
+        /**
+         * Whether the playlist has ended, meaning no segments will be added to it.
+         */
+        public final boolean ended;
+        /**
+         * Media sequence number of the first segment in the playlist.
+         */
+        public final long mediaSequence;
+        /**
+         * Partial segments listed after the last complete segment.
+         */
+        public final List<PartInfo> pendingParts;
+        /**
+         * URL of the partial segment which follows the last listed one (EXT-X-PRELOAD-HINT). <code>null</code> if none.
+         */
+        public final String preloadHintUrl;
+        /**
+         * Target duration of partial segments in milliseconds. <code>null</code> if the playlist has no partial segments.
+         */
+        public final Long partTargetDuration;
+        /**
+         * Minimum distance from the live edge for starting playback with partial segments in milliseconds.
+         * <code>null</code> if not specified.
+         */
+        public final Long partHoldBack;
+        /**
+         * Whether the server supports blocking playlist reloads with _HLS_msn and _HLS_part.
+         */
+        public final boolean canBlockReload;
+
+        public SegmentPlaylist(List<SegmentInfo> segments, Long targetDuration, boolean ended) {
+            this(segments, targetDuration, ended, 0, Collections.emptyList(), null, null, null, false);
+        }
+
+        public SegmentPlaylist(List<SegmentInfo> segments, Long targetDuration, boolean ended, long mediaSequence,
+                               List<PartInfo> pendingParts, String preloadHintUrl, Long partTargetDuration,
+                               Long partHoldBack, boolean canBlockReload) {
+
+            this.segments = segments;
+            this.targetDuration = targetDuration;
+            this.ended = ended;
+            this.mediaSequence = mediaSequence;
+            this.pendingParts = pendingParts;
+            this.preloadHintUrl = preloadHintUrl;
+            this.partTargetDuration = partTargetDuration;
+            this.partHoldBack = partHoldBack;
+            this.canBlockReload = canBlockReload;
+        }
+
+        /**
+         * @return True if the playlist can be played with partial segments and blocking reloads.
+         */
+        public boolean isLowLatency() {
+            return canBlockReload && partTargetDuration != null &&
+                (!pendingParts.isEmpty() || segments.stream().anyMatch(segment -> !segment.parts.isEmpty()));
         }
     }
 }
@@ -2,6 +2,7 @@ package com.sedmelluq.discord.lavaplayer.source.twitch;
 
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.stream.M3uStreamPlaylistRegistry;
 import com.sedmelluq.discord.lavaplayer.tools.*;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
@@ -28,6 +29,8 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -47,6 +50,8 @@ public class TwitchStreamAudioSourceManager implements AudioSourceManager, HttpC
     private static final Pattern streamNameRegex = Pattern.compile(STREAM_NAME_REGEX);
 
     private final HttpInterfaceManager httpInterfaceManager;
+    private final M3uStreamPlaylistRegistry playlistRegistry;
+    private final Map<String, ChannelPlaylist> channelPlaylists;
     private String twitchClientId;
     private String twitchDeviceId;
 
@@ -55,6 +60,8 @@ public class TwitchStreamAudioSourceManager implements AudioSourceManager, HttpC
      */
     public TwitchStreamAudioSourceManager() {
         httpInterfaceManager = HttpClientTools.createDefaultThreadLocalManager();
+        playlistRegistry = M3uStreamPlaylistRegistry.acquireShared();
+        channelPlaylists = new ConcurrentHashMap<>();
 
         try {
             initRequestHeaders();
@@ -166,6 +173,29 @@ public class TwitchStreamAudioSourceManager implements AudioSourceManager, HttpC
         return httpInterfaceManager.getInterface();
     }
 
+    /**
+     * @return Registry through which all tracks of this source manager poll their segment playlists.
+     */
+    public M3uStreamPlaylistRegistry getPlaylistRegistry() {
+        return playlistRegistry;
+    }
+
+    HttpInterfaceManager getHttpInterfaceManager() {
+        return httpInterfaceManager;
+    }
+
+    ChannelPlaylist getChannelPlaylist(String channelName) {
+        ChannelPlaylist playlist = channelPlaylists.get(channelName);
+        return playlist != null && playlist.expirationTime > System.currentTimeMillis() ? playlist : null;
+    }
+
+    void setChannelPlaylist(String channelName, ChannelPlaylist playlist) {
+        long now = System.currentTimeMillis();
+
+        channelPlaylists.values().removeIf(existing -> existing.expirationTime <= now);
+        channelPlaylists.put(channelName, playlist);
+    }
+
     @Override
     public void configureRequests(Function<RequestConfig, RequestConfig> configurator) {
         httpInterfaceManager.configureRequests(configurator);
@@ -236,6 +266,20 @@ public class TwitchStreamAudioSourceManager implements AudioSourceManager, HttpC
 
     @Override
     public void shutdown() {
+        playlistRegistry.release();
         ExceptionTools.closeWithWarnings(httpInterfaceManager);
     }
+
+    /**
+     * Segment playlist URL of a channel, shared by all tracks of the channel until the access token it contains expires.
+     */
+    static class ChannelPlaylist {
+        final String url;
+        final long expirationTime;
+
+        ChannelPlaylist(String url, long expirationTime) {
+            this.url = url;
+            this.expirationTime = expirationTime;
+        }
+    }
 }
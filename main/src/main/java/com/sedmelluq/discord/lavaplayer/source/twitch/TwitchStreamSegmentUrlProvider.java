@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -39,6 +40,8 @@ public class TwitchStreamSegmentUrlProvider extends M3uStreamSegmentUrlProvider
         this.channelName = channelName;
         this.manager = manager;
         this.tokenExpirationTime = -1;
+
+        setPlaylistRegistry(manager.getPlaylistRegistry(), manager.getHttpInterfaceManager());
     }
 
     @Override
@@ -52,6 +55,14 @@ public class TwitchStreamSegmentUrlProvider extends M3uStreamSegmentUrlProvider
             return streamSegmentPlaylistUrl;
         }
 
+        TwitchStreamAudioSourceManager.ChannelPlaylist sharedPlaylist = manager.getChannelPlaylist(channelName);
+
+        if (sharedPlaylist != null) {
+            streamSegmentPlaylistUrl = sharedPlaylist.url;
+            tokenExpirationTime = sharedPlaylist.expirationTime;
+            return streamSegmentPlaylistUrl;
+        }
+
         JsonBrowser tokenJson = manager.fetchAccessToken(channelName);
         AccessToken token = new AccessToken(
             JsonBrowser.parse(tokenJson.get("data").get("streamPlaybackAccessToken").get("value").text()),
@@ -59,7 +70,7 @@ public class TwitchStreamSegmentUrlProvider extends M3uStreamSegmentUrlProvider
         );
         String url = getChannelStreamsUrl(token).toString();
         HttpUriRequest request = new HttpGet(url);
-        ChannelStreams streams = loadChannelStreamsInfo(HttpClientTools.fetchResponseLines(httpInterface, request, "channel streams list"));
+        ChannelStreams streams = loadChannelStreamsInfo(HttpClientTools.fetchPlaybackResponseLines(httpInterface, request, "channel streams list"));
 
         if (streams.entries.isEmpty()) {
             throw new IllegalStateException("No streams available on channel.");
@@ -73,9 +84,37 @@ public class TwitchStreamSegmentUrlProvider extends M3uStreamSegmentUrlProvider
         long tokenServerExpirationTime = token.value.get("expires").as(Long.class) * 1000L;
         tokenExpirationTime = System.currentTimeMillis() + (tokenServerExpirationTime - streams.serverTime) - 5000;
 
+        manager.setChannelPlaylist(channelName, new TwitchStreamAudioSourceManager.ChannelPlaylist(
+            streamSegmentPlaylistUrl,
+            tokenExpirationTime
+        ));
+
         return streamSegmentPlaylistUrl;
     }
 
+    @Override
+    protected SegmentPlaylist parseSegmentPlaylist(String[] lines) {
+        SegmentPlaylist playlist = super.parseSegmentPlaylist(lines);
+        List<SegmentInfo> segments = new ArrayList<>(playlist.segments);
+
+        for (String lineText : lines) {
+            ExtendedM3uParser.Line line = ExtendedM3uParser.parseLine(lineText);
+
+            // Low-latency extension, lists upcoming segments which can be requested before they are complete.
+            if (line.isDirective() && "EXT-X-TWITCH-PREFETCH".equals(line.directiveName)) {
+                segments.add(new SegmentInfo(line.extraData.trim(), null, null));
+            }
+        }
+
+        if (segments.size() == playlist.segments.size()) {
+            return playlist;
+        }
+
+        return new SegmentPlaylist(segments, playlist.targetDuration, playlist.ended, playlist.mediaSequence,
+            playlist.pendingParts, playlist.preloadHintUrl, playlist.partTargetDuration, playlist.partHoldBack,
+            playlist.canBlockReload);
+    }
+
     @Override
     protected HttpUriRequest createSegmentGetRequest(String url) {
         return manager.createGetRequest(url);
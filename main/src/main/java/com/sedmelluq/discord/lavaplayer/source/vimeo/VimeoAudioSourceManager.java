@@ -7,11 +7,11 @@ import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
+import com.sedmelluq.discord.lavaplayer.tools.io.StreamingTextExtractor;
 import com.sedmelluq.discord.lavaplayer.track.AudioItem;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
-import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -23,8 +23,8 @@ import org.apache.http.impl.client.HttpClientBuilder;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -109,8 +109,8 @@ public class VimeoAudioSourceManager implements AudioSourceManager, HttpConfigur
         httpInterfaceManager.configureBuilder(configurator);
     }
 
-    JsonBrowser loadConfigJsonFromPageContent(String content) throws IOException {
-        String configText = DataFormatTools.extractBetween(content, "window.vimeo.clip_page_config = ", "\n");
+    JsonBrowser loadConfigJsonFromPageContent(InputStream content) throws IOException {
+        String configText = StreamingTextExtractor.extractBetween(content, "window.vimeo.clip_page_config = ", "\n");
 
         if (configText != null) {
             return JsonBrowser.parse(configText);
@@ -130,11 +130,11 @@ public class VimeoAudioSourceManager implements AudioSourceManager, HttpConfigur
                     new IllegalStateException("Response code is " + statusCode));
             }
 
-            return loadTrackFromPageContent(trackUrl, IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8));
+            return loadTrackFromPageContent(trackUrl, response.getEntity().getContent());
         }
     }
 
-    private AudioTrack loadTrackFromPageContent(String trackUrl, String content) throws IOException {
+    private AudioTrack loadTrackFromPageContent(String trackUrl, InputStream content) throws IOException {
         JsonBrowser config = loadConfigJsonFromPageContent(content);
 
         if (config == null) {
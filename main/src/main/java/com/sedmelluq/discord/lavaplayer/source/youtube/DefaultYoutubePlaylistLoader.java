@@ -2,6 +2,7 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
 import com.sedmelluq.discord.lavaplayer.tools.ThumbnailTools;
 import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
@@ -10,13 +11,20 @@ import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -25,6 +33,19 @@ import static com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeConstants.W
 import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.COMMON;
 
 public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
+    private static final ExecutorService pageExecutor =
+        Executors.newCachedThreadPool(new DaemonThreadFactory("yt-playlist-page"));
+
+    private static final String ALERTS_PATH = "alerts";
+    private static final String NAME_PATH = "header.playlistHeaderRenderer.title.runs[0].text";
+    private static final String VIDEO_LIST_PATH = "contents.singleColumnBrowseResultsRenderer.tabs[0].tabRenderer" +
+        ".content.sectionListRenderer.contents[0].playlistVideoListRenderer";
+    private static final String CONTINUATION_PATH = "continuationContents.playlistVideoListContinuation";
+
+    private static final JsonPathExtractor playlistExtractor =
+        JsonPathExtractor.compile(ALERTS_PATH, NAME_PATH, VIDEO_LIST_PATH);
+    private static final JsonPathExtractor continuationExtractor = JsonPathExtractor.compile(CONTINUATION_PATH);
+
     private volatile int playlistPageCount = 6;
 
     @Override
@@ -35,6 +56,13 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
     @Override
     public AudioPlaylist load(HttpInterface httpInterface, String playlistId, String selectedVideoId,
                               Function<AudioTrackInfo, AudioTrack> trackFactory) {
+        return load(httpInterface, playlistId, selectedVideoId, trackFactory, null);
+    }
+
+    @Override
+    public AudioPlaylist load(HttpInterface httpInterface, String playlistId, String selectedVideoId,
+                              Function<AudioTrackInfo, AudioTrack> trackFactory,
+                              Consumer<List<AudioTrack>> pageListener) {
         HttpPost post = new HttpPost(BROWSE_URL);
         YoutubeClientConfig clientConfig = YoutubeClientConfig.ANDROID.copy()
             .withRootField("browseId", "VL" + playlistId)
@@ -45,74 +73,116 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
             HttpClientTools.assertSuccessWithContent(response, "playlist response");
             HttpClientTools.assertJsonContentType(response);
 
-            JsonBrowser json = JsonBrowser.parse(response.getEntity().getContent());
-            return buildPlaylist(httpInterface, json, selectedVideoId, trackFactory);
+            JsonPathExtractor.Result json = playlistExtractor.extract(response.getEntity().getContent());
+            return buildPlaylist(httpInterface, json, selectedVideoId, trackFactory, pageListener);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private AudioPlaylist buildPlaylist(HttpInterface httpInterface, JsonBrowser json, String selectedVideoId,
-                                        Function<AudioTrackInfo, AudioTrack> trackFactory) throws IOException {
+    private AudioPlaylist buildPlaylist(HttpInterface httpInterface, JsonPathExtractor.Result json, String selectedVideoId,
+                                        Function<AudioTrackInfo, AudioTrack> trackFactory,
+                                        Consumer<List<AudioTrack>> pageListener) throws IOException {
 
-        String errorAlertMessage = findErrorAlert(json);
+        String errorAlertMessage = findErrorAlert(json.get(ALERTS_PATH));
 
         if (errorAlertMessage != null) {
             throw new FriendlyException(errorAlertMessage, COMMON, null);
         }
 
-        String playlistName = json
-            .get("header")
-            .get("playlistHeaderRenderer")
-            .get("title")
-            .get("runs")
-            .index(0)
-            .get("text")
-            .text();
-
-        JsonBrowser playlistVideoList = json
-            .get("contents")
-            .get("singleColumnBrowseResultsRenderer")
-            .get("tabs")
-            .index(0)
-            .get("tabRenderer")
-            .get("content")
-            .get("sectionListRenderer")
-            .get("contents")
-            .index(0)
-            .get("playlistVideoListRenderer");
+        String playlistName = json.get(NAME_PATH).text();
+        JsonBrowser playlistVideoList = json.get(VIDEO_LIST_PATH);
 
         List<AudioTrack> tracks = new ArrayList<>();
-        String continuationsToken = extractPlaylistTracks(playlistVideoList, tracks, trackFactory);
+        JsonBrowser page = playlistVideoList;
         int loadCount = 0;
         int pageCount = playlistPageCount;
 
         // Also load the next pages, each result gives us a JSON with separate values for list html and next page loader html
-        while (continuationsToken != null && ++loadCount < pageCount) {
-            HttpPost post = new HttpPost(BROWSE_URL);
-            YoutubeClientConfig clientConfig = YoutubeClientConfig.ANDROID.copy()
-                .withRootField("continuation", continuationsToken)
-                .setAttribute(httpInterface);
-            StringEntity payload = new StringEntity(clientConfig.toJsonString(), "UTF-8");
-            post.setEntity(payload);
-            try (CloseableHttpResponse response = httpInterface.execute(post)) {
-                HttpClientTools.assertSuccessWithContent(response, "playlist response");
-
-                JsonBrowser continuationJson = JsonBrowser.parse(response.getEntity().getContent());
-
-                JsonBrowser playlistVideoListPage = continuationJson.get("continuationContents")
-                    .get("playlistVideoListContinuation");
-
-                continuationsToken = extractPlaylistTracks(playlistVideoListPage, tracks, trackFactory);
+        while (page != null) {
+            String continuationsToken = extractContinuationToken(page);
+            Future<JsonBrowser> nextPage = null;
+
+            // The next page is requested and parsed in the background while the tracks of this page are processed.
+            if (continuationsToken != null && ++loadCount < pageCount) {
+                nextPage = pageExecutor.submit(() -> loadContinuationPage(httpInterface, continuationsToken));
             }
+
+            try {
+                List<AudioTrack> pageTracks = extractPlaylistTracks(page, trackFactory);
+                tracks.addAll(pageTracks);
+
+                if (pageListener != null && !pageTracks.isEmpty()) {
+                    pageListener.accept(pageTracks);
+                }
+            } catch (Throwable e) {
+                if (nextPage != null) {
+                    awaitCompletion(nextPage);
+                }
+
+                throw e;
+            }
+
+            page = nextPage != null ? awaitPage(nextPage) : null;
         }
 
         return new BasicAudioPlaylist(playlistName, tracks, findSelectedTrack(tracks, selectedVideoId), false);
     }
 
-    private String findErrorAlert(JsonBrowser jsonResponse) {
-        JsonBrowser alerts = jsonResponse.get("alerts");
+    private JsonBrowser loadContinuationPage(HttpInterface httpInterface, String continuationsToken) throws IOException {
+        HttpPost post = new HttpPost(BROWSE_URL);
+        YoutubeClientConfig clientConfig = YoutubeClientConfig.ANDROID.copy()
+            .withRootField("continuation", continuationsToken)
+            .setAttribute(httpInterface);
+        StringEntity payload = new StringEntity(clientConfig.toJsonString(), "UTF-8");
+        post.setEntity(payload);
+        try (CloseableHttpResponse response = httpInterface.execute(post)) {
+            HttpClientTools.assertSuccessWithContent(response, "playlist response");
+
+            return continuationExtractor.extract(response.getEntity().getContent()).get(CONTINUATION_PATH);
+        }
+    }
+
+    private JsonBrowser awaitPage(Future<JsonBrowser> page) throws IOException {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            // The request still has to finish before the HTTP interface may be used again.
+            awaitCompletion(page);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading the playlist.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw new IOException(e.getCause());
+        }
+    }
 
+    private void awaitCompletion(Future<JsonBrowser> page) {
+        boolean interrupted = false;
+
+        while (!page.isDone()) {
+            try {
+                page.get();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                // Only waiting for the request to finish.
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String findErrorAlert(JsonBrowser alerts) {
         if (!alerts.isNull()) {
             for (JsonBrowser alert : alerts.values()) {
                 JsonBrowser alertInner = alert.get("alertRenderer");
@@ -150,10 +220,11 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
         return null;
     }
 
-    private String extractPlaylistTracks(JsonBrowser playlistVideoList, List<AudioTrack> tracks,
-                                         Function<AudioTrackInfo, AudioTrack> trackFactory) {
+    private List<AudioTrack> extractPlaylistTracks(JsonBrowser playlistVideoList,
+                                                   Function<AudioTrackInfo, AudioTrack> trackFactory) {
+        List<AudioTrack> tracks = new ArrayList<>();
         JsonBrowser contents = playlistVideoList.get("contents");
-        if (contents.isNull()) return null;
+        if (contents.isNull()) return tracks;
 
         final List<JsonBrowser> playlistTrackEntries = contents.values();
         for (JsonBrowser track : playlistTrackEntries) {
@@ -178,6 +249,12 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
             }
         }
 
+        return tracks;
+    }
+
+    private String extractContinuationToken(JsonBrowser playlistVideoList) {
+        if (playlistVideoList.get("contents").isNull()) return null;
+
         JsonBrowser continuations = playlistVideoList.get("continuations")
             .index(0)
             .get("nextContinuationData");
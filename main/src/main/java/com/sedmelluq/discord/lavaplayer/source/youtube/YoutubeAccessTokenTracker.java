@@ -5,6 +5,7 @@ import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
 import org.apache.http.Header;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.config.CookieSpecs;
@@ -28,6 +29,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -50,18 +55,25 @@ public class YoutubeAccessTokenTracker {
     private static final long MASTER_TOKEN_REFRESH_INTERVAL = TimeUnit.DAYS.toMillis(7);
     private static final long DEFAULT_ACCESS_TOKEN_REFRESH_INTERVAL = TimeUnit.HOURS.toMillis(1);
     private static final long VISITOR_ID_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+    private static final long BACKGROUND_REFRESH_MARGIN = TimeUnit.MINUTES.toMillis(5);
+
+    private static final ScheduledExecutorService refreshExecutor =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("yt-token-refresh"));
 
     private final Object tokenLock = new Object();
     private final HttpInterfaceManager httpInterfaceManager;
     private final String email;
     private final String password;
-    private String masterToken;
-    private String accessToken;
-    private String visitorId;
+    private volatile String masterToken;
+    private volatile String accessToken;
+    private volatile String visitorId;
     private long lastMasterTokenUpdate;
-    private long lastAccessTokenUpdate;
-    private long lastVisitorIdUpdate;
-    private long accessTokenRefreshInterval = DEFAULT_ACCESS_TOKEN_REFRESH_INTERVAL;
+    private volatile long lastAccessTokenUpdate;
+    private volatile long lastVisitorIdUpdate;
+    private volatile long accessTokenRefreshInterval = DEFAULT_ACCESS_TOKEN_REFRESH_INTERVAL;
+    private ScheduledFuture<?> scheduledAccessTokenRefresh;
+    private ScheduledFuture<?> scheduledVisitorIdRefresh;
+    private boolean shutdown;
     private boolean loggedAgeRestrictionsWarning = false;
     private boolean masterTokenFromTV = false;
     private volatile CachedAuthScript cachedAuthScript = null;
@@ -141,6 +153,7 @@ public class YoutubeAccessTokenTracker {
                     accessToken,
                     TimeUnit.MILLISECONDS.toSeconds(accessTokenRefreshInterval)
                 );
+                scheduleAccessTokenRefresh();
             } catch (Exception e) {
                 log.error("YouTube access token update failed.", e);
             }
@@ -151,6 +164,10 @@ public class YoutubeAccessTokenTracker {
      * Updates the visitor id if more than {@link #VISITOR_ID_REFRESH_INTERVAL} time has passed since last updated.
      */
     public String updateVisitorId() {
+        if (System.currentTimeMillis() - lastVisitorIdUpdate < VISITOR_ID_REFRESH_INTERVAL) {
+            return visitorId;
+        }
+
         synchronized (tokenLock) {
             long now = System.currentTimeMillis();
             if (now - lastVisitorIdUpdate < VISITOR_ID_REFRESH_INTERVAL) {
@@ -167,6 +184,7 @@ public class YoutubeAccessTokenTracker {
                     visitorId,
                     TimeUnit.MILLISECONDS.toSeconds(VISITOR_ID_REFRESH_INTERVAL)
                 );
+                scheduleVisitorIdRefresh();
             } catch (Exception e) {
                 log.error("YouTube visitor id update failed.", e);
             }
@@ -176,6 +194,12 @@ public class YoutubeAccessTokenTracker {
     }
 
     public String getMasterToken() {
+        String currentMasterToken = masterToken;
+
+        if (currentMasterToken != null) {
+            return currentMasterToken;
+        }
+
         synchronized (tokenLock) {
             if (masterToken == null) {
                 updateMasterToken();
@@ -186,6 +210,12 @@ public class YoutubeAccessTokenTracker {
     }
 
     public String getAccessToken() {
+        String currentAccessToken = accessToken;
+
+        if (currentAccessToken != null || !hasCredentials()) {
+            return currentAccessToken;
+        }
+
         synchronized (tokenLock) {
             if (accessToken == null) {
                 updateAccessToken();
@@ -196,6 +226,12 @@ public class YoutubeAccessTokenTracker {
     }
 
     public String getVisitorId() {
+        String currentVisitorId = visitorId;
+
+        if (currentVisitorId != null) {
+            return currentVisitorId;
+        }
+
         synchronized (tokenLock) {
             if (visitorId == null) {
                 updateVisitorId();
@@ -209,6 +245,102 @@ public class YoutubeAccessTokenTracker {
         return context.getAttribute(TOKEN_FETCH_CONTEXT_ATTRIBUTE) == Boolean.TRUE;
     }
 
+    /**
+     * Stops refreshing the tokens in the background.
+     */
+    public void shutdown() {
+        synchronized (tokenLock) {
+            shutdown = true;
+            scheduledAccessTokenRefresh = cancelRefresh(scheduledAccessTokenRefresh);
+            scheduledVisitorIdRefresh = cancelRefresh(scheduledVisitorIdRefresh);
+        }
+    }
+
+    private boolean hasCredentials() {
+        return !DataFormatTools.isNullOrEmpty(email) || !DataFormatTools.isNullOrEmpty(password);
+    }
+
+    private void scheduleAccessTokenRefresh() {
+        scheduledAccessTokenRefresh = scheduleRefresh(scheduledAccessTokenRefresh, this::refreshAccessTokenInBackground,
+            accessTokenRefreshInterval);
+    }
+
+    private void scheduleVisitorIdRefresh() {
+        scheduledVisitorIdRefresh = scheduleRefresh(scheduledVisitorIdRefresh, this::refreshVisitorIdInBackground,
+            VISITOR_ID_REFRESH_INTERVAL);
+    }
+
+    private ScheduledFuture<?> scheduleRefresh(ScheduledFuture<?> previous, Runnable refresh, long interval) {
+        cancelRefresh(previous);
+
+        if (shutdown) {
+            return null;
+        }
+
+        // Refreshes ahead of the expiry, so that readers never see an expired value.
+        long delay = interval - Math.min(BACKGROUND_REFRESH_MARGIN, interval / 5);
+
+        try {
+            return refreshExecutor.schedule(refresh, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Could not schedule YouTube token refresh.", e);
+            return null;
+        }
+    }
+
+    private static ScheduledFuture<?> cancelRefresh(ScheduledFuture<?> refresh) {
+        if (refresh != null) {
+            refresh.cancel(false);
+        }
+
+        return null;
+    }
+
+    private void refreshAccessTokenInBackground() {
+        synchronized (tokenLock) {
+            scheduledAccessTokenRefresh = null;
+
+            if (shutdown || DataFormatTools.isNullOrEmpty(masterToken)) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+
+            try {
+                // Readers keep using the previous token until the new one is known.
+                accessToken = fetchAccessToken();
+                lastAccessTokenUpdate = now;
+                log.debug("Refreshed YouTube access token in the background, next refresh will be after {} seconds.",
+                    TimeUnit.MILLISECONDS.toSeconds(accessTokenRefreshInterval));
+                scheduleAccessTokenRefresh();
+            } catch (Exception e) {
+                // Allows the next unauthorized response to update it right away.
+                lastAccessTokenUpdate = 0;
+                log.warn("Background refresh of YouTube access token failed, it will be updated on demand instead.", e);
+            }
+        }
+    }
+
+    private void refreshVisitorIdInBackground() {
+        synchronized (tokenLock) {
+            scheduledVisitorIdRefresh = null;
+
+            if (shutdown) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+
+            try {
+                visitorId = fetchVisitorId();
+                lastVisitorIdUpdate = now;
+                log.debug("Refreshed YouTube visitor id in the background, new one is {}.", visitorId);
+                scheduleVisitorIdRefresh();
+            } catch (Exception e) {
+                // The visitor id is then updated on demand once it has expired.
+                log.warn("Background refresh of YouTube visitor id failed, it will be updated on demand instead.", e);
+            }
+        }
+    }
+
     private String fetchMasterToken() throws IOException {
         try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
             httpInterface.getContext().setAttribute(TOKEN_FETCH_CONTEXT_ATTRIBUTE, true);
@@ -471,6 +603,11 @@ public class YoutubeAccessTokenTracker {
                     accessTokenRefreshInterval = TimeUnit.SECONDS.toMillis(responseJson.get("expires_in").asLong(DEFAULT_ACCESS_TOKEN_REFRESH_INTERVAL));
                     lastAccessTokenUpdate = System.currentTimeMillis();
                     masterTokenFromTV = true;
+
+                    synchronized (tokenLock) {
+                        scheduleAccessTokenRefresh();
+                    }
+
                     log.info("Auth was successful and updating YouTube access token succeeded, new token is {}, next update will be after {} seconds.",
                         accessToken,
                         TimeUnit.MILLISECONDS.toSeconds(accessTokenRefreshInterval)
@@ -1,17 +1,22 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
-import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.RoutableAudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.http.AdaptiveRateLimiter;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.http.MultiHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadConfigurable;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadCounters;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadStatistics;
 import com.sedmelluq.discord.lavaplayer.track.AudioItem;
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
@@ -40,11 +45,15 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
  * This source manager is now deprecated. Please use <a href="https://github.com/lavalink-devs/youtube-source">youtube-source</a>
  */
 @Deprecated
-public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfigurable {
+public class YoutubeAudioSourceManager implements RoutableAudioSourceManager, HttpConfigurable, ReadAheadConfigurable {
     private static final Logger log = LoggerFactory.getLogger(YoutubeAudioSourceManager.class);
 
     private final YoutubeSignatureResolver signatureResolver;
     private final HttpInterfaceManager httpInterfaceManager;
+    private final ReadAheadCounters readAheadCounters = new ReadAheadCounters();
+    private volatile int readAheadSize;
+    private volatile int rangeConnectionCount;
+    private volatile AdaptiveRateLimiter rateLimiter;
     private final ExtendedHttpConfigurable combinedHttpConfiguration;
     private final YoutubeMixLoader mixLoader;
     private final YoutubeAccessTokenTracker accessTokenTracker;
@@ -154,6 +163,26 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
         return "youtube";
     }
 
+    /**
+     * Loads a playlist page by page, passing the tracks of each page to the listener as soon as it has been loaded, so
+     * that playback can be started before the whole playlist has been loaded.
+     *
+     * @param playlistId      ID of the playlist.
+     * @param selectedVideoId ID of the selected video in the playlist, may be null.
+     * @param pageListener    Receives the tracks of each page on the loading thread.
+     * @return The playlist with the tracks of all loaded pages.
+     */
+    public AudioPlaylist loadPlaylist(String playlistId, String selectedVideoId, Consumer<List<AudioTrack>> pageListener) {
+        log.debug("Starting to load playlist with ID {}", playlistId);
+
+        try (HttpInterface httpInterface = getHttpInterface()) {
+            return playlistLoader.load(httpInterface, playlistId, selectedVideoId,
+                this::buildTrackFromInfo, pageListener);
+        } catch (Exception e) {
+            throw ExceptionTools.wrapUnfriendlyExceptions(e);
+        }
+    }
+
     @Override
     public AudioItem loadItem(AudioPlayerManager manager, AudioReference reference) {
         try {
@@ -168,6 +197,16 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
         }
     }
 
+    @Override
+    public boolean canRoute(AudioReference reference) {
+        try {
+            return Boolean.TRUE.equals(linkRouter.route(reference.identifier, new CheckingRoutes()));
+        } catch (FriendlyException e) {
+            // Loading fails the same way, which is then reported by this source.
+            return true;
+        }
+    }
+
     @Override
     public boolean isTrackEncodable(AudioTrack track) {
         return true;
@@ -185,6 +224,7 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
 
     @Override
     public void shutdown() {
+        accessTokenTracker.shutdown();
         ExceptionTools.closeWithWarnings(httpInterfaceManager);
     }
 
@@ -199,6 +239,61 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
         return httpInterfaceManager.getInterface();
     }
 
+    HttpInterfaceManager getHttpInterfaceManager() {
+        return httpInterfaceManager;
+    }
+
+    @Override
+    public int getReadAheadSize() {
+        return readAheadSize;
+    }
+
+    @Override
+    public void setReadAheadSize(int readAheadSize) {
+        this.readAheadSize = readAheadSize;
+    }
+
+    @Override
+    public ReadAheadStatistics getReadAheadStatistics() {
+        return readAheadCounters.getStatistics();
+    }
+
+    ReadAheadCounters getReadAheadCounters() {
+        return readAheadCounters;
+    }
+
+    /**
+     * @return Maximum number of concurrent range requests used for downloading a track, 1 or less if disabled.
+     */
+    public int getRangeConnectionCount() {
+        return rangeConnectionCount;
+    }
+
+    /**
+     * @param rangeConnectionCount Maximum number of concurrent range requests used for downloading a track with a known
+     *                             length. Helps when the transfer speed of a single connection is throttled. 1 or less to
+     *                             use a single connection, which is the default.
+     */
+    public void setRangeConnectionCount(int rangeConnectionCount) {
+        this.rangeConnectionCount = rangeConnectionCount;
+    }
+
+    /**
+     * @return Rate limiter which requests to YouTube wait for, null if disabled.
+     */
+    public AdaptiveRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * @param rateLimiter Rate limiter which all requests to YouTube wait for, so that loads queue up instead of failing
+     *                    when YouTube starts responding with 429. Null to disable, which is the default.
+     */
+    public void setRateLimiter(AdaptiveRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        combinedHttpConfiguration.setRateLimiter(rateLimiter);
+    }
+
     @Override
     public void configureRequests(Function<RequestConfig, RequestConfig> configurator) {
         combinedHttpConfiguration.configureRequests(configurator);
@@ -258,6 +353,44 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
         return new YoutubeAudioTrack(info, this);
     }
 
+    private class CheckingRoutes implements YoutubeLinkRouter.Routes<Boolean> {
+
+        @Override
+        public Boolean track(String videoId) {
+            return true;
+        }
+
+        @Override
+        public Boolean playlist(String playlistId, String selectedVideoId) {
+            return true;
+        }
+
+        @Override
+        public Boolean mix(String mixId, String selectedVideoId) {
+            return true;
+        }
+
+        @Override
+        public Boolean search(String query) {
+            return allowSearch;
+        }
+
+        @Override
+        public Boolean searchMusic(String query) {
+            return allowSearch;
+        }
+
+        @Override
+        public Boolean anonymous(String videoIds) {
+            return true;
+        }
+
+        @Override
+        public Boolean none() {
+            return true;
+        }
+    }
+
     private class LoadingRoutes implements YoutubeLinkRouter.Routes<AudioItem> {
 
         @Override
@@ -267,14 +400,7 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
 
         @Override
         public AudioItem playlist(String playlistId, String selectedVideoId) {
-            log.debug("Starting to load playlist with ID {}", playlistId);
-
-            try (HttpInterface httpInterface = getHttpInterface()) {
-                return playlistLoader.load(httpInterface, playlistId, selectedVideoId,
-                    YoutubeAudioSourceManager.this::buildTrackFromInfo);
-            } catch (Exception e) {
-                throw ExceptionTools.wrapUnfriendlyExceptions(e);
-            }
+            return loadPlaylist(playlistId, selectedVideoId, null);
         }
 
         @Override
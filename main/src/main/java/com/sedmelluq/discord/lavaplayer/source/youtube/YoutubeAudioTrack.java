@@ -5,6 +5,9 @@ import com.sedmelluq.discord.lavaplayer.container.mpeg.MpegAudioTrack;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import com.sedmelluq.discord.lavaplayer.tools.io.MultiConnectionSeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.ReadAheadSeekableInputStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.DelegatedAudioTrack;
@@ -26,6 +29,8 @@ import static com.sedmelluq.discord.lavaplayer.tools.Units.CONTENT_LENGTH_UNKNOW
 public class YoutubeAudioTrack extends DelegatedAudioTrack {
     private static final Logger log = LoggerFactory.getLogger(YoutubeAudioTrack.class);
 
+    private static final int RANGE_CHUNK_SIZE = 262144;
+
     private final YoutubeAudioSourceManager sourceManager;
 
     /**
@@ -59,7 +64,10 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
     }
 
     private void processStatic(LocalAudioTrackExecutor localExecutor, HttpInterface httpInterface, FormatWithUrl format) throws Exception {
-        try (YoutubePersistentHttpStream stream = new YoutubePersistentHttpStream(httpInterface, format.signedUrl, format.details.getContentLength())) {
+        try (SeekableInputStream httpStream = createStaticStream(httpInterface, format);
+             SeekableInputStream stream = ReadAheadSeekableInputStream.wrap(httpStream, sourceManager.getReadAheadSize(),
+                 sourceManager.getReadAheadCounters())) {
+
             if (format.details.getType().getMimeType().endsWith("/webm")) {
                 processDelegate(new MatroskaAudioTrack(trackInfo, stream), localExecutor);
             } else {
@@ -68,6 +76,21 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
         }
     }
 
+    private SeekableInputStream createStaticStream(HttpInterface httpInterface, FormatWithUrl format) {
+        long contentLength = format.details.getContentLength();
+        int connectionCount = sourceManager.getRangeConnectionCount();
+
+        if (connectionCount <= 1) {
+            return new YoutubePersistentHttpStream(httpInterface, format.signedUrl, contentLength);
+        }
+
+        return new MultiConnectionSeekableInputStream(sourceManager.getHttpInterfaceManager(), (chunkInterface, start, end) -> {
+            YoutubePersistentHttpStream chunkStream = new YoutubePersistentHttpStream(chunkInterface, format.signedUrl, contentLength);
+            chunkStream.setRange(start, end);
+            return chunkStream;
+        }, contentLength, RANGE_CHUNK_SIZE, connectionCount);
+    }
+
     private void processStream(LocalAudioTrackExecutor localExecutor, FormatWithUrl format) throws Exception {
         if (MIME_AUDIO_WEBM.equals(format.details.getType().getMimeType())) {
             throw new FriendlyException("YouTube WebM streams are currently not supported.", COMMON, null);
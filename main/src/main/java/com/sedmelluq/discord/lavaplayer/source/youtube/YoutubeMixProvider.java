@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
 import com.sedmelluq.discord.lavaplayer.tools.ThumbnailTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
@@ -27,6 +28,11 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
  * Handles loading of YouTube mixes.
  */
 public class YoutubeMixProvider implements YoutubeMixLoader {
+    private static final String TITLE_PATH = "contents.singleColumnWatchNextResults.playlist.playlist.title";
+    private static final String VIDEO_RENDERER_PATH =
+        "contents.singleColumnWatchNextResults.playlist.playlist.contents[*].playlistPanelVideoRenderer";
+    private static final JsonPathExtractor mixExtractor = JsonPathExtractor.compile(TITLE_PATH, VIDEO_RENDERER_PATH);
+
     /**
      * Loads tracks from mix in parallel into a playlist entry.
      *
@@ -53,19 +59,14 @@ public class YoutubeMixProvider implements YoutubeMixLoader {
         try (CloseableHttpResponse response = httpInterface.execute(post)) {
             HttpClientTools.assertSuccessWithContent(response, "mix response");
 
-            JsonBrowser body = JsonBrowser.parse(response.getEntity().getContent());
-            JsonBrowser playlist = body.get("contents")
-                .get("singleColumnWatchNextResults")
-                .get("playlist")
-                .get("playlist");
-
-            JsonBrowser title = playlist.get("title");
+            JsonPathExtractor.Result body = mixExtractor.extract(response.getEntity().getContent());
+            JsonBrowser title = body.get(TITLE_PATH);
 
             if (!title.isNull()) {
                 playlistTitle = title.text();
             }
 
-            extractPlaylistTracks(playlist.get("contents"), tracks, trackFactory);
+            extractPlaylistTracks(body.values(VIDEO_RENDERER_PATH), tracks, trackFactory);
         } catch (IOException e) {
             throw new FriendlyException("Could not read mix page.", SUSPICIOUS, e);
         }
@@ -79,13 +80,11 @@ public class YoutubeMixProvider implements YoutubeMixLoader {
     }
 
     private void extractPlaylistTracks(
-        JsonBrowser browser,
+        List<JsonBrowser> renderers,
         List<AudioTrack> tracks,
         Function<AudioTrackInfo, AudioTrack> trackFactory
     ) {
-        for (JsonBrowser video : browser.values()) {
-            JsonBrowser renderer = video.get("playlistPanelVideoRenderer");
-
+        for (JsonBrowser renderer : renderers) {
             if (!renderer.get("unplayableText").isNull()) {
                 return;
             }
@@ -53,9 +53,9 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
         try {
             int result;
             if (nextExpectedPosition >= rangeEnd && rangeEnd != 0) {
-                if (rangeEnd == contentLength) {
+                if (rangeEnd == getRangeLimit()) {
                     result = currentContent.read(b, off, len);
-                    position += result;
+                    position += Math.max(result, 0);
                 } else {
                     result = 0;
                     handleRangeEnd(null, attemptReconnect);
@@ -64,7 +64,7 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
                 result = currentContent.read(b, off, len);
                 if (result >= 0) {
                     position += result;
-                    if (position >= rangeEnd && !contentUrl.toString().contains("rn=")) {
+                    if (position >= rangeEnd && rangeEnd != getRangeLimit() && !contentUrl.toString().contains("rn=")) {
                         handleRangeEnd(null, attemptReconnect);
                     }
                 }
@@ -85,7 +85,7 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
         try {
             long result;
             if (nextExpectedPosition >= rangeEnd && rangeEnd != 0) {
-                if (rangeEnd == contentLength) {
+                if (rangeEnd == getRangeLimit()) {
                     result = currentContent.skip(n);
                     position += result;
                 } else {
@@ -96,7 +96,7 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
             } else {
                 result = currentContent.skip(n);
                 position += result;
-                if (position >= rangeEnd && !contentUrl.toString().contains("rn=")) {
+                if (position >= rangeEnd && rangeEnd != getRangeLimit() && !contentUrl.toString().contains("rn=")) {
                     handleRangeEnd(null, attemptReconnect);
                 }
             }
@@ -108,15 +108,18 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
         }
     }
 
+    private long getRangeLimit() {
+        return getRangeEnd() != -1 ? getRangeEnd() : contentLength;
+    }
+
     private URI getNextRangeUrl() {
-        rangeEnd = position + BUFFER_SIZE;
+        rangeEnd = Math.min(position + BUFFER_SIZE, getRangeLimit());
 
-        if (rangeEnd > contentLength) {
-            rangeEnd = contentLength;
-        }
+        // The range parameter is inclusive, only an explicitly restricted range is requested exactly.
+        long lastPosition = getRangeEnd() == rangeEnd ? rangeEnd - 1 : rangeEnd;
 
         try {
-            return new URIBuilder(contentUrl).addParameter("range", position + "-" + rangeEnd).build();
+            return new URIBuilder(contentUrl).addParameter("range", position + "-" + lastPosition).build();
         } catch (URISyntaxException e) {
             throw new RuntimeException(e);
         }
@@ -5,6 +5,8 @@ import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public interface YoutubePlaylistLoader {
@@ -12,4 +14,23 @@ public interface YoutubePlaylistLoader {
 
     AudioPlaylist load(HttpInterface httpInterface, String playlistId, String selectedVideoId,
                        Function<AudioTrackInfo, AudioTrack> trackFactory);
+
+    /**
+     * Loads a playlist, passing the tracks of each page to the listener as soon as that page has been loaded.
+     *
+     * @param pageListener Receives the tracks of each loaded page on the loading thread, may be null.
+     * @return The playlist with the tracks of all loaded pages.
+     */
+    default AudioPlaylist load(HttpInterface httpInterface, String playlistId, String selectedVideoId,
+                               Function<AudioTrackInfo, AudioTrack> trackFactory,
+                               Consumer<List<AudioTrack>> pageListener) {
+
+        AudioPlaylist playlist = load(httpInterface, playlistId, selectedVideoId, trackFactory);
+
+        if (pageListener != null && !playlist.getTracks().isEmpty()) {
+            pageListener.accept(playlist.getTracks());
+        }
+
+        return playlist;
+    }
 }
@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
 import com.sedmelluq.discord.lavaplayer.tools.ThumbnailTools;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
@@ -12,11 +13,9 @@ import com.sedmelluq.discord.lavaplayer.track.*;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
@@ -24,7 +23,6 @@ import java.util.function.Function;
 import static com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeConstants.SEARCH_PARAMS;
 import static com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeConstants.SEARCH_URL;
 import static com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeConstants.WATCH_URL_PREFIX;
-import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Handles processing YouTube searches.
@@ -32,6 +30,10 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
     private static final Logger log = LoggerFactory.getLogger(YoutubeSearchProvider.class);
 
+    private static final String VIDEO_RENDERER_PATH =
+        "contents.sectionListRenderer.contents[*].itemSectionRenderer.contents[*].compactVideoRenderer";
+    private static final JsonPathExtractor resultExtractor = JsonPathExtractor.compile(VIDEO_RENDERER_PATH);
+
     private final HttpInterfaceManager httpInterfaceManager;
 
     public YoutubeSearchProvider() {
@@ -62,24 +64,22 @@ public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
             try (CloseableHttpResponse response = httpInterface.execute(post)) {
                 HttpClientTools.assertSuccessWithContent(response, "search response");
 
-                String responseText = EntityUtils.toString(response.getEntity(), UTF_8);
-
-                JsonBrowser jsonBrowser = JsonBrowser.parse(responseText);
-                return extractSearchResults(jsonBrowser, query, trackFactory);
+                JsonPathExtractor.Result result = resultExtractor.extract(response.getEntity().getContent());
+                return extractSearchResults(result.values(VIDEO_RENDERER_PATH), query, trackFactory);
             }
         } catch (Exception e) {
             throw ExceptionTools.wrapUnfriendlyExceptions(e);
         }
     }
 
-    private AudioItem extractSearchResults(JsonBrowser jsonBrowser, String query,
+    private AudioItem extractSearchResults(List<JsonBrowser> videoRenderers, String query,
                                            Function<AudioTrackInfo, AudioTrack> trackFactory) {
-        List<AudioTrack> tracks;
         log.debug("Attempting to parse results from search page");
-        try {
-            tracks = extractSearchPage(jsonBrowser, trackFactory);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        List<AudioTrack> tracks = new ArrayList<>();
+
+        for (JsonBrowser videoRenderer : videoRenderers) {
+            AudioTrack track = extractPolymerData(videoRenderer, trackFactory);
+            if (track != null) tracks.add(track);
         }
 
         if (tracks.isEmpty()) {
@@ -89,27 +89,7 @@ public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
         }
     }
 
-    private List<AudioTrack> extractSearchPage(JsonBrowser jsonBrowser, Function<AudioTrackInfo, AudioTrack> trackFactory) throws IOException {
-        ArrayList<AudioTrack> list = new ArrayList<>();
-        jsonBrowser.get("contents")
-            .get("sectionListRenderer")
-            .get("contents")
-            .values()
-            .forEach(content -> content.get("itemSectionRenderer")
-                .get("contents")
-                .values()
-                .forEach(jsonTrack -> {
-                    AudioTrack track = extractPolymerData(jsonTrack, trackFactory);
-                    if (track != null) list.add(track);
-                })
-            );
-        return list;
-    }
-
     private AudioTrack extractPolymerData(JsonBrowser json, Function<AudioTrackInfo, AudioTrack> trackFactory) {
-        json = json.get("compactVideoRenderer");
-        if (json.isNull()) return null; // Ignore everything which is not a track
-
         String title = json.get("title").get("runs").index(0).get("text").text();
         String author = json.get("longBylineText").get("runs").index(0).get("text").text();
         if (json.get("lengthText").isNull()) {
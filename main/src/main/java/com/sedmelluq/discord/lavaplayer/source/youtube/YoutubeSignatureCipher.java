@@ -1,16 +1,32 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
-import javax.script.Invocable;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.Scriptable;
+
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Describes one signature cipher
  */
 public class YoutubeSignatureCipher {
+    private static final int TRANSFORM_CACHE_SIZE = 256;
+
     private final List<YoutubeCipherOperation> operations = new ArrayList<>();
+    private final Map<String, String> transformCache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > TRANSFORM_CACHE_SIZE;
+        }
+    };
+    private volatile CompiledFunction compiledNFunction;
     String nFunction = "";
     String scriptTimestamp = "";
     String rawScript = "";
@@ -47,18 +63,58 @@ public class YoutubeSignatureCipher {
 
     /**
      * @param text         Text to transform
-     * @param scriptEngine JavaScript engine to execute function
+     * @param scriptEngine Unused, the n function is compiled once and executed directly
      * @return The result of the n parameter transformation
+     * @deprecated Use {@link #transform(String)} instead
      */
+    @Deprecated
     public String transform(String text, ScriptEngine scriptEngine) throws ScriptException, NoSuchMethodException {
-        String transformed;
+        return transform(text);
+    }
 
-        scriptEngine.eval("n=" + nFunction);
-        transformed = (String) ((Invocable) scriptEngine).invokeFunction("n", text);
+    /**
+     * Applies the n function to the specified text. The function is compiled on first use and recent results are
+     * remembered, as the same n parameter is typically present in all formats of a video.
+     *
+     * @param text Text to transform
+     * @return The result of the n parameter transformation
+     * @throws ScriptException If the n function cannot be compiled or fails to execute
+     */
+    public String transform(String text) throws ScriptException {
+        synchronized (transformCache) {
+            String cached = transformCache.get(text);
+
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String transformed = getCompiledNFunction().call(text);
+
+        synchronized (transformCache) {
+            transformCache.put(text, transformed);
+        }
 
         return transformed;
     }
 
+    private CompiledFunction getCompiledNFunction() throws ScriptException {
+        CompiledFunction function = compiledNFunction;
+
+        if (function == null) {
+            synchronized (this) {
+                function = compiledNFunction;
+
+                if (function == null) {
+                    function = CompiledFunction.compile(nFunction);
+                    compiledNFunction = function;
+                }
+            }
+        }
+
+        return function;
+    }
+
     /**
      * @param operation The operation to add to this cipher
      */
@@ -66,6 +122,10 @@ public class YoutubeSignatureCipher {
         operations.add(operation);
     }
 
+    List<YoutubeCipherOperation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
     /**
      * @return True if the cipher contains no operations.
      */
@@ -78,6 +138,11 @@ public class YoutubeSignatureCipher {
      */
     public void setNFunction(String nFunction) {
         this.nFunction = nFunction;
+        this.compiledNFunction = null;
+
+        synchronized (transformCache) {
+            transformCache.clear();
+        }
     }
 
     /**
@@ -93,4 +158,77 @@ public class YoutubeSignatureCipher {
     public void setRawScript(String script) {
         rawScript = script;
     }
+
+    /**
+     * The n function compiled once into a Rhino function, along with the scope it was compiled in. Each call enters a
+     * context for the calling thread, so the function can be executed concurrently from multiple threads.
+     */
+    private static class CompiledFunction {
+        private final Scriptable scope;
+        private final Function function;
+
+        private CompiledFunction(Scriptable scope, Function function) {
+            this.scope = scope;
+            this.function = function;
+        }
+
+        private static CompiledFunction compile(String source) throws ScriptException {
+            try {
+                return compile(source, 0);
+            } catch (RhinoException e) {
+                // Functions which are too large to be compiled into bytecode can still be interpreted.
+                return compile(source, -1);
+            }
+        }
+
+        private static CompiledFunction compile(String source, int optimizationLevel) throws ScriptException {
+            Context context = Context.enter();
+
+            try {
+                context.setLanguageVersion(Context.VERSION_ES6);
+                context.setOptimizationLevel(optimizationLevel);
+
+                Scriptable scope = context.initSafeStandardObjects();
+                Object value = context.evaluateString(scope, "(" + stripTrailingSemicolon(source) + ")", "n", 1, null);
+
+                if (!(value instanceof Function)) {
+                    throw new ScriptException("The n function does not evaluate to a function.");
+                }
+
+                return new CompiledFunction(scope, (Function) value);
+            } catch (RhinoException e) {
+                if (optimizationLevel >= 0) {
+                    throw e;
+                }
+
+                throw toScriptException(e);
+            } finally {
+                Context.exit();
+            }
+        }
+
+        private String call(String text) throws ScriptException {
+            Context context = Context.enter();
+
+            try {
+                context.setLanguageVersion(Context.VERSION_ES6);
+                return Context.toString(function.call(context, scope, scope, new Object[] { text }));
+            } catch (RhinoException e) {
+                throw toScriptException(e);
+            } finally {
+                Context.exit();
+            }
+        }
+
+        private static String stripTrailingSemicolon(String source) {
+            String trimmed = source.trim();
+            return trimmed.endsWith(";") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+        }
+
+        private static ScriptException toScriptException(RhinoException e) {
+            ScriptException exception = new ScriptException(e.getMessage());
+            exception.initCause(e);
+            return exception;
+        }
+    }
 }
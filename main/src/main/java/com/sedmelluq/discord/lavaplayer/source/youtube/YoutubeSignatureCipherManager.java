@@ -7,24 +7,32 @@ import org.apache.commons.io.IOUtils;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URIBuilder;
-import org.mozilla.javascript.engine.RhinoScriptEngineFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.script.ScriptEngine;
 import javax.script.ScriptException;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -80,19 +88,43 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
 
     private static final Pattern signatureExtraction = Pattern.compile("/s/([^/]+)/");
 
-    private final ConcurrentMap<String, YoutubeSignatureCipher> cipherCache;
+    private static final int MAXIMUM_CACHED_CIPHERS = 16;
+    private static final int PERSISTENT_CACHE_VERSION = 1;
+    private static final long MAXIMUM_PERSISTENT_CACHE_SIZE = 16 * 1024 * 1024;
+
+    private final Map<String, YoutubeSignatureCipher> cipherCache;
+    private final ConcurrentMap<String, CompletableFuture<YoutubeSignatureCipher>> pendingLoads;
     private final Set<String> dumpedScriptUrls;
-    private final ScriptEngine scriptEngine;
-    private final Object cipherLoadLock;
+    private final Object persistLock;
+    private volatile Path persistentCacheFile;
 
     /**
      * Create a new signature cipher manager
      */
     public YoutubeSignatureCipherManager() {
-        this.cipherCache = new ConcurrentHashMap<>();
-        this.dumpedScriptUrls = new HashSet<>();
-        this.scriptEngine = new RhinoScriptEngineFactory().getScriptEngine();
-        this.cipherLoadLock = new Object();
+        this.cipherCache = new LinkedHashMap<String, YoutubeSignatureCipher>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, YoutubeSignatureCipher> eldest) {
+                return size() > MAXIMUM_CACHED_CIPHERS;
+            }
+        };
+        this.pendingLoads = new ConcurrentHashMap<>();
+        this.dumpedScriptUrls = ConcurrentHashMap.newKeySet();
+        this.persistLock = new Object();
+    }
+
+    /**
+     * Sets a file to persist the extracted ciphers in, so that the player scripts do not have to be downloaded and
+     * parsed again after a restart. Ciphers previously persisted to the file are loaded immediately.
+     *
+     * @param file File to persist the ciphers in, null to not persist them.
+     */
+    public void setPersistentCacheFile(Path file) {
+        this.persistentCacheFile = file;
+
+        if (file != null) {
+            loadPersistedCiphers(file);
+        }
     }
 
     /**
@@ -119,9 +151,9 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
 
         if (!DataFormatTools.isNullOrEmpty(nParameter)) {
             try {
-                uri.setParameter("n", cipher.transform(nParameter, scriptEngine));
-            } catch (ScriptException | NoSuchMethodException e) {
-                dumpProblematicScript(cipherCache.get(playerScript).rawScript, playerScript, String.format("Can't transform n parameter %s with %s n function", nParameter, cipher.nFunction));
+                uri.setParameter("n", cipher.transform(nParameter));
+            } catch (ScriptException e) {
+                dumpProblematicScript(cipher.rawScript, playerScript, String.format("Can't transform n parameter %s with %s n function", nParameter, cipher.nFunction));
             }
         }
 
@@ -155,24 +187,208 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
 
     @Override
     public YoutubeSignatureCipher getExtractedScript(HttpInterface httpInterface, String cipherScriptUrl) throws IOException {
-        YoutubeSignatureCipher cipherKey = cipherCache.get(cipherScriptUrl);
+        YoutubeSignatureCipher cipherKey;
+
+        synchronized (cipherCache) {
+            cipherKey = cipherCache.get(cipherScriptUrl);
+        }
 
-        if (cipherKey == null) {
-            synchronized (cipherLoadLock) {
-                log.debug("Parsing player script {}", cipherScriptUrl);
+        if (cipherKey != null) {
+            return cipherKey;
+        }
 
-                try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(parseTokenScriptUrl(cipherScriptUrl)))) {
-                    validateResponseCode(cipherScriptUrl, response);
+        // Only one thread loads a specific script, while scripts from other URLs can be loaded in parallel.
+        CompletableFuture<YoutubeSignatureCipher> load = new CompletableFuture<>();
+        CompletableFuture<YoutubeSignatureCipher> existingLoad = pendingLoads.putIfAbsent(cipherScriptUrl, load);
 
-                    cipherKey = extractFromScript(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8), cipherScriptUrl);
-                    cipherCache.put(cipherScriptUrl, cipherKey);
-                }
+        if (existingLoad != null) {
+            return awaitLoad(existingLoad);
+        }
+
+        try {
+            cipherKey = loadCipher(httpInterface, cipherScriptUrl);
+
+            synchronized (cipherCache) {
+                cipherCache.put(cipherScriptUrl, cipherKey);
             }
+
+            load.complete(cipherKey);
+        } catch (Throwable e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingLoads.remove(cipherScriptUrl, load);
         }
 
+        persistCiphers();
         return cipherKey;
     }
 
+    private YoutubeSignatureCipher loadCipher(HttpInterface httpInterface, String cipherScriptUrl) throws IOException {
+        log.debug("Parsing player script {}", cipherScriptUrl);
+
+        try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(parseTokenScriptUrl(cipherScriptUrl)))) {
+            validateResponseCode(cipherScriptUrl, response);
+
+            return extractFromScript(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8), cipherScriptUrl);
+        }
+    }
+
+    private static YoutubeSignatureCipher awaitLoad(CompletableFuture<YoutubeSignatureCipher> load) throws IOException {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the player script to load.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void loadPersistedCiphers(Path file) {
+        try {
+            if (Files.size(file) > MAXIMUM_PERSISTENT_CACHE_SIZE) {
+                log.warn("Ignoring persisted ciphers in {}, the file is too large.", file);
+                return;
+            }
+
+            // Everything is read before adding to the cache, so that a corrupt file is rejected as a whole.
+            Map<String, YoutubeSignatureCipher> ciphers = readPersistedCiphers(Files.readAllBytes(file));
+
+            if (ciphers == null) {
+                log.info("Ignoring persisted ciphers in {} with an unknown version.", file);
+                return;
+            }
+
+            synchronized (cipherCache) {
+                for (Map.Entry<String, YoutubeSignatureCipher> entry : ciphers.entrySet()) {
+                    cipherCache.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+
+            log.debug("Loaded {} persisted ciphers from {}.", ciphers.size(), file);
+        } catch (NoSuchFileException e) {
+            log.debug("No persisted ciphers in {} yet.", file);
+        } catch (Exception e) {
+            log.warn("Failed to load persisted ciphers from {}.", file, e);
+        }
+    }
+
+    private static Map<String, YoutubeSignatureCipher> readPersistedCiphers(byte[] data) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(data));
+
+        if (input.readInt() != PERSISTENT_CACHE_VERSION) {
+            return null;
+        }
+
+        Map<String, YoutubeSignatureCipher> ciphers = new LinkedHashMap<>();
+        int count = input.readInt();
+
+        for (int i = 0; i < count; i++) {
+            String scriptUrl = readString(input);
+            YoutubeSignatureCipher cipher = new YoutubeSignatureCipher();
+            cipher.setTimestamp(readString(input));
+            cipher.setNFunction(readString(input));
+
+            for (int operationCount = input.readInt(); operationCount > 0; operationCount--) {
+                YoutubeCipherOperationType type = YoutubeCipherOperationType.valueOf(input.readUTF());
+                cipher.addOperation(new YoutubeCipherOperation(type, input.readInt()));
+            }
+
+            ciphers.put(scriptUrl, cipher);
+        }
+
+        return ciphers;
+    }
+
+    private void persistCiphers() {
+        Path file = persistentCacheFile;
+
+        if (file == null) {
+            return;
+        }
+
+        // Loads of different scripts finish concurrently, the last one to get here writes the most recent state.
+        synchronized (persistLock) {
+            writePersistedCiphers(file);
+        }
+    }
+
+    private void writePersistedCiphers(Path file) {
+        List<Map.Entry<String, YoutubeSignatureCipher>> entries;
+
+        synchronized (cipherCache) {
+            entries = new ArrayList<>(cipherCache.entrySet());
+        }
+
+        Path temporaryFile = null;
+
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(PERSISTENT_CACHE_VERSION);
+                output.writeInt(entries.size());
+
+                for (Map.Entry<String, YoutubeSignatureCipher> entry : entries) {
+                    YoutubeSignatureCipher cipher = entry.getValue();
+
+                    writeString(output, entry.getKey());
+                    writeString(output, cipher.scriptTimestamp);
+                    writeString(output, cipher.nFunction);
+                    output.writeInt(cipher.getOperations().size());
+
+                    for (YoutubeCipherOperation operation : cipher.getOperations()) {
+                        output.writeUTF(operation.type.name());
+                        output.writeInt(operation.parameter);
+                    }
+                }
+            }
+
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temporaryFile = null;
+        } catch (Exception e) {
+            log.warn("Failed to persist ciphers to {}.", file, e);
+        } finally {
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException e) {
+                    log.debug("Failed to delete temporary cipher file {}.", temporaryFile, e);
+                }
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String text) throws IOException {
+        // Not using writeUTF, as n functions may be longer than it allows.
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+
+        // The input is in memory, so available() is exactly the number of bytes left.
+        if (length < 0 || length > input.available()) {
+            throw new IOException("Invalid string length " + length + " in persisted ciphers.");
+        }
+
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
     private void validateResponseCode(String cipherScriptUrl, CloseableHttpResponse response) throws IOException {
         int statusCode = response.getStatusLine().getStatusCode();
 
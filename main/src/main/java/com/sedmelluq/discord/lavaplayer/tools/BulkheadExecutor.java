@@ -0,0 +1,154 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Executor which runs tasks on a shared delegate executor, but at most a limited number of them at a time. Tasks over
+ * the limit wait in a queue of their own without occupying a thread of the delegate, so that one kind of task cannot
+ * take up all the threads of the delegate. If the delegate rejects a task once it gets its turn, the rejection is
+ * reported to the task if it is a {@link RejectableTask}, otherwise the task is cancelled if it is a {@link Future}.
+ */
+public class BulkheadExecutor implements Executor {
+    private static final Logger log = LoggerFactory.getLogger(BulkheadExecutor.class);
+
+    private final Executor delegate;
+    private final int queueCapacity;
+    private final ArrayDeque<Runnable> queue;
+    private int concurrency;
+    private int activeCount;
+
+    /**
+     * @param delegate      Executor to run the tasks on.
+     * @param concurrency   Maximum number of tasks to run at a time.
+     * @param queueCapacity Maximum number of tasks waiting for their turn.
+     */
+    public BulkheadExecutor(Executor delegate, int concurrency, int queueCapacity) {
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+        this.queue = new ArrayDeque<>();
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * @param concurrency Maximum number of tasks to run at a time. Waiting tasks are started immediately if it is raised.
+     */
+    public void setConcurrency(int concurrency) {
+        synchronized (queue) {
+            this.concurrency = Math.max(1, concurrency);
+        }
+
+        startQueued();
+    }
+
+    /**
+     * @return Number of tasks currently running.
+     */
+    public int getActiveCount() {
+        synchronized (queue) {
+            return activeCount;
+        }
+    }
+
+    /**
+     * @return Number of tasks waiting for their turn.
+     */
+    public int getQueuedCount() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        synchronized (queue) {
+            if (activeCount >= concurrency) {
+                if (queue.size() >= queueCapacity) {
+                    throw new RejectedExecutionException("Bulkhead queue is full.");
+                }
+
+                queue.addLast(task);
+                return;
+            }
+
+            activeCount++;
+        }
+
+        start(task);
+    }
+
+    private void start(Runnable task) {
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    onTaskFinished();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            synchronized (queue) {
+                activeCount--;
+            }
+
+            throw e;
+        }
+    }
+
+    private void onTaskFinished() {
+        synchronized (queue) {
+            activeCount--;
+        }
+
+        startQueued();
+    }
+
+    private void startQueued() {
+        while (true) {
+            Runnable next;
+
+            synchronized (queue) {
+                if (activeCount >= concurrency || queue.isEmpty()) {
+                    return;
+                }
+
+                next = queue.pollFirst();
+                activeCount++;
+            }
+
+            try {
+                start(next);
+            } catch (RejectedExecutionException e) {
+                // The submitter is no longer around to receive the exception, so the task must be told about it.
+                reject(next, e);
+            }
+        }
+    }
+
+    private static void reject(Runnable task, RejectedExecutionException exception) {
+        if (task instanceof RejectableTask) {
+            ((RejectableTask) task).rejected(exception);
+        } else if (task instanceof Future) {
+            ((Future<?>) task).cancel(false);
+        } else {
+            log.warn("Queued task {} was rejected by the delegate executor.", task, exception);
+        }
+    }
+
+    /**
+     * Task which is told when it is rejected after waiting in the queue of a bulkhead.
+     */
+    public interface RejectableTask extends Runnable {
+        /**
+         * Called instead of running the task when the delegate executor rejects it.
+         *
+         * @param exception The rejection from the delegate executor.
+         */
+        void rejected(RejectedExecutionException exception);
+    }
+}
@@ -334,7 +334,15 @@ public class JsonBrowser {
         return new ObjectMapper(jsonFactory);
     }
 
-    private static JsonBrowser create(JsonNode node) {
+    static JsonParser createParser(InputStream stream) throws IOException {
+        return mapper.getFactory().createParser(stream);
+    }
+
+    static JsonParser createParser(String json) throws IOException {
+        return mapper.getFactory().createParser(json);
+    }
+
+    static JsonBrowser create(JsonNode node) {
         return node != null ? new JsonBrowser(node) : NULL_BROWSER;
     }
 }
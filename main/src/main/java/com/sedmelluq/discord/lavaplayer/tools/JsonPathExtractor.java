@@ -0,0 +1,249 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extracts the values at a fixed set of paths from a JSON document in a single streaming pass. Unlike
+ * {@link JsonBrowser#parse(InputStream)}, only the matched values are materialised, everything else in the document is
+ * skipped by the parser without building a tree for it.
+ *
+ * A path consists of map keys separated by dots, where each key may be followed by list selectors: [n] selects the
+ * element at index n and [*] selects every element. For example
+ * {@code contents.sectionListRenderer.contents[*].itemSectionRenderer}.
+ */
+public class JsonPathExtractor {
+    private final Map<String, Integer> pathIndexes;
+    private final Node root;
+
+    private JsonPathExtractor(Map<String, Integer> pathIndexes, Node root) {
+        this.pathIndexes = pathIndexes;
+        this.root = root;
+    }
+
+    /**
+     * @param paths Paths to extract. The same extractor can be used concurrently for any number of documents.
+     * @return Extractor for the specified paths.
+     */
+    public static JsonPathExtractor compile(String... paths) {
+        Map<String, Integer> pathIndexes = new HashMap<>();
+        Node root = new Node();
+
+        for (String path : paths) {
+            if (pathIndexes.containsKey(path)) {
+                continue;
+            }
+
+            int pathIndex = pathIndexes.size();
+            pathIndexes.put(path, pathIndex);
+
+            Node node = root;
+
+            for (String segment : path.split("\\.")) {
+                node = compileSegment(node, segment, path);
+            }
+
+            node.pathIndex = pathIndex;
+        }
+
+        return new JsonPathExtractor(pathIndexes, root);
+    }
+
+    /**
+     * @param stream Stream of the JSON document. It is read up to the end of the document, but not closed.
+     * @return The values found at the paths of this extractor.
+     * @throws IOException When reading or parsing the document fails.
+     */
+    public Result extract(InputStream stream) throws IOException {
+        try (JsonParser parser = JsonBrowser.createParser(stream)) {
+            return extract(parser);
+        }
+    }
+
+    /**
+     * @param json The JSON document as a string.
+     * @return The values found at the paths of this extractor.
+     * @throws IOException When parsing the document fails.
+     */
+    public Result extract(String json) throws IOException {
+        try (JsonParser parser = JsonBrowser.createParser(json)) {
+            return extract(parser);
+        }
+    }
+
+    private Result extract(JsonParser parser) throws IOException {
+        List<List<JsonBrowser>> values = new ArrayList<>(pathIndexes.size());
+
+        for (int i = 0; i < pathIndexes.size(); i++) {
+            values.add(new ArrayList<>());
+        }
+
+        if (parser.nextToken() != null) {
+            readValue(parser, root, values);
+        }
+
+        return new Result(pathIndexes, values);
+    }
+
+    private static Node compileSegment(Node parent, String segment, String path) {
+        int selectorStart = segment.indexOf('[');
+        String key = selectorStart >= 0 ? segment.substring(0, selectorStart) : segment;
+        Node node = parent;
+
+        if (!key.isEmpty()) {
+            node = node.keys.computeIfAbsent(key, ignored -> new Node());
+        }
+
+        while (selectorStart >= 0) {
+            int selectorEnd = segment.indexOf(']', selectorStart);
+
+            if (selectorEnd < 0) {
+                throw new IllegalArgumentException("Unterminated list selector in path " + path);
+            }
+
+            String selector = segment.substring(selectorStart + 1, selectorEnd);
+
+            if ("*".equals(selector)) {
+                if (node.anyIndex == null) {
+                    node.anyIndex = new Node();
+                }
+
+                node = node.anyIndex;
+            } else {
+                try {
+                    node = node.indexes.computeIfAbsent(Integer.parseInt(selector), ignored -> new Node());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid list selector in path " + path, e);
+                }
+            }
+
+            selectorStart = segment.indexOf('[', selectorEnd);
+        }
+
+        return node;
+    }
+
+    private static void readValue(JsonParser parser, Node node, List<List<JsonBrowser>> values) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (node.pathIndex >= 0) {
+            JsonBrowser value = JsonBrowser.create(parser.readValueAsTree());
+
+            if (!value.isNull()) {
+                values.get(node.pathIndex).add(value);
+
+                // Paths below an extracted value are resolved from its tree, as the parser has already passed it.
+                collectFromTree(value, node, values);
+            }
+        } else if (token == JsonToken.START_OBJECT && !node.keys.isEmpty()) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Node child = node.keys.get(parser.getCurrentName());
+                parser.nextToken();
+
+                if (child != null) {
+                    readValue(parser, child, values);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY && (node.anyIndex != null || !node.indexes.isEmpty())) {
+            int index = 0;
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Node indexChild = node.indexes.get(index);
+
+                if (indexChild != null && node.anyIndex != null) {
+                    // Both selectors match this element, so it is materialised once and both are resolved from it.
+                    JsonBrowser element = JsonBrowser.create(parser.readValueAsTree());
+                    collectMatch(element, node.anyIndex, values);
+                    collectMatch(element, indexChild, values);
+                } else if (indexChild != null || node.anyIndex != null) {
+                    readValue(parser, indexChild != null ? indexChild : node.anyIndex, values);
+                } else {
+                    parser.skipChildren();
+                }
+
+                index++;
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private static void collectFromTree(JsonBrowser value, Node node, List<List<JsonBrowser>> values) {
+        for (Map.Entry<String, Node> entry : node.keys.entrySet()) {
+            collectMatch(value.get(entry.getKey()), entry.getValue(), values);
+        }
+
+        if (node.anyIndex != null) {
+            for (JsonBrowser element : value.values()) {
+                collectMatch(element, node.anyIndex, values);
+            }
+        }
+
+        for (Map.Entry<Integer, Node> entry : node.indexes.entrySet()) {
+            collectMatch(value.index(entry.getKey()), entry.getValue(), values);
+        }
+    }
+
+    private static void collectMatch(JsonBrowser value, Node node, List<List<JsonBrowser>> values) {
+        if (value.isNull()) {
+            return;
+        } else if (node.pathIndex >= 0) {
+            values.get(node.pathIndex).add(value);
+        }
+
+        collectFromTree(value, node, values);
+    }
+
+    /**
+     * Values extracted from one document.
+     */
+    public static class Result {
+        private final Map<String, Integer> pathIndexes;
+        private final List<List<JsonBrowser>> values;
+
+        private Result(Map<String, Integer> pathIndexes, List<List<JsonBrowser>> values) {
+            this.pathIndexes = pathIndexes;
+            this.values = values;
+        }
+
+        /**
+         * @param path One of the paths the extractor was compiled with.
+         * @return The first value found at the path, or a null browser if there was none.
+         */
+        public JsonBrowser get(String path) {
+            List<JsonBrowser> pathValues = values(path);
+            return pathValues.isEmpty() ? JsonBrowser.NULL_BROWSER : pathValues.get(0);
+        }
+
+        /**
+         * @param path One of the paths the extractor was compiled with.
+         * @return All values found at the path, in document order.
+         */
+        public List<JsonBrowser> values(String path) {
+            Integer pathIndex = pathIndexes.get(path);
+
+            if (pathIndex == null) {
+                throw new IllegalArgumentException("Path " + path + " was not compiled into this extractor.");
+            }
+
+            return Collections.unmodifiableList(values.get(pathIndex));
+        }
+    }
+
+    private static class Node {
+        private final Map<String, Node> keys = new HashMap<>();
+        private final Map<Integer, Node> indexes = new HashMap<>();
+        private Node anyIndex;
+        private int pathIndex = -1;
+    }
+}
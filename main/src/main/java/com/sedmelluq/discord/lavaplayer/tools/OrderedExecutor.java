@@ -1,13 +1,14 @@
 package com.sedmelluq.discord.lavaplayer.tools;
 
 import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 /**
  * Wrapper for executor services which ensures that tasks with the same key are processed in order.
  */
 public class OrderedExecutor {
     private final ExecutorService delegateService;
-    private final ConcurrentMap<Object, BlockingQueue<Runnable>> states;
+    private final ConcurrentMap<Object, BlockingQueue<OrderedTask>> states;
 
     /**
      * @param delegateService Executor service where to delegate the actual execution to
@@ -24,7 +25,7 @@ public class OrderedExecutor {
      */
     public Future<Void> submit(Object orderingKey, Runnable runnable) {
         RunnableFuture<Void> runnableFuture = newTaskFor(runnable, null);
-        queueOrSubmit(new ChannelRunnable(orderingKey), runnableFuture);
+        queueOrSubmit(orderingKey, new OrderedTask(runnableFuture, delegateService, null));
         return runnableFuture;
     }
 
@@ -35,24 +36,56 @@ public class OrderedExecutor {
      */
     public <T> Future<T> submit(Object orderingKey, Callable<T> callable) {
         RunnableFuture<T> runnableFuture = newTaskFor(callable);
-        queueOrSubmit(new ChannelRunnable(orderingKey), runnableFuture);
+        queueOrSubmit(orderingKey, new OrderedTask(runnableFuture, delegateService, null));
         return runnableFuture;
     }
 
-    private void queueOrSubmit(ChannelRunnable runnable, Runnable delegate) {
-        BlockingQueue<Runnable> newQueue = new LinkedBlockingQueue<>();
-        newQueue.add(delegate);
+    /**
+     * @param orderingKey      Key for the ordering channel
+     * @param executor         Executor to run this task on instead of the executor service, for example one which
+     *                         limits the concurrency of a kind of tasks. The channel waits for the executor to run the
+     *                         task without occupying a thread, which keeps the order with the other tasks of the channel.
+     * @param callable         Callable to submit to the executor
+     * @param rejectionHandler Called instead of running the task if the executor rejects it after the earlier tasks of
+     *                         the channel have finished. Rejection at the time of submission is thrown from this method.
+     * @return Future for the task
+     */
+    public <T> Future<T> submit(Object orderingKey, Executor executor, Callable<T> callable,
+                                Consumer<RejectedExecutionException> rejectionHandler) {
 
-        BlockingQueue<Runnable> existing = states.putIfAbsent(runnable.key, newQueue);
+        RunnableFuture<T> runnableFuture = newTaskFor(callable);
+        queueOrSubmit(orderingKey, new OrderedTask(runnableFuture, executor, rejectionHandler));
+        return runnableFuture;
+    }
+
+    private void queueOrSubmit(Object key, OrderedTask task) {
+        BlockingQueue<OrderedTask> newQueue = new LinkedBlockingQueue<>();
+        newQueue.add(task);
+
+        BlockingQueue<OrderedTask> existing = states.putIfAbsent(key, newQueue);
 
         if (existing != null) {
-            existing.add(delegate);
+            existing.add(task);
 
-            if (states.putIfAbsent(runnable.key, existing) == null) {
-                delegateService.execute(new ChannelRunnable(runnable.key));
+            if (states.putIfAbsent(key, existing) == null) {
+                startChannel(key, existing, task);
             }
         } else {
-            delegateService.execute(runnable);
+            startChannel(key, newQueue, task);
+        }
+    }
+
+    private void startChannel(Object key, BlockingQueue<OrderedTask> queue, OrderedTask task) {
+        try {
+            task.executor.execute(new ChannelRunnable(key, task.executor));
+        } catch (RejectedExecutionException e) {
+            queue.remove(task);
+
+            if (queue.isEmpty()) {
+                states.remove(key, queue);
+            }
+
+            throw e;
         }
     }
 
@@ -64,39 +97,101 @@ public class OrderedExecutor {
         return new FutureTask<>(callable);
     }
 
-    private class ChannelRunnable implements Runnable {
+    private static class OrderedTask {
+        private final RunnableFuture<?> runnable;
+        private final Executor executor;
+        private final Consumer<RejectedExecutionException> rejectionHandler;
+
+        private OrderedTask(RunnableFuture<?> runnable, Executor executor,
+                            Consumer<RejectedExecutionException> rejectionHandler) {
+
+            this.runnable = runnable;
+            this.executor = executor;
+            this.rejectionHandler = rejectionHandler;
+        }
+
+        private void reject(RejectedExecutionException exception) {
+            runnable.cancel(false);
+
+            if (rejectionHandler != null) {
+                rejectionHandler.accept(exception);
+            }
+        }
+    }
+
+    private class ChannelRunnable implements BulkheadExecutor.RejectableTask {
         private final Object key;
+        private final Executor executor;
 
-        private ChannelRunnable(Object key) {
+        private ChannelRunnable(Object key, Executor executor) {
             this.key = key;
+            this.executor = executor;
         }
 
         @Override
         public void run() {
-            BlockingQueue<Runnable> queue = states.get(key);
+            BlockingQueue<OrderedTask> queue = states.get(key);
 
             if (queue != null) {
                 executeQueue(queue);
             }
         }
 
-        private void executeQueue(BlockingQueue<Runnable> queue) {
-            Runnable next;
+        @Override
+        public void rejected(RejectedExecutionException exception) {
+            BlockingQueue<OrderedTask> queue = states.get(key);
+
+            if (queue != null) {
+                OrderedTask next = queue.poll();
+
+                if (next != null) {
+                    next.reject(exception);
+                }
+
+                continueOnNextExecutor(queue);
+            }
+        }
+
+        private void executeQueue(BlockingQueue<OrderedTask> queue) {
+            OrderedTask next;
 
-            while ((next = queue.poll()) != null) {
+            while ((next = queue.peek()) != null) {
+                if (next.executor != executor) {
+                    continueOnNextExecutor(queue);
+                    return;
+                }
+
+                queue.poll();
                 boolean finished = false;
 
                 try {
-                    next.run();
+                    next.runnable.run();
                     finished = true;
                 } finally {
                     if (!finished) {
-                        delegateService.execute(new ChannelRunnable(key));
+                        executor.execute(new ChannelRunnable(key, executor));
                     }
                 }
             }
 
             states.remove(key, queue);
         }
+
+        private void continueOnNextExecutor(BlockingQueue<OrderedTask> queue) {
+            OrderedTask next;
+
+            // The channel continues on the executor of the next task once it gets its turn there.
+            while ((next = queue.peek()) != null) {
+                try {
+                    next.executor.execute(new ChannelRunnable(key, next.executor));
+                    return;
+                } catch (RejectedExecutionException e) {
+                    queue.poll();
+                    next.reject(e);
+                }
+            }
+
+            states.remove(key, queue);
+        }
     }
 }
@@ -0,0 +1,223 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.utils.DateUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.COMMON;
+import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.SUSPICIOUS;
+
+/**
+ * Token bucket rate limiter for the requests to one source. Requests over the rate wait for their turn in the order
+ * they arrived instead of failing, unless their turn would be further away than the maximum wait. The rate is halved
+ * whenever the server responds with 429, requests are paused for as long as its Retry-After header asks, and the rate
+ * then recovers gradually back to the maximum with successful responses.
+ */
+public class AdaptiveRateLimiter {
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveRateLimiter.class);
+
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double INCREASE_FRACTION = 0.05;
+    private static final long DECREASE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final double maximumRate;
+    private final double minimumRate;
+    private final double burstSize;
+    private final long maximumWait;
+    private final ReentrantLock lock;
+    private final AtomicInteger queueDepth;
+    private double rate;
+    private double storedPermits;
+    private long nextFreeTime;
+    private long lastDecreaseTime;
+
+    /**
+     * @param maximumRate Maximum number of requests per second, which is also the initial rate.
+     * @param burstSize   Number of requests which can be made at once after a period of inactivity.
+     * @param maximumWait Maximum time in milliseconds a request may wait for its turn before it fails.
+     */
+    public AdaptiveRateLimiter(double maximumRate, int burstSize, long maximumWait) {
+        this(maximumRate, maximumRate / 32, burstSize, maximumWait);
+    }
+
+    /**
+     * @param maximumRate Maximum number of requests per second, which is also the initial rate.
+     * @param minimumRate Rate in requests per second which 429 responses cannot reduce the rate below.
+     * @param burstSize   Number of requests which can be made at once after a period of inactivity.
+     * @param maximumWait Maximum time in milliseconds a request may wait for its turn before it fails.
+     */
+    public AdaptiveRateLimiter(double maximumRate, double minimumRate, int burstSize, long maximumWait) {
+        if (maximumRate <= 0 || minimumRate <= 0 || minimumRate > maximumRate) {
+            throw new IllegalArgumentException("Rates must be positive and the minimum must not exceed the maximum.");
+        }
+
+        this.maximumRate = maximumRate;
+        this.minimumRate = minimumRate;
+        this.burstSize = Math.max(1, burstSize);
+        this.maximumWait = TimeUnit.MILLISECONDS.toNanos(maximumWait);
+        this.lock = new ReentrantLock(true);
+        this.queueDepth = new AtomicInteger();
+        this.rate = maximumRate;
+        this.storedPermits = this.burstSize;
+        this.nextFreeTime = System.nanoTime();
+        this.lastDecreaseTime = nextFreeTime - DECREASE_INTERVAL;
+    }
+
+    /**
+     * @return Current rate in requests per second.
+     */
+    public double getCurrentRate() {
+        lock.lock();
+
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of requests currently waiting for their turn.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Waits until a request can be made.
+     *
+     * @throws FriendlyException If the request would have to wait longer than the maximum wait, or if the thread was
+     *                           interrupted while waiting.
+     */
+    public void acquire() {
+        long wait = reserve(System.nanoTime());
+
+        if (wait < 0) {
+            throw new FriendlyException("Too many requests to this source, try again later.", COMMON, null);
+        } else if (wait == 0) {
+            return;
+        }
+
+        queueDepth.incrementAndGet();
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FriendlyException("Interrupted while waiting for the request rate limit.", SUSPICIOUS, e);
+        } finally {
+            queueDepth.decrementAndGet();
+        }
+    }
+
+    /**
+     * Adapts the rate to a response received from the source.
+     *
+     * @param response The response.
+     * @return True if the response was 429 and the request can be retried within the maximum wait.
+     */
+    public boolean onResponse(HttpResponse response) {
+        long now = System.nanoTime();
+
+        if (response.getStatusLine().getStatusCode() != 429) {
+            if (response.getStatusLine().getStatusCode() < 500) {
+                increaseRate(now);
+            }
+
+            return false;
+        }
+
+        long retryAfter = getRetryAfter(response);
+
+        lock.lock();
+
+        try {
+            synchronize(now);
+
+            if (now - lastDecreaseTime >= DECREASE_INTERVAL) {
+                // Responses to requests which were already in flight do not reduce the rate again.
+                lastDecreaseTime = now;
+                rate = Math.max(minimumRate, rate * DECREASE_FACTOR);
+
+                log.debug("Reduced request rate to {} per second after a 429 response.", rate);
+            }
+
+            storedPermits = 0;
+
+            if (retryAfter > 0) {
+                nextFreeTime = Math.max(nextFreeTime, now + retryAfter);
+            }
+
+            return nextFreeTime - now <= maximumWait;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long reserve(long now) {
+        lock.lock();
+
+        try {
+            synchronize(now);
+
+            long wait = Math.max(0, nextFreeTime - now);
+
+            if (wait > maximumWait) {
+                return -1;
+            }
+
+            double fromStored = Math.min(1, storedPermits);
+            storedPermits -= fromStored;
+            nextFreeTime += (long) ((1 - fromStored) * TimeUnit.SECONDS.toNanos(1) / rate);
+            return wait;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void increaseRate(long now) {
+        lock.lock();
+
+        try {
+            if (rate < maximumRate) {
+                synchronize(now);
+                rate = Math.min(maximumRate, rate + maximumRate * INCREASE_FRACTION);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void synchronize(long now) {
+        if (now > nextFreeTime) {
+            storedPermits = Math.min(burstSize, storedPermits + (now - nextFreeTime) * rate / TimeUnit.SECONDS.toNanos(1));
+            nextFreeTime = now;
+        }
+    }
+
+    private static long getRetryAfter(HttpResponse response) {
+        Header header = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+
+        if (header == null || header.getValue() == null) {
+            return 0;
+        }
+
+        String value = header.getValue().trim();
+
+        try {
+            return TimeUnit.SECONDS.toNanos(Long.parseLong(value));
+        } catch (NumberFormatException ignored) {
+            Date date = DateUtils.parseDate(value);
+            return date != null ? TimeUnit.MILLISECONDS.toNanos(date.getTime() - System.currentTimeMillis()) : 0;
+        }
+    }
+}
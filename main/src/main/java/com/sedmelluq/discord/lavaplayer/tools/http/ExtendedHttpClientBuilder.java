@@ -51,6 +51,7 @@ public class ExtendedHttpClientBuilder extends HttpClientBuilder {
     private PlainConnectionSocketFactory plainSocketFactory;
     private SSLConnectionSocketFactory sslSocketFactory;
     private ConnectionManagerFactory connectionManagerFactory = ExtendedHttpClientBuilder::createDefaultConnectionManager;
+    private SourceCircuitBreaker circuitBreaker;
 
     @Override
     public synchronized CloseableHttpClient build() {
@@ -60,6 +61,14 @@ public class ExtendedHttpClientBuilder extends HttpClientBuilder {
         return httpClient;
     }
 
+    /**
+     * @param circuitBreaker Circuit breaker which the requests of the built clients go through, and which limits their
+     *                       automatic retries. Null to disable.
+     */
+    public synchronized void setCircuitBreaker(SourceCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
     /**
      * @param sslContextOverride SSL context to make the built clients use. Note that calling
      *                           {@link #setSSLContext(SSLContext)} has no effect because this class cannot access the
@@ -90,6 +99,12 @@ public class ExtendedHttpClientBuilder extends HttpClientBuilder {
         return mainExec;
     }
 
+    @Override
+    protected ClientExecChain decorateProtocolExec(ClientExecChain protocolExec) {
+        // Below the retry executor, so that every attempt goes through the circuit breaker.
+        return circuitBreaker != null ? circuitBreaker.decorate(protocolExec) : protocolExec;
+    }
+
     private HttpClientConnectionManager createConnectionManager() {
         return connectionManagerFactory.create(
             new ExtendedConnectionOperator(createConnectionSocketFactory(), null, null),
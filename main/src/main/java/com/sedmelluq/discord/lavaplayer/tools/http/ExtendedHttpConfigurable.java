@@ -4,4 +4,13 @@ import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 
 public interface ExtendedHttpConfigurable extends HttpConfigurable {
     void setHttpContextFilter(HttpContextFilter filter);
+
+    /**
+     * @param rateLimiter Rate limiter which all requests other than playback requests wait for, regardless of the
+     *                    context filter. Null to disable.
+     * @throws UnsupportedOperationException If the implementation does not support rate limiting.
+     */
+    default void setRateLimiter(AdaptiveRateLimiter rateLimiter) {
+        throw new UnsupportedOperationException();
+    }
 }
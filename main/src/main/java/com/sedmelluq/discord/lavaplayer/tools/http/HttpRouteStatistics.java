@@ -0,0 +1,68 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+/**
+ * Snapshot of the connection pool statistics of one route.
+ */
+public class HttpRouteStatistics {
+    /**
+     * The route, as formatted by the HTTP client.
+     */
+    public final String route;
+    /**
+     * Number of connections currently leased for requests.
+     */
+    public final int leased;
+    /**
+     * Number of idle connections kept alive for reuse.
+     */
+    public final int idle;
+    /**
+     * Number of requests currently waiting for a connection.
+     */
+    public final int pending;
+    /**
+     * Maximum number of connections for the route.
+     */
+    public final int max;
+    /**
+     * Total number of connections requested from the pool.
+     */
+    public final long requests;
+    /**
+     * Total number of new connections opened, each of which included a TLS handshake for secure routes.
+     */
+    public final long connectionsOpened;
+    /**
+     * Total time spent waiting for a connection from the pool in milliseconds.
+     */
+    public final long totalWaitTime;
+
+    /**
+     * @param route             See {@link #route}
+     * @param leased            See {@link #leased}
+     * @param idle              See {@link #idle}
+     * @param pending           See {@link #pending}
+     * @param max               See {@link #max}
+     * @param requests          See {@link #requests}
+     * @param connectionsOpened See {@link #connectionsOpened}
+     * @param totalWaitTime     See {@link #totalWaitTime}
+     */
+    public HttpRouteStatistics(String route, int leased, int idle, int pending, int max, long requests,
+                               long connectionsOpened, long totalWaitTime) {
+
+        this.route = route;
+        this.leased = leased;
+        this.idle = idle;
+        this.pending = pending;
+        this.max = max;
+        this.requests = requests;
+        this.connectionsOpened = connectionsOpened;
+        this.totalWaitTime = totalWaitTime;
+    }
+
+    @Override
+    public String toString() {
+        return route + " [leased: " + leased + ", idle: " + idle + ", pending: " + pending + ", max: " + max +
+            ", requests: " + requests + ", opened: " + connectionsOpened + ", wait: " + totalWaitTime + " ms]";
+    }
+}
@@ -15,7 +15,7 @@ public class HttpStreamTools {
         boolean success = false;
 
         try {
-            response = httpInterface.execute(request);
+            response = httpInterface.executeForPlayback(request);
             int statusCode = response.getStatusLine().getStatusCode();
 
             if (!HttpClientTools.isSuccessWithContent(statusCode)) {
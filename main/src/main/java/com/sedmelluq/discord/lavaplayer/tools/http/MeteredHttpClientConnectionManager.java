@@ -0,0 +1,132 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionOperator;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pooling connection manager which counts connection requests, newly opened connections and the time spent waiting
+ * for a connection from the pool per route. The counters are kept in a shared map, so that they survive the connection
+ * manager being replaced when the HTTP client is rebuilt.
+ */
+public class MeteredHttpClientConnectionManager extends PoolingHttpClientConnectionManager {
+    private final Map<HttpRoute, RouteCounters> counters;
+
+    /**
+     * @param operator          Connection operator.
+     * @param connectionFactory Connection factory.
+     * @param counters          Map to keep the counters in.
+     */
+    public MeteredHttpClientConnectionManager(
+        HttpClientConnectionOperator operator,
+        HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connectionFactory,
+        Map<HttpRoute, RouteCounters> counters
+    ) {
+        super(operator, connectionFactory, -1, TimeUnit.MILLISECONDS);
+
+        this.counters = counters;
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        ConnectionRequest request = super.requestConnection(route, state);
+        RouteCounters routeCounters = getCounters(route);
+
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+                throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+
+                long start = System.nanoTime();
+
+                try {
+                    return request.get(timeout, timeUnit);
+                } finally {
+                    routeCounters.requests.incrementAndGet();
+                    routeCounters.waitNanos.addAndGet(System.nanoTime() - start);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void connect(HttpClientConnection managedConn, HttpRoute route, int connectTimeout, HttpContext context)
+        throws IOException {
+
+        super.connect(managedConn, route, connectTimeout, context);
+        getCounters(route).connectionsOpened.incrementAndGet();
+    }
+
+    /**
+     * @return Statistics of all routes which have either connections in the pool or counters.
+     */
+    public List<HttpRouteStatistics> getRouteStatistics() {
+        List<HttpRouteStatistics> statistics = new ArrayList<>();
+
+        for (HttpRoute route : getRoutes()) {
+            statistics.add(createStatistics(route, getStats(route), counters.get(route)));
+        }
+
+        for (Map.Entry<HttpRoute, RouteCounters> entry : counters.entrySet()) {
+            if (!getRoutes().contains(entry.getKey())) {
+                statistics.add(createStatistics(entry.getKey(), null, entry.getValue()));
+            }
+        }
+
+        return statistics;
+    }
+
+    private RouteCounters getCounters(HttpRoute route) {
+        return counters.computeIfAbsent(route, key -> new RouteCounters());
+    }
+
+    private static HttpRouteStatistics createStatistics(HttpRoute route, PoolStats stats, RouteCounters routeCounters) {
+        return new HttpRouteStatistics(
+            route.toString(),
+            stats != null ? stats.getLeased() : 0,
+            stats != null ? stats.getAvailable() : 0,
+            stats != null ? stats.getPending() : 0,
+            stats != null ? stats.getMax() : 0,
+            routeCounters != null ? routeCounters.requests.get() : 0,
+            routeCounters != null ? routeCounters.connectionsOpened.get() : 0,
+            routeCounters != null ? TimeUnit.NANOSECONDS.toMillis(routeCounters.waitNanos.get()) : 0
+        );
+    }
+
+    /**
+     * Counters of one route.
+     */
+    public static class RouteCounters {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong connectionsOpened = new AtomicLong();
+        private final AtomicLong waitNanos = new AtomicLong();
+    }
+
+    /**
+     * @return A new map for keeping the counters in.
+     */
+    public static Map<HttpRoute, RouteCounters> createCounterMap() {
+        return new ConcurrentHashMap<>();
+    }
+}
@@ -21,6 +21,13 @@ public class MultiHttpConfigurable implements ExtendedHttpConfigurable {
         }
     }
 
+    @Override
+    public void setRateLimiter(AdaptiveRateLimiter rateLimiter) {
+        for (ExtendedHttpConfigurable configurable : configurables) {
+            configurable.setRateLimiter(rateLimiter);
+        }
+    }
+
     @Override
     public void configureRequests(Function<RequestConfig, RequestConfig> configurator) {
         for (ExtendedHttpConfigurable configurable : configurables) {
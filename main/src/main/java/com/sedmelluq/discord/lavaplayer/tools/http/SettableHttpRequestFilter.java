@@ -1,11 +1,17 @@
 package com.sedmelluq.discord.lavaplayer.tools.http;
 
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.util.EntityUtils;
 
 public class SettableHttpRequestFilter implements HttpContextFilter {
+    private static final HttpContextRetryCounter rateLimitRetryCounter = new HttpContextRetryCounter("rate-limit-retry");
+    private static final int MAXIMUM_RATE_LIMIT_RETRIES = 3;
+
     private HttpContextFilter filter;
+    private volatile AdaptiveRateLimiter rateLimiter;
 
     public HttpContextFilter get() {
         return filter;
@@ -15,6 +21,18 @@ public class SettableHttpRequestFilter implements HttpContextFilter {
         this.filter = filter;
     }
 
+    public AdaptiveRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * @param rateLimiter Rate limiter which requests wait for before they are made, independently of the filter. Requests
+     *                    made with {@link HttpInterface#executeForPlayback} are not limited. Null to disable.
+     */
+    public void setRateLimiter(AdaptiveRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
     @Override
     public void onContextOpen(HttpClientContext context) {
         HttpContextFilter current = filter;
@@ -35,6 +53,13 @@ public class SettableHttpRequestFilter implements HttpContextFilter {
 
     @Override
     public void onRequest(HttpClientContext context, HttpUriRequest request, boolean isRepetition) {
+        AdaptiveRateLimiter limiter = rateLimiter;
+
+        if (limiter != null && !HttpInterface.isPlaybackRequest(context)) {
+            rateLimitRetryCounter.handleUpdate(context, isRepetition);
+            limiter.acquire();
+        }
+
         HttpContextFilter current = filter;
 
         if (current != null) {
@@ -44,6 +69,16 @@ public class SettableHttpRequestFilter implements HttpContextFilter {
 
     @Override
     public boolean onRequestResponse(HttpClientContext context, HttpUriRequest request, HttpResponse response) {
+        AdaptiveRateLimiter limiter = rateLimiter;
+
+        if (limiter != null && !HttpInterface.isPlaybackRequest(context) && limiter.onResponse(response) &&
+            rateLimitRetryCounter.getRetryCount(context) < MAXIMUM_RATE_LIMIT_RETRIES) {
+
+            // The retry waits in the rate limiter until the pause requested by the server is over.
+            EntityUtils.consumeQuietly(response.getEntity());
+            return true;
+        }
+
         HttpContextFilter current = filter;
 
         if (current != null) {
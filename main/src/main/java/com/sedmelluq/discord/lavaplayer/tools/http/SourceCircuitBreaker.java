@@ -0,0 +1,283 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import org.apache.http.HttpException;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpExecutionAware;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.execchain.ClientExecChain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.COMMON;
+
+/**
+ * Circuit breaker for the requests to one source. It opens when the share of failed requests (connection errors and
+ * 5xx responses) among the recent ones exceeds a threshold, after which requests fail immediately instead of tying up
+ * loader threads in timeouts. Once the open duration has passed, a limited number of trial requests are let through,
+ * which close the breaker again if they all succeed. Automatic retries of failed requests are also limited to a number
+ * per time window, so that retries cannot multiply the load on a failing source. Requests made with
+ * {@link HttpInterface#executeForPlayback} neither count towards nor are blocked by the breaker, so that tracks which
+ * are already playing are not cut short by it.
+ */
+public class SourceCircuitBreaker {
+    private static final Logger log = LoggerFactory.getLogger(SourceCircuitBreaker.class);
+
+    private static final String ATTRIBUTE_LAST_REQUEST = "circuit-breaker-last-request";
+    private static final String ATTRIBUTE_LAST_FAILURE = "circuit-breaker-last-failure";
+
+    private final double failureRateThreshold;
+    private final boolean[] outcomes;
+    private final int minimumRequests;
+    private final long openDuration;
+    private final int trialCount;
+    private final int maximumRetries;
+    private final long retryWindow;
+    private final ArrayDeque<Long> retryTimes;
+    private State state;
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int failureCount;
+    private long openedAt;
+    private int trialsStarted;
+    private int trialsSucceeded;
+
+    /**
+     * Create an instance which opens when half of the last 20 requests failed, stays open for 30 seconds, closes after
+     * 3 successful trial requests and allows 20 retries per 10 seconds.
+     */
+    public SourceCircuitBreaker() {
+        this(0.5, 20, TimeUnit.SECONDS.toMillis(30), 3, 20, TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * @param failureRateThreshold Share of failed requests at which the breaker opens, between 0 and 1.
+     * @param windowSize           Number of most recent requests the failure rate is calculated from. The breaker does
+     *                             not open before at least half of that many requests have been made.
+     * @param openDuration         Time in milliseconds requests fail immediately for once the breaker opens.
+     * @param trialCount           Number of trial requests which must succeed to close the breaker again.
+     * @param maximumRetries       Maximum number of automatic retries per retry window.
+     * @param retryWindow          Length of the retry window in milliseconds.
+     */
+    public SourceCircuitBreaker(double failureRateThreshold, int windowSize, long openDuration, int trialCount,
+                                int maximumRetries, long retryWindow) {
+
+        this.failureRateThreshold = failureRateThreshold;
+        this.outcomes = new boolean[Math.max(1, windowSize)];
+        this.minimumRequests = Math.max(1, outcomes.length / 2);
+        this.openDuration = TimeUnit.MILLISECONDS.toNanos(openDuration);
+        this.trialCount = Math.max(1, trialCount);
+        this.maximumRetries = maximumRetries;
+        this.retryWindow = TimeUnit.MILLISECONDS.toNanos(retryWindow);
+        this.retryTimes = new ArrayDeque<>();
+        this.state = State.CLOSED;
+    }
+
+    /**
+     * @return Current state of the breaker.
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDuration) {
+            return State.HALF_OPEN;
+        }
+
+        return state;
+    }
+
+    /**
+     * @return Share of failed requests among the recent requests while the breaker is closed.
+     */
+    public synchronized double getFailureRate() {
+        return outcomeCount > 0 ? (double) failureCount / outcomeCount : 0;
+    }
+
+    /**
+     * @return Number of retries made in the current retry window.
+     */
+    public synchronized int getRecentRetryCount() {
+        expireRetries(System.nanoTime());
+        return retryTimes.size();
+    }
+
+    /**
+     * @return True if a request may be made now. Every permitted request must be followed by a call to
+     * {@link #onSuccess()} or {@link #onFailure()}.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDuration) {
+                return false;
+            }
+
+            state = State.HALF_OPEN;
+            trialsStarted = 0;
+            trialsSucceeded = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (trialsStarted >= trialCount) {
+                return false;
+            }
+
+            trialsStarted++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Records a successful request.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.CLOSED) {
+            recordOutcome(false);
+        } else if (state == State.HALF_OPEN && ++trialsSucceeded >= trialCount) {
+            log.info("Circuit breaker closed after {} successful trial requests.", trialsSucceeded);
+
+            state = State.CLOSED;
+            resetOutcomes();
+        }
+    }
+
+    /**
+     * Records a failed request.
+     *
+     * @return True if the breaker opened because of this failure.
+     */
+    public synchronized boolean onFailure() {
+        if (state == State.CLOSED) {
+            recordOutcome(true);
+
+            if (outcomeCount < minimumRequests || (double) failureCount / outcomeCount < failureRateThreshold) {
+                return false;
+            }
+        } else if (state != State.HALF_OPEN) {
+            return false;
+        }
+
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        resetOutcomes();
+        return true;
+    }
+
+    /**
+     * @return True if a retry may be made within the retry budget, in which case it is counted against it.
+     */
+    public synchronized boolean tryAcquireRetry() {
+        long now = System.nanoTime();
+        expireRetries(now);
+
+        if (state == State.OPEN || retryTimes.size() >= maximumRetries) {
+            return false;
+        }
+
+        retryTimes.addLast(now);
+        return true;
+    }
+
+    ClientExecChain decorate(ClientExecChain exec) {
+        return new CircuitBreakingExec(exec);
+    }
+
+    private void recordOutcome(boolean failure) {
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+
+        outcomes[outcomeIndex] = failure;
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+
+        if (failure) {
+            failureCount++;
+        }
+    }
+
+    private void resetOutcomes() {
+        outcomeIndex = 0;
+        outcomeCount = 0;
+        failureCount = 0;
+    }
+
+    private void expireRetries(long now) {
+        while (!retryTimes.isEmpty() && now - retryTimes.peekFirst() >= retryWindow) {
+            retryTimes.removeFirst();
+        }
+    }
+
+    /**
+     * State of a circuit breaker.
+     */
+    public enum State {
+        /**
+         * Requests are made normally.
+         */
+        CLOSED,
+        /**
+         * Requests fail immediately.
+         */
+        OPEN,
+        /**
+         * A limited number of trial requests are made to find out if the source has recovered.
+         */
+        HALF_OPEN
+    }
+
+    private class CircuitBreakingExec implements ClientExecChain {
+        private final ClientExecChain delegate;
+
+        private CircuitBreakingExec(ClientExecChain delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CloseableHttpResponse execute(HttpRoute route, HttpRequestWrapper request, HttpClientContext context,
+                                             HttpExecutionAware execAware) throws IOException, HttpException {
+
+            if (HttpInterface.isPlaybackRequest(context)) {
+                return delegate.execute(route, request, context, execAware);
+            }
+
+            // The retry executor above repeats failed attempts with the same request instance.
+            boolean isRetry = context.getAttribute(ATTRIBUTE_LAST_REQUEST) == request;
+            context.setAttribute(ATTRIBUTE_LAST_REQUEST, request);
+
+            if (isRetry && !tryAcquireRetry()) {
+                throw new FriendlyException("Retry limit of this source has been reached.", COMMON,
+                    context.getAttribute(ATTRIBUTE_LAST_FAILURE, Throwable.class));
+            } else if (!tryAcquire()) {
+                throw new FriendlyException("This source is temporarily unavailable after repeated failures.",
+                    COMMON, null);
+            }
+
+            boolean success = false;
+
+            try {
+                CloseableHttpResponse response = delegate.execute(route, request, context, execAware);
+                success = response.getStatusLine().getStatusCode() < 500;
+                return response;
+            } catch (IOException | HttpException | RuntimeException e) {
+                context.setAttribute(ATTRIBUTE_LAST_FAILURE, e);
+                throw e;
+            } finally {
+                if (success) {
+                    onSuccess();
+                } else if (onFailure()) {
+                    log.warn("Circuit breaker opened after failed requests to {}, requests fail for the next {} ms.",
+                        route.getTargetHost(), TimeUnit.NANOSECONDS.toMillis(openDuration));
+                }
+            }
+        }
+    }
+}
@@ -70,7 +70,25 @@ public class BitStreamReader {
      * @throws IOException On read error
      */
     public int asInteger(int bitsNeeded) throws IOException {
-        return Math.toIntExact(asLong(bitsNeeded));
+        if (bitsNeeded >= 32) {
+            return Math.toIntExact(asLong(bitsNeeded));
+        }
+
+        int value = 0;
+
+        while (bitsNeeded > 0) {
+            fill();
+
+            int chunk = Math.min(bitsNeeded, bitsLeft);
+
+            value <<= chunk;
+            value |= (currentByte >> (bitsLeft - chunk)) & ((1 << chunk) - 1);
+
+            bitsNeeded -= chunk;
+            bitsLeft -= chunk;
+        }
+
+        return value;
     }
 
     /**
@@ -81,7 +99,12 @@ public class BitStreamReader {
      * @throws IOException On read error
      */
     public int asSignedInteger(int bitsNeeded) throws IOException {
-        return Math.toIntExact(asSignedLong(bitsNeeded));
+        if (bitsNeeded >= 32 || bitsNeeded == 0) {
+            return Math.toIntExact(asSignedLong(bitsNeeded));
+        }
+
+        int shift = 32 - bitsNeeded;
+        return (asInteger(bitsNeeded) << shift) >> shift;
     }
 
     /**
@@ -94,12 +117,37 @@ public class BitStreamReader {
         int count = 0;
         fill();
 
-        while ((currentByte & (1 << --bitsLeft)) == 0) {
-            count++;
+        int remaining = currentByte & ((1 << bitsLeft) - 1);
+
+        // Skip whole runs of zero bits at once instead of testing them one by one.
+        while (remaining == 0) {
+            count += bitsLeft;
+            bitsLeft = 0;
             fill();
+
+            remaining = currentByte & ((1 << bitsLeft) - 1);
         }
 
-        return count;
+        int zeroes = Integer.numberOfLeadingZeros(remaining) - (32 - bitsLeft);
+        bitsLeft -= zeroes + 1;
+
+        return count + zeroes;
+    }
+
+    /**
+     * Reads a block of Rice coded signed values (unary high part, fixed number of low order bits, zigzag sign encoding).
+     *
+     * @param buffer    Buffer to write the decoded values to
+     * @param offset    Offset of the first value in the buffer
+     * @param endOffset Offset in the buffer after the last value
+     * @param parameter Number of low order bits stored in binary for each value
+     * @throws IOException On read error
+     */
+    public void readRiceSignedBlock(int[] buffer, int offset, int endOffset, int parameter) throws IOException {
+        for (int i = offset; i < endOffset; i++) {
+            int value = (readAllZeroes() << parameter) | asInteger(parameter);
+            buffer[i] = (value >>> 1) ^ -(value & 1);
+        }
     }
 
     /**
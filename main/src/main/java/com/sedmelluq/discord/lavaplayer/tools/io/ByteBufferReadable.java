@@ -0,0 +1,19 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Represents a stream which can provide its upcoming contents as a byte buffer without copying them.
+ */
+public interface ByteBufferReadable {
+    /**
+     * Gives a view of the next bytes of the stream and advances the stream position past them.
+     *
+     * @param maximumLength Maximum number of bytes to include in the view.
+     * @return A read-only buffer positioned at the start of the view, which may contain fewer bytes than requested, or
+     * <code>null</code> on EOF. The contents of the buffer must not be used after the stream is closed.
+     * @throws IOException On read error
+     */
+    ByteBuffer readBufferView(int maximumLength) throws IOException;
+}
@@ -0,0 +1,240 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import com.sedmelluq.discord.lavaplayer.tools.Units;
+import com.sedmelluq.discord.lavaplayer.track.info.AudioTrackInfoProvider;
+import org.apache.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Stream which reads the content of an HTTP stream through a {@link HttpContentCache}. Ranges which are already cached
+ * are read from disk, the HTTP stream is only used for the missing ranges, which are then added to the cache.
+ */
+public class CachedHttpStream extends SeekableInputStream {
+    private static final Logger log = LoggerFactory.getLogger(CachedHttpStream.class);
+
+    private final HttpContentCache cache;
+    private final PersistentHttpStream delegate;
+    private final HttpContentCache.Entry entry;
+    private HttpResponse validatedResponse;
+    private boolean validationAttempted;
+    private long position;
+    private boolean closed;
+
+    /**
+     * @param cache    Cache to use.
+     * @param delegate Stream to read the missing ranges from. It must not be used by anything else afterwards.
+     * @param key      Key which identifies the content of the stream.
+     */
+    public CachedHttpStream(HttpContentCache cache, PersistentHttpStream delegate, String key) {
+        super(delegate.getContentLength(), delegate.getMaxSkipDistance());
+
+        this.cache = cache;
+        this.delegate = delegate;
+        this.entry = cache.acquire(key);
+        this.position = delegate.getPosition();
+
+        long cachedLength = entry.getContentLength();
+
+        if (delegate.contentLength == Units.CONTENT_LENGTH_UNKNOWN && cachedLength != Units.CONTENT_LENGTH_UNKNOWN) {
+            // Lets the delegate seek without having to connect first to find out the length.
+            delegate.contentLength = cachedLength;
+        } else if (delegate.contentLength != Units.CONTENT_LENGTH_UNKNOWN) {
+            entry.setContentLength(delegate.contentLength);
+        }
+    }
+
+    @Override
+    public long getContentLength() {
+        return delegate.getContentLength();
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public void seek(long position) throws IOException {
+        if (canSeekHard()) {
+            this.position = position;
+        } else {
+            super.seek(position);
+        }
+    }
+
+    @Override
+    protected void seekHard(long position) {
+        this.position = position;
+    }
+
+    @Override
+    public boolean canSeekHard() {
+        return delegate.canSeekHard();
+    }
+
+    @Override
+    public List<AudioTrackInfoProvider> getTrackInfoProviders() {
+        return delegate.getTrackInfoProviders();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] buffer = new byte[1];
+        int length;
+
+        while ((length = read(buffer, 0, 1)) == 0) {
+            // Retry until the delegate returns data or reaches the end.
+        }
+
+        return length == -1 ? -1 : buffer[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        long contentLength = getContentLength();
+
+        if (contentLength != Units.CONTENT_LENGTH_UNKNOWN && position >= contentLength) {
+            return -1;
+        }
+
+        long cachedLength = entry.getCachedLength(position);
+
+        if (cachedLength > 0 && !validationAttempted && !entry.isValidated()) {
+            validateEntry();
+            cachedLength = entry.getCachedLength(position);
+        }
+
+        if (cachedLength > 0) {
+            int length = entry.read(position, b, off, (int) Math.min(len, cachedLength));
+
+            if (length > 0) {
+                position += length;
+            }
+
+            return length;
+        }
+
+        positionDelegate();
+
+        long missingLength = entry.getNextCachedPosition(position) - position;
+        int length = delegate.read(b, off, (int) Math.min(len, Math.max(1, missingLength)));
+
+        if (length > 0) {
+            updateEntry();
+            entry.write(position, b, off, length);
+            position += length;
+        }
+
+        return length;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long cachedLength = entry.getCachedLength(position);
+
+        if (cachedLength > 0) {
+            long skipped = Math.min(n, cachedLength);
+            position += skipped;
+            return skipped;
+        }
+
+        positionDelegate();
+
+        long skipped = delegate.skip(n);
+        position += Math.max(skipped, 0);
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        long cachedLength = entry.getCachedLength(position);
+
+        if (cachedLength > 0) {
+            return (int) Math.min(cachedLength, Integer.MAX_VALUE);
+        } else if (delegate.getPosition() == position) {
+            return delegate.available();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+
+            try {
+                delegate.close();
+            } finally {
+                cache.release(entry);
+            }
+        }
+    }
+
+    private void positionDelegate() throws IOException {
+        long rangeEnd = delegate.getRangeEnd();
+
+        if (delegate.getPosition() == position && (rangeEnd == -1 || rangeEnd > position)) {
+            return;
+        }
+
+        if (delegate.canSeekHard()) {
+            // Only the missing range is requested, skipping or an open-ended request would download cached content.
+            delegate.seekHard(position);
+            delegate.setRange(position, entry.getNextCachedPosition(position));
+        } else {
+            delegate.seek(position);
+        }
+    }
+
+    /**
+     * Compares the validator of the cached content with the resource before the cached content is used for the first
+     * time. If the resource cannot be reached, the cached content is used without validation.
+     */
+    private void validateEntry() {
+        validationAttempted = true;
+
+        if (!delegate.canSeekHard()) {
+            // Without range requests, the whole resource would be downloaded just for the headers.
+            return;
+        }
+
+        try {
+            if (delegate.getCurrentResponse() == null) {
+                delegate.setRange(position, position + 1);
+
+                if (!HttpClientTools.isSuccessWithContent(delegate.checkStatusCode())) {
+                    return;
+                }
+            }
+
+            updateEntry();
+        } catch (IOException e) {
+            log.debug("Failed to validate cached content, using it without validation.", e);
+        }
+    }
+
+    private void updateEntry() {
+        HttpResponse response = delegate.getCurrentResponse();
+
+        // Checked once per connection, before anything received through it is written to the cache.
+        if (response != null && response != validatedResponse) {
+            validatedResponse = response;
+            entry.validate(response);
+        }
+
+        long length = delegate.getContentLength();
+
+        if (length != Units.CONTENT_LENGTH_UNKNOWN && entry.getContentLength() != length) {
+            entry.setContentLength(length);
+        }
+    }
+}
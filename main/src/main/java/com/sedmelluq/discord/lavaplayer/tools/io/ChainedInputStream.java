@@ -1,5 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.tools.io;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -12,7 +13,8 @@ public class ChainedInputStream extends InputStream {
     private boolean streamEnded;
 
     /**
-     * @param provider Provider for input streams to chain.
+     * @param provider Provider for input streams to chain. If it is {@link Closeable}, it is closed along with this
+     *                 stream.
      */
     public ChainedInputStream(Provider provider) {
         this.provider = provider;
@@ -20,7 +22,7 @@ public class ChainedInputStream extends InputStream {
 
     private boolean loadNextStream() throws IOException {
         if (!streamEnded) {
-            close();
+            closeCurrentStream();
 
             currentStream = provider.next();
 
@@ -88,6 +90,16 @@ public class ChainedInputStream extends InputStream {
 
     @Override
     public void close() throws IOException {
+        try {
+            closeCurrentStream();
+        } finally {
+            if (provider instanceof Closeable) {
+                ((Closeable) provider).close();
+            }
+        }
+    }
+
+    private void closeCurrentStream() throws IOException {
         if (currentStream != null) {
             currentStream.close();
             currentStream = null;
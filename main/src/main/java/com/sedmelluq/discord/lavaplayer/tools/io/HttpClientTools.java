@@ -86,13 +86,27 @@ public class HttpClientTools {
         return new ThreadLocalHttpInterfaceManager(createHttpBuilder(NO_COOKIES_REQUEST_CONFIG), NO_COOKIES_REQUEST_CONFIG);
     }
 
-    private static HttpClientBuilder createHttpBuilder(RequestConfig requestConfig) {
+    /**
+     * @param maxTotal    Maximum number of connections in the pool.
+     * @param maxPerRoute Maximum number of connections per route.
+     * @param idleTimeout Time in milliseconds after which idle connections are closed.
+     * @return HTTP interface manager with a shared, route-bounded connection pool
+     */
+    public static PooledHttpInterfaceManager createPooledManager(int maxTotal, int maxPerRoute, long idleTimeout) {
+        return new PooledHttpInterfaceManager(createHttpBuilder(DEFAULT_REQUEST_CONFIG), DEFAULT_REQUEST_CONFIG, maxTotal,
+            maxPerRoute, idleTimeout);
+    }
+
+    private static ExtendedHttpClientBuilder createHttpBuilder(RequestConfig requestConfig) {
         CookieStore cookieStore = new BasicCookieStore();
 
-        return new ExtendedHttpClientBuilder()
-            .setDefaultCookieStore(cookieStore)
+        ExtendedHttpClientBuilder builder = new ExtendedHttpClientBuilder();
+
+        builder.setDefaultCookieStore(cookieStore)
             .setRetryHandler(NoResponseRetryHandler.RETRY_INSTANCE)
             .setDefaultRequestConfig(requestConfig);
+
+        return builder;
     }
 
     /**
@@ -288,13 +302,33 @@ public class HttpClientTools {
      */
     public static String[] fetchResponseLines(HttpInterface httpInterface, HttpUriRequest request, String name) throws IOException {
         try (CloseableHttpResponse response = httpInterface.execute(request)) {
-            int statusCode = response.getStatusLine().getStatusCode();
-            if (!isSuccessWithContent(statusCode)) {
-                throw new IOException("Unexpected response code " + statusCode + " from " + name);
-            }
+            return readResponseLines(response, name);
+        }
+    }
+
+    /**
+     * Same as {@link #fetchResponseLines(HttpInterface, HttpUriRequest, String)}, for requests made during playback.
+     *
+     * @param httpInterface HTTP interface to use for the request.
+     * @param request       Request to perform.
+     * @param name          Name of the operation to include in exception messages.
+     * @return Array of lines from the response
+     * @throws IOException On network error or for non-200 response code.
+     * @see HttpInterface#executeForPlayback(HttpUriRequest)
+     */
+    public static String[] fetchPlaybackResponseLines(HttpInterface httpInterface, HttpUriRequest request, String name) throws IOException {
+        try (CloseableHttpResponse response = httpInterface.executeForPlayback(request)) {
+            return readResponseLines(response, name);
+        }
+    }
 
-            return DataFormatTools.streamToLines(response.getEntity().getContent(), StandardCharsets.UTF_8);
+    private static String[] readResponseLines(CloseableHttpResponse response, String name) throws IOException {
+        int statusCode = response.getStatusLine().getStatusCode();
+        if (!isSuccessWithContent(statusCode)) {
+            throw new IOException("Unexpected response code " + statusCode + " from " + name);
         }
+
+        return DataFormatTools.streamToLines(response.getEntity().getContent(), StandardCharsets.UTF_8);
     }
 
     /**
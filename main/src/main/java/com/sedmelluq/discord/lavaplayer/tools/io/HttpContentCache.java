@@ -0,0 +1,419 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import com.sedmelluq.discord.lavaplayer.tools.Units;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Disk cache for the content of HTTP resources. The fetched byte ranges of each resource are stored in a sparse file
+ * along with an index of the ranges it contains, so that partially downloaded resources can be reused as well. The
+ * least recently used resources are evicted when the total size of the cached ranges exceeds the configured budget.
+ * Resources which are currently being read are never evicted. The ETag or Last-Modified header of the resource is
+ * stored along with the ranges, and the cached ranges are discarded if it changes.
+ */
+public class HttpContentCache {
+    private static final Logger log = LoggerFactory.getLogger(HttpContentCache.class);
+
+    private static final String DATA_SUFFIX = ".data";
+    private static final String INDEX_SUFFIX = ".index";
+    private static final int INDEX_VERSION = 2;
+
+    private final File directory;
+    private final long maximumSize;
+    private final Map<String, Entry> entries;
+    private long totalSize;
+
+    /**
+     * @param directory   Directory to store the cached content in. Content cached there previously is reused.
+     * @param maximumSize Maximum total size of the cached content in bytes.
+     */
+    public HttpContentCache(File directory, long maximumSize) {
+        this.directory = directory;
+        this.maximumSize = maximumSize;
+        this.entries = new HashMap<>();
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalStateException("Cannot create cache directory " + directory);
+        }
+
+        loadIndexes();
+    }
+
+    /**
+     * @param cache  Cache to use, may be null.
+     * @param stream Stream to wrap.
+     * @param key    Key which identifies the content of the stream, for example its URL without expiring parameters.
+     *               Different content must never be stored under the same key.
+     * @return A stream which reads the content through the cache, or the stream itself if the cache is null.
+     */
+    public static SeekableInputStream wrap(HttpContentCache cache, PersistentHttpStream stream, String key) {
+        return cache != null ? new CachedHttpStream(cache, stream, key) : stream;
+    }
+
+    /**
+     * @return Total size of the cached content in bytes.
+     */
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    synchronized Entry acquire(String key) {
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            String fileName = DigestUtils.sha1Hex(key);
+            entry = new Entry(key, new File(directory, fileName + DATA_SUFFIX), new File(directory, fileName + INDEX_SUFFIX));
+            entries.put(key, entry);
+        }
+
+        entry.openCount++;
+        entry.lastAccess = System.currentTimeMillis();
+        return entry;
+    }
+
+    void release(Entry entry) {
+        synchronized (entry) {
+            synchronized (this) {
+                entry.lastAccess = System.currentTimeMillis();
+
+                if (--entry.openCount > 0) {
+                    return;
+                }
+            }
+
+            entry.closeFile();
+            entry.writeIndex();
+        }
+
+        evictIfNecessary();
+    }
+
+    /**
+     * @param response Response to read the validator from.
+     * @return The ETag of the response, or its Last-Modified date if it has no ETag. Null if it has neither.
+     */
+    static String readValidator(HttpResponse response) {
+        String entityTag = HttpClientTools.getHeaderValue(response, HttpHeaders.ETAG);
+
+        if (entityTag != null) {
+            return entityTag;
+        }
+
+        String lastModified = HttpClientTools.getHeaderValue(response, HttpHeaders.LAST_MODIFIED);
+        return lastModified != null ? "modified:" + lastModified : null;
+    }
+
+    private synchronized void addSize(long size) {
+        totalSize += size;
+    }
+
+    private synchronized void evictIfNecessary() {
+        while (totalSize > maximumSize) {
+            Entry oldest = null;
+
+            for (Entry entry : entries.values()) {
+                if (entry.openCount == 0 && (oldest == null || entry.lastAccess < oldest.lastAccess)) {
+                    oldest = entry;
+                }
+            }
+
+            if (oldest == null) {
+                break;
+            }
+
+            log.debug("Evicting {} bytes of cached content for {}.", oldest.cachedSize, oldest.key);
+
+            // Files are deleted while holding the lock, so that a new entry for the same key cannot reuse them meanwhile.
+            entries.remove(oldest.key);
+            totalSize -= oldest.cachedSize;
+            oldest.deleteFiles();
+        }
+    }
+
+    private void loadIndexes() {
+        File[] indexFiles = directory.listFiles((dir, name) -> name.endsWith(INDEX_SUFFIX));
+
+        if (indexFiles == null) {
+            return;
+        }
+
+        Set<String> validDataFiles = new HashSet<>();
+
+        for (File indexFile : indexFiles) {
+            String fileName = indexFile.getName().substring(0, indexFile.getName().length() - INDEX_SUFFIX.length());
+            File dataFile = new File(directory, fileName + DATA_SUFFIX);
+
+            try {
+                Entry entry = readIndex(indexFile, dataFile);
+                entries.put(entry.key, entry);
+                totalSize += entry.cachedSize;
+                validDataFiles.add(dataFile.getName());
+            } catch (IOException e) {
+                log.warn("Discarding invalid cache index {}.", indexFile, e);
+
+                indexFile.delete();
+                dataFile.delete();
+            }
+        }
+
+        File[] dataFiles = directory.listFiles((dir, name) -> name.endsWith(DATA_SUFFIX));
+
+        if (dataFiles != null) {
+            for (File dataFile : dataFiles) {
+                if (!validDataFiles.contains(dataFile.getName())) {
+                    log.debug("Deleting cache file {} which has no index.", dataFile);
+                    dataFile.delete();
+                }
+            }
+        }
+
+        evictIfNecessary();
+    }
+
+    private Entry readIndex(File indexFile, File dataFile) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (input.readInt() != INDEX_VERSION) {
+                throw new IOException("Unsupported index version.");
+            }
+
+            Entry entry = new Entry(input.readUTF(), dataFile, indexFile);
+            entry.validator = input.readBoolean() ? input.readUTF() : null;
+            entry.contentLength = input.readLong();
+            long dataLength = input.readLong();
+
+            for (int count = input.readInt(); count > 0; count--) {
+                long start = input.readLong();
+                long end = input.readLong();
+
+                if (start < 0 || end <= start || end > entry.contentLength || end > dataLength) {
+                    throw new IOException("Invalid range " + start + "-" + end + ".");
+                }
+
+                entry.addRange(start, end);
+            }
+
+            // The data file may have been modified or removed without the index.
+            if (!dataFile.isFile() || dataFile.length() != dataLength) {
+                throw new IOException("Data file does not have the recorded length " + dataLength + ".");
+            }
+
+            entry.lastAccess = indexFile.lastModified();
+            return entry;
+        }
+    }
+
+    /**
+     * Cached content of one resource. File access and the range index are guarded by the monitor of the entry.
+     */
+    class Entry {
+        private final String key;
+        private final File dataFile;
+        private final File indexFile;
+        private final TreeMap<Long, Long> ranges;
+        private long contentLength = Units.CONTENT_LENGTH_UNKNOWN;
+        private String validator;
+        private boolean validated;
+        private long cachedSize;
+        private RandomAccessFile file;
+        private int openCount;
+        private long lastAccess;
+
+        private Entry(String key, File dataFile, File indexFile) {
+            this.key = key;
+            this.dataFile = dataFile;
+            this.indexFile = indexFile;
+            this.ranges = new TreeMap<>();
+        }
+
+        synchronized long getContentLength() {
+            return contentLength;
+        }
+
+        /**
+         * Sets the length of the resource. Cached ranges are discarded if the length does not match the previously known
+         * length, as the resource must have changed in that case.
+         */
+        synchronized void setContentLength(long length) {
+            if (contentLength != length) {
+                if (contentLength != Units.CONTENT_LENGTH_UNKNOWN) {
+                    log.debug("Length of {} changed from {} to {}, discarding cached content.", key, contentLength, length);
+                }
+
+                discardRanges();
+                contentLength = length;
+            }
+        }
+
+        /**
+         * Sets the validator of the resource from a response. Cached ranges are discarded if it does not match the
+         * validator they were stored with, as the resource must have changed in that case.
+         *
+         * @param response Response for the resource.
+         */
+        synchronized void validate(HttpResponse response) {
+            String validator = readValidator(response);
+            validated = true;
+
+            if (!Objects.equals(this.validator, validator)) {
+                if (!ranges.isEmpty()) {
+                    log.debug("Validator of {} changed from {} to {}, discarding cached content.", key, this.validator,
+                        validator);
+                }
+
+                discardRanges();
+                this.validator = validator;
+            }
+        }
+
+        private void discardRanges() {
+            addSize(-cachedSize);
+            ranges.clear();
+            cachedSize = 0;
+        }
+
+        /**
+         * @return True if the validator has been compared against a response since the entry was loaded.
+         */
+        synchronized boolean isValidated() {
+            return validated;
+        }
+
+        /**
+         * @return Number of bytes which are cached contiguously from the specified position.
+         */
+        synchronized long getCachedLength(long position) {
+            Map.Entry<Long, Long> range = ranges.floorEntry(position);
+            return range != null && range.getValue() > position ? range.getValue() - position : 0;
+        }
+
+        /**
+         * @return The position where the next cached range after the specified position starts, or the content length
+         * if there is none.
+         */
+        synchronized long getNextCachedPosition(long position) {
+            Long next = ranges.higherKey(position);
+            return next != null ? next : contentLength;
+        }
+
+        synchronized int read(long position, byte[] buffer, int offset, int length) throws IOException {
+            RandomAccessFile file = getFile();
+            file.seek(position);
+            return file.read(buffer, offset, length);
+        }
+
+        synchronized void write(long position, byte[] buffer, int offset, int length) throws IOException {
+            if (contentLength == Units.CONTENT_LENGTH_UNKNOWN || position + length > contentLength) {
+                return;
+            }
+
+            RandomAccessFile file = getFile();
+            file.seek(position);
+            file.write(buffer, offset, length);
+
+            addSize(addRange(position, position + length));
+            evictIfNecessary();
+        }
+
+        private long addRange(long start, long end) {
+            long mergedStart = start;
+            long mergedEnd = end;
+            long removedSize = 0;
+
+            Map.Entry<Long, Long> previous = ranges.floorEntry(start);
+
+            if (previous != null && previous.getValue() >= start) {
+                mergedStart = previous.getKey();
+                mergedEnd = Math.max(mergedEnd, previous.getValue());
+                removedSize += previous.getValue() - previous.getKey();
+                ranges.remove(previous.getKey());
+            }
+
+            Map.Entry<Long, Long> next;
+
+            while ((next = ranges.ceilingEntry(mergedStart)) != null && next.getKey() <= mergedEnd) {
+                mergedEnd = Math.max(mergedEnd, next.getValue());
+                removedSize += next.getValue() - next.getKey();
+                ranges.remove(next.getKey());
+            }
+
+            ranges.put(mergedStart, mergedEnd);
+
+            long added = (mergedEnd - mergedStart) - removedSize;
+            cachedSize += added;
+            return added;
+        }
+
+        private RandomAccessFile getFile() throws IOException {
+            if (file == null) {
+                file = new RandomAccessFile(dataFile, "rw");
+            }
+
+            return file;
+        }
+
+        private synchronized void closeFile() {
+            if (file != null) {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    log.debug("Failed to close cache file {}.", dataFile, e);
+                }
+
+                file = null;
+            }
+        }
+
+        private synchronized void writeIndex() {
+            if (ranges.isEmpty()) {
+                indexFile.delete();
+                return;
+            }
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+                output.writeInt(INDEX_VERSION);
+                output.writeUTF(key);
+                output.writeBoolean(validator != null);
+
+                if (validator != null) {
+                    output.writeUTF(validator);
+                }
+
+                output.writeLong(contentLength);
+                output.writeLong(dataFile.length());
+                output.writeInt(ranges.size());
+
+                for (Map.Entry<Long, Long> range : ranges.entrySet()) {
+                    output.writeLong(range.getKey());
+                    output.writeLong(range.getValue());
+                }
+            } catch (IOException e) {
+                log.warn("Failed to write cache index {}.", indexFile, e);
+            }
+        }
+
+        private synchronized void deleteFiles() {
+            closeFile();
+            indexFile.delete();
+            dataFile.delete();
+        }
+    }
+}
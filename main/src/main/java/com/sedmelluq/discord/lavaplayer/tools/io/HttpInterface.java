@@ -6,6 +6,7 @@ import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.protocol.HttpContext;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -18,6 +19,8 @@ import java.util.List;
  * should be called in each thread separately.
  */
 public class HttpInterface implements Closeable {
+    private static final String ATTRIBUTE_PLAYBACK_REQUEST = "playback-request";
+
     private final CloseableHttpClient client;
     private final HttpClientContext context;
     private final boolean ownedClient;
@@ -97,6 +100,33 @@ public class HttpInterface implements Closeable {
         }
     }
 
+    /**
+     * Executes a request which fetches content for playback, such as media data, stream segments and the live playlists
+     * listing them. These requests bypass the rate limiter and circuit breaker of the source, which only guard loading,
+     * so that they cannot cut short a track which is already playing.
+     *
+     * @param request The request to execute.
+     * @return Closeable response from the server.
+     * @throws IOException On network error.
+     */
+    public CloseableHttpResponse executeForPlayback(HttpUriRequest request) throws IOException {
+        context.setAttribute(ATTRIBUTE_PLAYBACK_REQUEST, Boolean.TRUE);
+
+        try {
+            return execute(request);
+        } finally {
+            context.removeAttribute(ATTRIBUTE_PLAYBACK_REQUEST);
+        }
+    }
+
+    /**
+     * @param context Context of a request.
+     * @return True if the request was made with {@link #executeForPlayback(HttpUriRequest)}.
+     */
+    public static boolean isPlaybackRequest(HttpContext context) {
+        return Boolean.TRUE.equals(context.getAttribute(ATTRIBUTE_PLAYBACK_REQUEST));
+    }
+
     /**
      * @return The final URL after redirects for the last processed request. Original URL if no redirects were performed.
      * Null if no requests have been executed. Undefined state if last request threw an exception.
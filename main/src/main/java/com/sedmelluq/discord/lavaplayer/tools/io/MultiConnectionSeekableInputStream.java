@@ -0,0 +1,229 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import com.sedmelluq.discord.lavaplayer.track.info.AudioTrackInfoProvider;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Seekable stream for a resource of known length which downloads it in fixed size chunks over several concurrent range
+ * requests. The chunks from the current position up to the number of connections ahead of it are kept downloading or
+ * downloaded, the stream then reads them in order. Useful for servers which limit the transfer speed per connection.
+ */
+public class MultiConnectionSeekableInputStream extends SeekableInputStream {
+    private static final ExecutorService executor =
+        Executors.newCachedThreadPool(new DaemonThreadFactory("range-download"));
+
+    private final HttpInterfaceManager httpInterfaceManager;
+    private final ChunkStreamFactory streamFactory;
+    private final int chunkSize;
+    private final int connectionCount;
+    private final Map<Long, Future<byte[]>> chunks;
+    private long position;
+    private long currentChunkIndex = -1;
+    private byte[] currentChunk;
+
+    /**
+     * @param httpInterfaceManager HTTP interface manager to get the interfaces for the chunk requests from.
+     * @param streamFactory        Factory for the streams of individual chunks.
+     * @param contentLength        Length of the resource in bytes.
+     * @param chunkSize            Size of one chunk in bytes.
+     * @param connectionCount      Maximum number of chunks to download concurrently.
+     */
+    public MultiConnectionSeekableInputStream(HttpInterfaceManager httpInterfaceManager, ChunkStreamFactory streamFactory,
+                                              long contentLength, int chunkSize, int connectionCount) {
+
+        super(contentLength, 0);
+
+        this.httpInterfaceManager = httpInterfaceManager;
+        this.streamFactory = streamFactory;
+        this.chunkSize = chunkSize;
+        this.connectionCount = Math.max(1, connectionCount);
+        this.chunks = new TreeMap<>();
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public void seek(long position) {
+        this.position = position;
+    }
+
+    @Override
+    protected void seekHard(long position) {
+        this.position = position;
+    }
+
+    @Override
+    public boolean canSeekHard() {
+        return true;
+    }
+
+    @Override
+    public List<AudioTrackInfoProvider> getTrackInfoProviders() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!loadCurrentChunk()) {
+            return -1;
+        }
+
+        return currentChunk[(int) (position++ - currentChunkIndex * chunkSize)] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        } else if (!loadCurrentChunk()) {
+            return -1;
+        }
+
+        int chunkOffset = (int) (position - currentChunkIndex * chunkSize);
+        int length = Math.min(len, currentChunk.length - chunkOffset);
+
+        System.arraycopy(currentChunk, chunkOffset, b, off, length);
+        position += length;
+
+        return length;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = Math.max(0, Math.min(n, contentLength - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        if (currentChunk == null || position / chunkSize != currentChunkIndex) {
+            return 0;
+        }
+
+        return (int) (currentChunkIndex * chunkSize + currentChunk.length - position);
+    }
+
+    @Override
+    public void close() {
+        for (Future<byte[]> chunk : chunks.values()) {
+            chunk.cancel(true);
+        }
+
+        chunks.clear();
+        currentChunk = null;
+        currentChunkIndex = -1;
+    }
+
+    private boolean loadCurrentChunk() throws IOException {
+        if (position >= contentLength) {
+            return false;
+        }
+
+        long chunkIndex = position / chunkSize;
+
+        if (chunkIndex != currentChunkIndex || currentChunk == null) {
+            updateWindow(chunkIndex);
+            currentChunk = awaitChunk(chunks.get(chunkIndex));
+            currentChunkIndex = chunkIndex;
+        }
+
+        return true;
+    }
+
+    private void updateWindow(long firstChunkIndex) {
+        long lastChunkIndex = Math.min(firstChunkIndex + connectionCount, (contentLength + chunkSize - 1) / chunkSize);
+        Iterator<Map.Entry<Long, Future<byte[]>>> iterator = chunks.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Future<byte[]>> entry = iterator.next();
+
+            if (entry.getKey() < firstChunkIndex || entry.getKey() >= lastChunkIndex) {
+                entry.getValue().cancel(true);
+                iterator.remove();
+            }
+        }
+
+        for (long index = firstChunkIndex; index < lastChunkIndex; index++) {
+            if (!chunks.containsKey(index)) {
+                long start = index * chunkSize;
+                long end = Math.min(start + chunkSize, contentLength);
+
+                chunks.put(index, executor.submit(() -> fetchChunk(start, end)));
+            }
+        }
+    }
+
+    private byte[] awaitChunk(Future<byte[]> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a chunk.");
+        } catch (CancellationException e) {
+            throw new IOException("Chunk download was cancelled.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new IOException("Chunk download failed.", e.getCause());
+        }
+    }
+
+    private byte[] fetchChunk(long start, long end) throws IOException {
+        byte[] data = new byte[(int) (end - start)];
+
+        try (HttpInterface httpInterface = httpInterfaceManager.getInterface();
+             PersistentHttpStream stream = streamFactory.create(httpInterface, start, end)) {
+
+            int offset = 0;
+
+            while (offset < data.length) {
+                int length = stream.read(data, offset, data.length - offset);
+
+                if (length == -1) {
+                    throw new EOFException("Chunk ended at " + (start + offset) + " instead of " + end + ".");
+                }
+
+                offset += length;
+            }
+
+            // Reaching the end of the response allows its connection to be reused for the next chunk.
+            stream.read();
+        }
+
+        return data;
+    }
+
+    /**
+     * Factory for streams which read a single chunk of the resource.
+     */
+    public interface ChunkStreamFactory {
+        /**
+         * @param httpInterface HTTP interface to use for the requests of the stream.
+         * @param start         Start position of the chunk.
+         * @param end           End position of the chunk (exclusive).
+         * @return A stream positioned at the start of the chunk, for example a stream restricted with
+         * {@link PersistentHttpStream#setRange(long, long)}.
+         */
+        PersistentHttpStream create(HttpInterface httpInterface, long start, long end);
+    }
+}
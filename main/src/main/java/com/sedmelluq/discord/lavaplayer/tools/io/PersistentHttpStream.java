@@ -37,6 +37,7 @@ public class PersistentHttpStream extends SeekableInputStream implements AutoClo
     private CloseableHttpResponse currentResponse;
     protected InputStream currentContent;
     protected long position;
+    private long rangeEnd = -1;
 
     /**
      * @param httpInterface The HTTP interface to use for requests
@@ -72,6 +73,27 @@ public class PersistentHttpStream extends SeekableInputStream implements AutoClo
         return currentResponse;
     }
 
+    /**
+     * Restricts the stream to a range of the resource, so that its requests do not ask for any data past the end of the
+     * range. The stream is positioned at the start of the range.
+     *
+     * @param start Start position of the range
+     * @param end   End position of the range (exclusive)
+     */
+    public void setRange(long start, long end) {
+        releaseConnection();
+
+        this.position = start;
+        this.rangeEnd = end;
+    }
+
+    /**
+     * @return End position (exclusive) of the range this stream is restricted to, -1 if it is not restricted.
+     */
+    public long getRangeEnd() {
+        return rangeEnd;
+    }
+
     protected URI getConnectUrl() {
         return contentUrl;
     }
@@ -93,7 +115,9 @@ public class PersistentHttpStream extends SeekableInputStream implements AutoClo
     protected HttpGet getConnectRequest() {
         HttpGet request = new HttpGet(getConnectUrl());
 
-        if (position > 0 && useHeadersForRange()) {
+        if (rangeEnd != -1 && useHeadersForRange()) {
+            request.setHeader(HttpHeaders.RANGE, "bytes=" + position + "-" + (rangeEnd - 1));
+        } else if (position > 0 && useHeadersForRange()) {
             request.setHeader(HttpHeaders.RANGE, "bytes=" + position + "-");
         }
 
@@ -118,7 +142,7 @@ public class PersistentHttpStream extends SeekableInputStream implements AutoClo
     }
 
     private boolean attemptConnect(boolean skipStatusCheck, boolean retryOnServerError) throws IOException {
-        currentResponse = httpInterface.execute(getConnectRequest());
+        currentResponse = httpInterface.executeForPlayback(getConnectRequest());
         lastStatusCode = currentResponse.getStatusLine().getStatusCode();
 
         if (!skipStatusCheck && !validateStatusCode(currentResponse, retryOnServerError)) {
@@ -0,0 +1,83 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import com.sedmelluq.discord.lavaplayer.tools.http.AdaptiveRateLimiter;
+import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpClientBuilder;
+import com.sedmelluq.discord.lavaplayer.tools.http.HttpContextFilter;
+import com.sedmelluq.discord.lavaplayer.tools.http.HttpRouteStatistics;
+import com.sedmelluq.discord.lavaplayer.tools.http.MeteredHttpClientConnectionManager;
+import com.sedmelluq.discord.lavaplayer.tools.http.MeteredHttpClientConnectionManager.RouteCounters;
+import com.sedmelluq.discord.lavaplayer.tools.http.SettableHttpRequestFilter;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.routing.HttpRoute;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP interface manager which creates a new HTTP context for each interface, with all interfaces sharing one
+ * connection pool. The number of connections per route is limited, connections are kept alive for reuse between
+ * requests of different interfaces and closed after being idle for the configured time. Statistics of the pool are
+ * available per route.
+ */
+public class PooledHttpInterfaceManager extends AbstractHttpInterfaceManager {
+    private final SettableHttpRequestFilter filterHolder;
+    private final Map<HttpRoute, RouteCounters> counters;
+    private volatile MeteredHttpClientConnectionManager connectionManager;
+
+    /**
+     * @param clientBuilder HTTP client builder to use for creating the client instance.
+     * @param requestConfig Request config used by the client builder
+     * @param maxTotal      Maximum number of connections in the pool.
+     * @param maxPerRoute   Maximum number of connections per route.
+     * @param idleTimeout   Time in milliseconds after which idle connections are closed.
+     */
+    public PooledHttpInterfaceManager(ExtendedHttpClientBuilder clientBuilder, RequestConfig requestConfig, int maxTotal,
+                                      int maxPerRoute, long idleTimeout) {
+
+        super(clientBuilder, requestConfig);
+
+        this.filterHolder = new SettableHttpRequestFilter();
+        this.counters = MeteredHttpClientConnectionManager.createCounterMap();
+
+        clientBuilder.evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+        clientBuilder.evictExpiredConnections();
+        clientBuilder.setConnectionManagerFactory((operator, connectionFactory) -> {
+            MeteredHttpClientConnectionManager manager = new MeteredHttpClientConnectionManager(operator, connectionFactory,
+                counters);
+
+            manager.setMaxTotal(maxTotal);
+            manager.setDefaultMaxPerRoute(maxPerRoute);
+
+            connectionManager = manager;
+            return manager;
+        });
+    }
+
+    @Override
+    public HttpInterface getInterface() {
+        HttpInterface httpInterface = new HttpInterface(getSharedClient(), HttpClientContext.create(), false, filterHolder);
+        httpInterface.acquire();
+        return httpInterface;
+    }
+
+    @Override
+    public void setHttpContextFilter(HttpContextFilter filter) {
+        filterHolder.set(filter);
+    }
+
+    @Override
+    public void setRateLimiter(AdaptiveRateLimiter rateLimiter) {
+        filterHolder.setRateLimiter(rateLimiter);
+    }
+
+    /**
+     * @return Statistics of the connection pool per route, empty if no client has been created yet.
+     */
+    public List<HttpRouteStatistics> getRouteStatistics() {
+        MeteredHttpClientConnectionManager manager = connectionManager;
+        return manager != null ? manager.getRouteStatistics() : Collections.emptyList();
+    }
+}
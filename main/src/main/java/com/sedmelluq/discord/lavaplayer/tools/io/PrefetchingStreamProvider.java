@@ -0,0 +1,302 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Stream provider for {@link ChainedInputStream} which fetches the streams of a delegate provider ahead of time in a
+ * background thread. The stream currently consumed is handed over while it is still being downloaded, so reading it can
+ * start as soon as its first bytes arrive. Once it has been downloaded, at most the configured number of following
+ * streams are buffered ahead of it. The delegate provider is only ever called from the background thread, and closing
+ * waits for the background thread to stop using it, so that the resources the delegate uses (such as the HTTP interface
+ * of the track) can be closed or reused right after this provider has been closed.
+ */
+public class PrefetchingStreamProvider implements ChainedInputStream.Provider, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(PrefetchingStreamProvider.class);
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private static final ExecutorService executor =
+        Executors.newCachedThreadPool(new DaemonThreadFactory("stream-prefetch"));
+
+    private final ChainedInputStream.Provider delegate;
+    private final BlockingQueue<Entry> entries;
+    private final AtomicBoolean fetchClaimed;
+    private final CountDownLatch fetchFinished;
+    private Future<?> fetchFuture;
+    private Entry terminalEntry;
+    private volatile boolean closed;
+
+    /**
+     * @param delegate      Provider of the streams to prefetch.
+     * @param prefetchCount Maximum number of streams to keep buffered ahead of the consumer.
+     */
+    public PrefetchingStreamProvider(ChainedInputStream.Provider delegate, int prefetchCount) {
+        this.delegate = delegate;
+        this.entries = new ArrayBlockingQueue<>(Math.max(1, prefetchCount));
+        this.fetchClaimed = new AtomicBoolean();
+        this.fetchFinished = new CountDownLatch(1);
+    }
+
+    @Override
+    public InputStream next() throws IOException {
+        if (terminalEntry == null) {
+            if (closed) {
+                return null;
+            } else if (fetchFuture == null) {
+                fetchFuture = executor.submit(this::runFetch);
+            }
+
+            Entry entry;
+
+            try {
+                entry = entries.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the next stream.");
+            }
+
+            if (entry.stream != null) {
+                return entry.stream;
+            }
+
+            terminalEntry = entry;
+        }
+
+        return terminalEntry.rethrowOrEnd();
+    }
+
+    private void runFetch() {
+        // Close claims the task instead if it has not started yet, so that it has nothing to wait for.
+        if (!fetchClaimed.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            fetchStreams();
+        } finally {
+            fetchFinished.countDown();
+        }
+    }
+
+    private void fetchStreams() {
+        try {
+            while (!closed) {
+                InputStream stream;
+
+                try {
+                    stream = delegate.next();
+                } catch (Throwable e) {
+                    entries.put(new Entry(null, e));
+                    break;
+                }
+
+                if (stream == null) {
+                    entries.put(new Entry(null, null));
+                    break;
+                }
+
+                // Queued before downloading, so that the consumer can read it while it is being downloaded.
+                BufferedStream buffered = new BufferedStream();
+                entries.put(new Entry(buffered, null));
+
+                Throwable error = download(stream, buffered);
+
+                if (error != null) {
+                    entries.put(new Entry(null, error));
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            log.debug("Stream prefetching was interrupted.");
+        }
+    }
+
+    private Throwable download(InputStream stream, BufferedStream buffered) {
+        Throwable error = null;
+
+        try (InputStream input = stream) {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            int length;
+
+            while (!closed && (length = input.read(chunk)) != -1) {
+                buffered.append(Arrays.copyOf(chunk, length));
+            }
+        } catch (Throwable e) {
+            error = e;
+        }
+
+        buffered.finish(error);
+        return error;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        if (fetchFuture != null && !fetchClaimed.compareAndSet(false, true)) {
+            fetchFuture.cancel(true);
+            entries.clear();
+            awaitFetchFinished();
+        }
+
+        entries.clear();
+    }
+
+    private void awaitFetchFinished() {
+        boolean interrupted = false;
+
+        // A request in progress does not react to interrupts, so the wait is bounded by the timeouts of the delegate.
+        while (true) {
+            try {
+                fetchFinished.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static IOException asIOException(Throwable error) {
+        if (error instanceof IOException) {
+            return (IOException) error;
+        } else if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else if (error instanceof Error) {
+            throw (Error) error;
+        }
+
+        return new IOException(error);
+    }
+
+    private static class Entry {
+        private final BufferedStream stream;
+        private final Throwable error;
+
+        private Entry(BufferedStream stream, Throwable error) {
+            this.stream = stream;
+            this.error = error;
+        }
+
+        private InputStream rethrowOrEnd() throws IOException {
+            if (error != null) {
+                throw asIOException(error);
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Stream of the chunks downloaded by the background thread, readable while the download is still in progress.
+     * Chunks are released as soon as they have been read.
+     */
+    private static class BufferedStream extends InputStream {
+        private final Deque<byte[]> chunks = new ArrayDeque<>();
+        private byte[] current;
+        private int currentOffset;
+        private boolean finished;
+        private Throwable error;
+        private boolean closed;
+
+        private synchronized void append(byte[] chunk) {
+            if (!closed) {
+                chunks.add(chunk);
+                notifyAll();
+            }
+        }
+
+        private synchronized void finish(Throwable error) {
+            this.finished = true;
+            this.error = error;
+            notifyAll();
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public synchronized int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            } else if (!awaitData()) {
+                return -1;
+            }
+
+            int chunk = Math.min(length, current.length - currentOffset);
+            System.arraycopy(current, currentOffset, buffer, offset, chunk);
+            currentOffset += chunk;
+            return chunk;
+        }
+
+        @Override
+        public synchronized int available() {
+            int available = current != null ? current.length - currentOffset : 0;
+
+            for (byte[] chunk : chunks) {
+                available += chunk.length;
+            }
+
+            return available;
+        }
+
+        private boolean awaitData() throws IOException {
+            while (current == null || currentOffset == current.length) {
+                current = chunks.poll();
+                currentOffset = 0;
+
+                if (current != null) {
+                    continue;
+                } else if (closed) {
+                    return false;
+                } else if (finished) {
+                    if (error != null) {
+                        throw asIOException(error);
+                    }
+
+                    return false;
+                }
+
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for stream data.");
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public synchronized void close() {
+            closed = true;
+            current = null;
+            chunks.clear();
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+/**
+ * Represents a class whose track streams can be read ahead into a buffer in the background, so that network stalls do
+ * not block decoding. See {@link ReadAheadSeekableInputStream} for how the buffer is used.
+ */
+public interface ReadAheadConfigurable {
+    /**
+     * @return Size of the read-ahead buffer in bytes, 0 if read-ahead is disabled.
+     */
+    int getReadAheadSize();
+
+    /**
+     * @param readAheadSize Size of the read-ahead buffer in bytes. 0 to disable read-ahead, which is the default.
+     */
+    void setReadAheadSize(int readAheadSize);
+
+    /**
+     * @return Statistics of the read-ahead streams of the tracks of this class.
+     * @throws UnsupportedOperationException If the implementation does not support this.
+     */
+    default ReadAheadStatistics getReadAheadStatistics() {
+        throw new UnsupportedOperationException();
+    }
+}
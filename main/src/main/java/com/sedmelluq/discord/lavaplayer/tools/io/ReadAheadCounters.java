@@ -0,0 +1,46 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters which the read-ahead streams of one source report to, see {@link ReadAheadSeekableInputStream}.
+ */
+public class ReadAheadCounters {
+    private final Set<ReadAheadSeekableInputStream> activeStreams = ConcurrentHashMap.newKeySet();
+    private final AtomicLong openedStreams = new AtomicLong();
+    private final AtomicLong stallCount = new AtomicLong();
+    private final AtomicLong stallNanos = new AtomicLong();
+
+    void register(ReadAheadSeekableInputStream stream) {
+        activeStreams.add(stream);
+        openedStreams.incrementAndGet();
+    }
+
+    void unregister(ReadAheadSeekableInputStream stream) {
+        activeStreams.remove(stream);
+    }
+
+    void recordStall(long nanos) {
+        stallCount.incrementAndGet();
+        stallNanos.addAndGet(nanos);
+    }
+
+    /**
+     * @return Snapshot of the current statistics.
+     */
+    public ReadAheadStatistics getStatistics() {
+        int active = 0;
+        long bufferedBytes = 0;
+
+        for (ReadAheadSeekableInputStream stream : activeStreams) {
+            active++;
+            bufferedBytes += stream.getBufferedBytes();
+        }
+
+        return new ReadAheadStatistics(active, openedStreams.get(), bufferedBytes, stallCount.get(),
+            TimeUnit.NANOSECONDS.toMillis(stallNanos.get()));
+    }
+}
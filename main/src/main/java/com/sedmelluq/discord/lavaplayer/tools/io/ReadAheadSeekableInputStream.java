@@ -0,0 +1,355 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import com.sedmelluq.discord.lavaplayer.track.info.AudioTrackInfoProvider;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seekable stream which reads its delegate stream ahead of the current position in a background thread, so that
+ * network stalls are absorbed by a buffer of the configured size instead of blocking the reader. Data which has already
+ * been read is kept in the buffer until it is overwritten, so seeks within the buffered range do not touch the
+ * delegate stream.
+ *
+ * Each open stream occupies one thread of a shared unbounded pool for as long as it is open, as the background reader
+ * waits for buffer space between reads instead of releasing the thread. The number of these threads therefore equals
+ * the number of tracks being played with read-ahead, which is reported as the active streams in
+ * {@link ReadAheadStatistics}. Threads are released 60 seconds after their stream is closed if no other stream reuses
+ * them.
+ */
+public class ReadAheadSeekableInputStream extends SeekableInputStream {
+    private static final Logger log = LoggerFactory.getLogger(ReadAheadSeekableInputStream.class);
+
+    private static final ExecutorService executor = Executors.newCachedThreadPool(new DaemonThreadFactory("read-ahead"));
+    private static final int CHUNK_SIZE = 16384;
+
+    private final SeekableInputStream delegate;
+    private final ReadAheadCounters counters;
+    private final Object delegateLock = new Object();
+    private final byte[] buffer;
+    private volatile long generation;
+    private long bufferStart;
+    private long bufferEnd;
+    private long position;
+    private boolean endOfStream;
+    private IOException error;
+    private boolean closed;
+    private Future<?> readTask;
+    private long stallCount;
+    private long stallNanos;
+
+    /**
+     * @param delegate   Stream to read ahead from. It must not be used by anything else afterwards.
+     * @param windowSize Size of the read-ahead buffer in bytes.
+     */
+    public ReadAheadSeekableInputStream(SeekableInputStream delegate, int windowSize) {
+        this(delegate, windowSize, null);
+    }
+
+    /**
+     * @param delegate   Stream to read ahead from. It must not be used by anything else afterwards.
+     * @param windowSize Size of the read-ahead buffer in bytes.
+     * @param counters   Counters to report the buffered bytes and stalls of this stream to, may be <code>null</code>.
+     */
+    public ReadAheadSeekableInputStream(SeekableInputStream delegate, int windowSize, ReadAheadCounters counters) {
+        super(delegate.getContentLength(), delegate.getMaxSkipDistance());
+
+        this.delegate = delegate;
+        this.counters = counters;
+        this.buffer = new byte[Math.max(windowSize, CHUNK_SIZE)];
+        this.bufferStart = delegate.getPosition();
+        this.bufferEnd = bufferStart;
+        this.position = bufferStart;
+
+        if (counters != null) {
+            counters.register(this);
+        }
+    }
+
+    /**
+     * @param stream     Stream to wrap.
+     * @param windowSize Size of the read-ahead buffer in bytes, 0 to not use read-ahead.
+     * @return A read-ahead stream wrapping the specified stream, or the stream itself if read-ahead is disabled.
+     */
+    public static SeekableInputStream wrap(SeekableInputStream stream, int windowSize) {
+        return wrap(stream, windowSize, null);
+    }
+
+    /**
+     * @param stream     Stream to wrap.
+     * @param windowSize Size of the read-ahead buffer in bytes, 0 to not use read-ahead.
+     * @param counters   Counters to report the buffered bytes and stalls of the stream to, may be <code>null</code>.
+     * @return A read-ahead stream wrapping the specified stream, or the stream itself if read-ahead is disabled.
+     */
+    public static SeekableInputStream wrap(SeekableInputStream stream, int windowSize, ReadAheadCounters counters) {
+        return windowSize > 0 ? new ReadAheadSeekableInputStream(stream, windowSize, counters) : stream;
+    }
+
+    /**
+     * @return Number of bytes buffered ahead of the current position.
+     */
+    public synchronized long getBufferedBytes() {
+        return bufferEnd - position;
+    }
+
+    /**
+     * @return Number of times a read had to wait for data from the background reader.
+     */
+    public synchronized long getStallCount() {
+        return stallCount;
+    }
+
+    /**
+     * @return Total time spent by reads waiting for data from the background reader in milliseconds.
+     */
+    public synchronized long getStallDuration() {
+        return TimeUnit.NANOSECONDS.toMillis(stallNanos);
+    }
+
+    @Override
+    public long getContentLength() {
+        return delegate.getContentLength();
+    }
+
+    @Override
+    public synchronized long getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean canSeekHard() {
+        return delegate.canSeekHard();
+    }
+
+    @Override
+    public List<AudioTrackInfoProvider> getTrackInfoProviders() {
+        return delegate.getTrackInfoProviders();
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        if (!awaitData()) {
+            return -1;
+        }
+
+        int value = buffer[(int) (position % buffer.length)] & 0xFF;
+        position++;
+        notifyAll();
+
+        return value;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        } else if (!awaitData()) {
+            return -1;
+        }
+
+        int chunkLength = (int) Math.min(len, bufferEnd - position);
+        int offset = (int) (position % buffer.length);
+        int firstPart = Math.min(chunkLength, buffer.length - offset);
+
+        System.arraycopy(buffer, offset, b, off, firstPart);
+        System.arraycopy(buffer, 0, b, off + firstPart, chunkLength - firstPart);
+
+        position += chunkLength;
+        notifyAll();
+
+        return chunkLength;
+    }
+
+    @Override
+    public synchronized long skip(long n) throws IOException {
+        long skipped = Math.max(0, Math.min(n, bufferEnd - position));
+
+        position += skipped;
+        notifyAll();
+
+        return skipped;
+    }
+
+    @Override
+    public synchronized int available() {
+        return (int) Math.min(Integer.MAX_VALUE, bufferEnd - position);
+    }
+
+    @Override
+    public void seek(long position) throws IOException {
+        synchronized (this) {
+            // A chunk which is being read in the background may still overwrite the oldest chunk in the buffer.
+            long retainedStart = Math.max(bufferStart, bufferEnd + CHUNK_SIZE - buffer.length);
+
+            if (position >= retainedStart && position <= bufferEnd) {
+                this.position = position;
+                notifyAll();
+                return;
+            }
+        }
+
+        seekHard(position);
+    }
+
+    @Override
+    protected void seekHard(long position) throws IOException {
+        synchronized (delegateLock) {
+            synchronized (this) {
+                generation++;
+                bufferStart = position;
+                bufferEnd = position;
+                this.position = position;
+                endOfStream = false;
+                error = null;
+                notifyAll();
+            }
+
+            delegate.seek(position);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            notifyAll();
+
+            if (readTask != null) {
+                readTask.cancel(true);
+            }
+
+            log.debug("Closing read-ahead stream, reads stalled {} times for {} ms in total.", stallCount,
+                TimeUnit.NANOSECONDS.toMillis(stallNanos));
+        }
+
+        if (counters != null) {
+            counters.unregister(this);
+        }
+
+        // Not taking the delegate lock, so that closing also aborts a read which is blocked on the network.
+        delegate.close();
+    }
+
+    private boolean awaitData() throws IOException {
+        if (readTask == null && !closed) {
+            readTask = executor.submit(this::readAhead);
+        }
+
+        long stallStart = 0;
+
+        try {
+            while (position >= bufferEnd) {
+                if (closed) {
+                    throw new IOException("Stream has been closed.");
+                } else if (error != null) {
+                    throw error;
+                } else if (endOfStream) {
+                    return false;
+                } else if (stallStart == 0) {
+                    stallStart = System.nanoTime();
+                    stallCount++;
+                }
+
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data.");
+        } finally {
+            if (stallStart != 0) {
+                long stallDuration = System.nanoTime() - stallStart;
+                stallNanos += stallDuration;
+
+                if (counters != null) {
+                    counters.recordStall(stallDuration);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void readAhead() {
+        byte[] chunk = new byte[CHUNK_SIZE];
+
+        try {
+            while (true) {
+                long chunkGeneration;
+                int chunkCapacity;
+
+                synchronized (this) {
+                    while (!closed && (endOfStream || error != null || bufferEnd - position >= buffer.length)) {
+                        wait();
+                    }
+
+                    if (closed) {
+                        return;
+                    }
+
+                    chunkGeneration = generation;
+                    chunkCapacity = (int) Math.min(CHUNK_SIZE, buffer.length - (bufferEnd - position));
+                }
+
+                int chunkLength;
+                IOException chunkError = null;
+
+                synchronized (delegateLock) {
+                    if (chunkGeneration != generation) {
+                        continue;
+                    }
+
+                    try {
+                        chunkLength = delegate.read(chunk, 0, chunkCapacity);
+                    } catch (IOException e) {
+                        chunkLength = -1;
+                        chunkError = e;
+                    } catch (RuntimeException e) {
+                        chunkLength = -1;
+                        chunkError = new IOException(e);
+                    }
+                }
+
+                synchronized (this) {
+                    if (closed) {
+                        return;
+                    } else if (chunkGeneration == generation) {
+                        storeChunk(chunk, chunkLength, chunkError);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            log.debug("Read-ahead was interrupted.");
+        }
+    }
+
+    private void storeChunk(byte[] chunk, int chunkLength, IOException chunkError) {
+        if (chunkError != null) {
+            error = chunkError;
+        } else if (chunkLength == -1) {
+            endOfStream = true;
+        } else {
+            int offset = (int) (bufferEnd % buffer.length);
+            int firstPart = Math.min(chunkLength, buffer.length - offset);
+
+            System.arraycopy(chunk, 0, buffer, offset, firstPart);
+            System.arraycopy(chunk, firstPart, buffer, 0, chunkLength - firstPart);
+
+            bufferEnd += chunkLength;
+            bufferStart = Math.max(bufferStart, bufferEnd - buffer.length);
+        }
+
+        notifyAll();
+    }
+}
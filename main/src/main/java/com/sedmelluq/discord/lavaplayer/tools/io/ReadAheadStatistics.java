@@ -0,0 +1,50 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+/**
+ * Snapshot of the statistics of the read-ahead streams of one source.
+ */
+public class ReadAheadStatistics {
+    /**
+     * Number of read-ahead streams currently open, each of which occupies one read-ahead thread.
+     */
+    public final int activeStreams;
+    /**
+     * Total number of read-ahead streams opened.
+     */
+    public final long openedStreams;
+    /**
+     * Number of bytes currently buffered ahead of the read position, summed over the open streams.
+     */
+    public final long bufferedBytes;
+    /**
+     * Total number of times a read had to wait for data from the background reader.
+     */
+    public final long stallCount;
+    /**
+     * Total time spent by reads waiting for data from the background reader in milliseconds.
+     */
+    public final long totalStallTime;
+
+    /**
+     * @param activeStreams  See {@link #activeStreams}
+     * @param openedStreams  See {@link #openedStreams}
+     * @param bufferedBytes  See {@link #bufferedBytes}
+     * @param stallCount     See {@link #stallCount}
+     * @param totalStallTime See {@link #totalStallTime}
+     */
+    public ReadAheadStatistics(int activeStreams, long openedStreams, long bufferedBytes, long stallCount,
+                               long totalStallTime) {
+
+        this.activeStreams = activeStreams;
+        this.openedStreams = openedStreams;
+        this.bufferedBytes = bufferedBytes;
+        this.stallCount = stallCount;
+        this.totalStallTime = totalStallTime;
+    }
+
+    @Override
+    public String toString() {
+        return "[active: " + activeStreams + ", opened: " + openedStreams + ", buffered: " + bufferedBytes +
+            " bytes, stalls: " + stallCount + ", stalled: " + totalStallTime + " ms]";
+    }
+}
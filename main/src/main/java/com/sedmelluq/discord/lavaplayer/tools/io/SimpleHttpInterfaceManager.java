@@ -1,5 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.tools.io;
 
+import com.sedmelluq.discord.lavaplayer.tools.http.AdaptiveRateLimiter;
 import com.sedmelluq.discord.lavaplayer.tools.http.HttpContextFilter;
 import com.sedmelluq.discord.lavaplayer.tools.http.SettableHttpRequestFilter;
 import org.apache.http.client.config.RequestConfig;
@@ -32,4 +33,9 @@ public class SimpleHttpInterfaceManager extends AbstractHttpInterfaceManager {
     public void setHttpContextFilter(HttpContextFilter filter) {
         filterHolder.set(filter);
     }
+
+    @Override
+    public void setRateLimiter(AdaptiveRateLimiter rateLimiter) {
+        filterHolder.setRateLimiter(rateLimiter);
+    }
 }
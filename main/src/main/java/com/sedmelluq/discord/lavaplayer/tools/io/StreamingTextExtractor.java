@@ -0,0 +1,88 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Extracts text from pages while they are being read, without reading the whole page into memory first. Reading stops
+ * as soon as the wanted text has been found, so the remainder of the page is never transferred or decoded. Closing the
+ * response afterwards discards its connection instead of reading the remainder for reuse.
+ */
+public class StreamingTextExtractor {
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * @param stream UTF-8 text stream to read.
+     * @param start  Text which precedes the wanted text.
+     * @param end    Text which follows the wanted text.
+     * @return The text between the first occurrence of start and the first occurrence of end after it, or null if the
+     * stream ended before both were found.
+     * @throws IOException On read error.
+     */
+    public static String extractBetween(InputStream stream, String start, String end) throws IOException {
+        Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+        char[] buffer = new char[BUFFER_SIZE];
+        StringBuilder window = new StringBuilder();
+        boolean startFound = false;
+        int endSearchPosition = 0;
+        int length;
+
+        while ((length = reader.read(buffer)) != -1) {
+            window.append(buffer, 0, length);
+
+            if (!startFound) {
+                int startMatch = window.indexOf(start);
+
+                if (startMatch < 0) {
+                    // Only the part which may be the beginning of the start text has to be kept.
+                    window.delete(0, Math.max(0, window.length() - start.length() + 1));
+                    continue;
+                }
+
+                window.delete(0, startMatch + start.length());
+                startFound = true;
+            }
+
+            int endMatch = window.indexOf(end, endSearchPosition);
+
+            if (endMatch >= 0) {
+                return window.substring(0, endMatch);
+            }
+
+            endSearchPosition = Math.max(0, window.length() - end.length() + 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * @param stream UTF-8 text stream to read.
+     * @param marker Text to read up to.
+     * @return The text from the beginning of the stream up to and including the first occurrence of the marker, or the
+     * whole text if the marker does not occur in it.
+     * @throws IOException On read error.
+     */
+    public static String readUntil(InputStream stream, String marker) throws IOException {
+        Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+        char[] buffer = new char[BUFFER_SIZE];
+        StringBuilder text = new StringBuilder();
+        int length;
+
+        while ((length = reader.read(buffer)) != -1) {
+            int searchPosition = Math.max(0, text.length() - marker.length() + 1);
+            text.append(buffer, 0, length);
+
+            int markerMatch = text.indexOf(marker, searchPosition);
+
+            if (markerMatch >= 0) {
+                text.setLength(markerMatch + marker.length());
+                break;
+            }
+        }
+
+        return text.toString();
+    }
+}
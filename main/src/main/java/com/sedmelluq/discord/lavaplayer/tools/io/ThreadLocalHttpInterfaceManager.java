@@ -1,5 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.tools.io;
 
+import com.sedmelluq.discord.lavaplayer.tools.http.AdaptiveRateLimiter;
 import com.sedmelluq.discord.lavaplayer.tools.http.HttpContextFilter;
 import com.sedmelluq.discord.lavaplayer.tools.http.SettableHttpRequestFilter;
 import org.apache.http.client.config.RequestConfig;
@@ -52,4 +53,9 @@ public class ThreadLocalHttpInterfaceManager extends AbstractHttpInterfaceManage
     public void setHttpContextFilter(HttpContextFilter modifier) {
         filter.set(modifier);
     }
+
+    @Override
+    public void setRateLimiter(AdaptiveRateLimiter rateLimiter) {
+        filter.setRateLimiter(rateLimiter);
+    }
 }
@@ -0,0 +1,154 @@
+package com.sedmelluq.discord.lavaplayer.source.stream
+
+import com.sedmelluq.discord.lavaplayer.container.playlists.ExtendedM3uParser
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface
+import org.apache.http.client.methods.HttpGet
+import org.apache.http.client.methods.HttpUriRequest
+import spock.lang.Specification
+
+class M3uStreamSegmentUrlProviderSpec extends Specification {
+    static final String PLAYLIST_URL = "https://example.com/live/media.m3u8"
+
+    private static final String[] LOW_LATENCY_PLAYLIST = [
+        "#EXTM3U",
+        "#EXT-X-TARGETDURATION:4",
+        "#EXT-X-SERVER-CONTROL:CAN-BLOCK-RELOAD=YES,PART-HOLD-BACK=3.0",
+        "#EXT-X-PART-INF:PART-TARGET=1.0",
+        "#EXT-X-MEDIA-SEQUENCE:100",
+        "#EXTINF:4.0,",
+        "seg100.ts",
+        "#EXT-X-PART:DURATION=1.0,URI=\"seg101.0.ts\",INDEPENDENT=YES",
+        "#EXT-X-PART:DURATION=1.0,URI=\"seg101.1.ts\"",
+        "#EXT-X-PART:DURATION=1.0,URI=\"seg101.2.ts\"",
+        "#EXT-X-PART:DURATION=1.0,URI=\"seg101.3.ts\"",
+        "#EXTINF:4.0,",
+        "seg101.ts",
+        "#EXT-X-PART:DURATION=1.0,URI=\"seg102.0.ts\",INDEPENDENT=YES",
+        "#EXT-X-PART:DURATION=1.0,URI=\"seg102.1.ts\"",
+        "#EXT-X-PART:DURATION=1.0,URI=\"seg102.2.ts\",BYTERANGE=\"1000@0\"",
+        "#EXT-X-PRELOAD-HINT:TYPE=PART,URI=\"seg102.2.ts\"",
+        "#EXT-X-TWITCH-PREFETCH:https://example.com/live/prefetch.ts"
+    ]
+
+    private static final String[] RELOADED_PLAYLIST = [
+        "#EXTM3U",
+        "#EXT-X-TARGETDURATION:4",
+        "#EXT-X-SERVER-CONTROL:CAN-BLOCK-RELOAD=YES,PART-HOLD-BACK=3.0",
+        "#EXT-X-PART-INF:PART-TARGET=1.0",
+        "#EXT-X-MEDIA-SEQUENCE:100",
+        "#EXTINF:4.0,",
+        "seg100.ts",
+        "#EXTINF:4.0,",
+        "seg101.ts",
+        "#EXT-X-PART:DURATION=1.0,URI=\"seg102.0.ts\",INDEPENDENT=YES",
+        "#EXT-X-PART:DURATION=1.0,URI=\"seg102.1.ts\"",
+        "#EXT-X-PART:DURATION=1.0,URI=\"seg102.2.ts\"",
+        "#EXT-X-PRELOAD-HINT:TYPE=PART,URI=\"seg102.3.ts\""
+    ]
+
+    def "parses the partial segments and server control of a low-latency playlist"() {
+        when:
+        def playlist = M3uStreamSegmentUrlProvider.parseStreamSegmentPlaylist(LOW_LATENCY_PLAYLIST)
+
+        then:
+        playlist.lowLatency
+        playlist.canBlockReload
+        playlist.mediaSequence == 100
+        playlist.partTargetDuration == 1000
+        playlist.partHoldBack == 3000
+        playlist.segments*.url == ["seg100.ts", "seg101.ts"]
+        playlist.segments[0].parts.empty
+        playlist.segments[1].parts*.url == ["seg101.0.ts", "seg101.1.ts", "seg101.2.ts", "seg101.3.ts"]
+        playlist.segments[1].parts*.independent == [true, false, false, false]
+        playlist.pendingParts*.url == ["seg102.0.ts", "seg102.1.ts"]
+        playlist.preloadHintUrl == "seg102.2.ts"
+    }
+
+    def "ignores source-specific prefetch directives"() {
+        when:
+        def playlist = M3uStreamSegmentUrlProvider.parseStreamSegmentPlaylist(LOW_LATENCY_PLAYLIST)
+
+        then:
+        !playlist.segments*.url.contains("https://example.com/live/prefetch.ts")
+    }
+
+    def "does not treat a playlist without blocking reload as low-latency"() {
+        given:
+        String[] lines = LOW_LATENCY_PLAYLIST.findAll { !it.startsWith("#EXT-X-SERVER-CONTROL") }
+
+        when:
+        def playlist = M3uStreamSegmentUrlProvider.parseStreamSegmentPlaylist(lines)
+
+        then:
+        !playlist.lowLatency
+    }
+
+    def "plays parts from the hold back position up to the preload hint"() {
+        given:
+        def provider = new TestSegmentUrlProvider([LOW_LATENCY_PLAYLIST])
+
+        when:
+        def urls = (1..7).collect { provider.getNextSegmentUrl(null) }
+
+        then:
+        urls == [
+            "https://example.com/live/seg101.0.ts",
+            "https://example.com/live/seg101.1.ts",
+            "https://example.com/live/seg101.2.ts",
+            "https://example.com/live/seg101.3.ts",
+            "https://example.com/live/seg102.0.ts",
+            "https://example.com/live/seg102.1.ts",
+            "https://example.com/live/seg102.2.ts"
+        ]
+        provider.requestedUrls == [PLAYLIST_URL]
+    }
+
+    def "requests the part after the preload hint with a blocking reload"() {
+        given:
+        def provider = new TestSegmentUrlProvider([LOW_LATENCY_PLAYLIST, RELOADED_PLAYLIST])
+        7.times { provider.getNextSegmentUrl(null) }
+
+        when:
+        def url = provider.getNextSegmentUrl(null)
+
+        then:
+        url == "https://example.com/live/seg102.3.ts"
+        provider.requestedUrls == [PLAYLIST_URL, PLAYLIST_URL + "?_HLS_msn=102&_HLS_part=3"]
+    }
+
+    private static class TestSegmentUrlProvider extends M3uStreamSegmentUrlProvider {
+        private final List<String[]> responses
+        private final List<String> requestedUrls = []
+
+        TestSegmentUrlProvider(List<String[]> responses) {
+            this.responses = responses
+        }
+
+        List<String> getRequestedUrls() {
+            return requestedUrls
+        }
+
+        @Override
+        protected String getQualityFromM3uDirective(ExtendedM3uParser.Line directiveLine) {
+            return null
+        }
+
+        @Override
+        protected String fetchSegmentPlaylistUrl(HttpInterface httpInterface) {
+            return PLAYLIST_URL
+        }
+
+        @Override
+        protected HttpUriRequest createSegmentGetRequest(String url) {
+            return new HttpGet(url)
+        }
+
+        @Override
+        protected M3uStreamSegmentUrlProvider.SegmentPlaylist loadStreamSegmentPlaylist(HttpInterface httpInterface,
+                                                                                     String streamSegmentPlaylistUrl) {
+
+            requestedUrls.add(streamSegmentPlaylistUrl)
+            return parseSegmentPlaylist(responses[Math.min(requestedUrls.size(), responses.size()) - 1])
+        }
+    }
+}
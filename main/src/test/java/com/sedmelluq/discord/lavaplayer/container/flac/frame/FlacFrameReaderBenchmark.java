@@ -0,0 +1,466 @@
+package com.sedmelluq.discord.lavaplayer.container.flac.frame;
+
+import com.sedmelluq.discord.lavaplayer.container.flac.FlacStreamInfo;
+import com.sedmelluq.discord.lavaplayer.container.flac.frame.FlacFrameInfo.ChannelDelta;
+import com.sedmelluq.discord.lavaplayer.tools.io.BitStreamReader;
+import com.sedmelluq.discord.lavaplayer.tools.io.BitStreamWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast {@link FlacFrameReader} decodes FLAC frames, compared with the reader as it was before the LPC
+ * restoring and Rice decoding were optimised, which is kept here as {@link BaselineFrameReader}. The stream is
+ * synthesized in memory with LPC subframes, for both 16-bit and 24-bit samples, and the output of both readers is
+ * compared. Run the main method, no input files are needed.
+ */
+public class FlacFrameReaderBenchmark {
+    private static final int SAMPLE_RATE = 44100;
+    private static final int BLOCK_SIZE = 4096;
+    private static final int FRAME_COUNT = 60 * SAMPLE_RATE / BLOCK_SIZE;
+    private static final int LPC_PRECISION = 12;
+    private static final int LPC_SHIFT = 9;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ROUNDS = 10;
+
+    private static final int CHANNELS_INDEPENDENT = 1;
+    private static final int CHANNELS_LEFT_SIDE = 8;
+
+    public static void main(String[] args) throws Exception {
+        run(16, 8, CHANNELS_INDEPENDENT);
+        run(16, 8, CHANNELS_LEFT_SIDE);
+        run(16, 32, CHANNELS_LEFT_SIDE);
+        run(24, 8, CHANNELS_LEFT_SIDE);
+        run(24, 32, CHANNELS_LEFT_SIDE);
+    }
+
+    private static void run(int bitsPerSample, int order, int channelAssignment) throws IOException {
+        byte[] stream = encodeStream(bitsPerSample, order, channelAssignment);
+        FlacStreamInfo streamInfo = createStreamInfo(bitsPerSample);
+
+        boolean identical = decodeCurrent(stream, streamInfo) == decodeBaseline(stream, streamInfo);
+        long bestBaseline = Long.MAX_VALUE;
+        long bestCurrent = Long.MAX_VALUE;
+
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            long start = System.nanoTime();
+            decodeBaseline(stream, streamInfo);
+            long baseline = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            decodeCurrent(stream, streamInfo);
+            long current = System.nanoTime() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                bestBaseline = Math.min(bestBaseline, baseline);
+                bestCurrent = Math.min(bestCurrent, current);
+            }
+        }
+
+        double audioSeconds = (double) FRAME_COUNT * BLOCK_SIZE / SAMPLE_RATE;
+
+        System.out.printf("bits=%d order=%d channels=%s identical=%s baseline=%dms current=%dms speedup=%.2fx realtime=%.0fx%n",
+            bitsPerSample,
+            order,
+            channelAssignment == CHANNELS_LEFT_SIDE ? "left-side" : "independent",
+            identical,
+            TimeUnit.NANOSECONDS.toMillis(bestBaseline),
+            TimeUnit.NANOSECONDS.toMillis(bestCurrent),
+            (double) bestBaseline / bestCurrent,
+            audioSeconds / (bestCurrent / 1e9)
+        );
+    }
+
+    private static long decodeCurrent(byte[] stream, FlacStreamInfo streamInfo) throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(stream);
+        BitStreamReader reader = new BitStreamReader(inputStream);
+        int[][] rawSampleBuffers = new int[streamInfo.channelCount][streamInfo.maximumBlockSize];
+        short[][] sampleBuffers = new short[streamInfo.channelCount][streamInfo.maximumBlockSize];
+        int[] temporaryBuffer = new int[FlacFrameReader.TEMPORARY_BUFFER_SIZE];
+        long checksum = 0;
+        int sampleCount;
+
+        while ((sampleCount = FlacFrameReader.readFlacFrame(inputStream, reader, streamInfo, rawSampleBuffers,
+            sampleBuffers, temporaryBuffer)) > 0) {
+
+            checksum = updateChecksum(checksum, sampleBuffers, sampleCount);
+        }
+
+        return checksum;
+    }
+
+    private static long decodeBaseline(byte[] stream, FlacStreamInfo streamInfo) throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(stream);
+        BitStreamReader reader = new BaselineBitStreamReader(inputStream);
+        int[][] rawSampleBuffers = new int[streamInfo.channelCount][streamInfo.maximumBlockSize];
+        short[][] sampleBuffers = new short[streamInfo.channelCount][streamInfo.maximumBlockSize];
+        int[] temporaryBuffer = new int[FlacFrameReader.TEMPORARY_BUFFER_SIZE];
+        long checksum = 0;
+        int sampleCount;
+
+        while ((sampleCount = BaselineFrameReader.readFlacFrame(inputStream, reader, streamInfo, rawSampleBuffers,
+            sampleBuffers, temporaryBuffer)) > 0) {
+
+            checksum = updateChecksum(checksum, sampleBuffers, sampleCount);
+        }
+
+        return checksum;
+    }
+
+    private static long updateChecksum(long checksum, short[][] sampleBuffers, int sampleCount) {
+        for (short[] channel : sampleBuffers) {
+            for (int i = 0; i < sampleCount; i++) {
+                checksum = checksum * 31 + channel[i];
+            }
+        }
+
+        return checksum;
+    }
+
+    private static FlacStreamInfo createStreamInfo(int bitsPerSample) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BitStreamWriter writer = new BitStreamWriter(bytes);
+
+        writer.write(BLOCK_SIZE, 16);
+        writer.write(BLOCK_SIZE, 16);
+        writer.write(0, 24);
+        writer.write(0, 24);
+        writer.write(SAMPLE_RATE, 20);
+        writer.write(2 - 1, 3);
+        writer.write(bitsPerSample - 1, 5);
+        writer.write((long) FRAME_COUNT * BLOCK_SIZE, 36);
+        writer.write(0, 64);
+        writer.write(0, 64);
+        writer.flush();
+
+        return new FlacStreamInfo(bytes.toByteArray(), false);
+    }
+
+    private static byte[] encodeStream(int bitsPerSample, int order, int channelAssignment) throws IOException {
+        Random random = new Random(bitsPerSample * 31L + order);
+        int amplitude = 1 << (bitsPerSample - 3);
+        int noise = 1 << (bitsPerSample - 10);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BitStreamWriter writer = new BitStreamWriter(bytes);
+        int[] left = new int[BLOCK_SIZE];
+        int[] right = new int[BLOCK_SIZE];
+
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                double time = (double) (frame * BLOCK_SIZE + i) / SAMPLE_RATE;
+
+                left[i] = (int) (amplitude * (0.6 * Math.sin(2 * Math.PI * 220 * time) +
+                    0.3 * Math.sin(2 * Math.PI * 1375 * time))) + random.nextInt(noise) - noise / 2;
+                right[i] = (int) (amplitude * (0.5 * Math.sin(2 * Math.PI * 220 * time + 0.5) +
+                    0.3 * Math.sin(2 * Math.PI * 2750 * time))) + random.nextInt(noise) - noise / 2;
+            }
+
+            writeFrameHeader(writer, frame, bitsPerSample, channelAssignment);
+            writeLpcSubFrame(writer, left, bitsPerSample, order);
+
+            if (channelAssignment == CHANNELS_LEFT_SIDE) {
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    right[i] = left[i] - right[i];
+                }
+
+                writeLpcSubFrame(writer, right, bitsPerSample + 1, order);
+            } else {
+                writeLpcSubFrame(writer, right, bitsPerSample, order);
+            }
+
+            writer.flush();
+            // CRC-16, which the reader does not check.
+            writer.write(0, 16);
+        }
+
+        writer.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeFrameHeader(BitStreamWriter writer, int frame, int bitsPerSample,
+                                         int channelAssignment) throws IOException {
+
+        writer.write(0xFFF8, 16);
+        writer.write(12, 4);
+        writer.write(9, 4);
+        writer.write(channelAssignment, 4);
+        writer.write(bitsPerSample == 16 ? 4 : 6, 3);
+        writer.write(0, 1);
+
+        if (frame < 0x80) {
+            writer.write(frame, 8);
+        } else {
+            writer.write(0xC0 | (frame >> 6), 8);
+            writer.write(0x80 | (frame & 0x3F), 8);
+        }
+
+        // CRC-8, which the reader does not check.
+        writer.write(0, 8);
+    }
+
+    private static void writeLpcSubFrame(BitStreamWriter writer, int[] samples, int bitsPerSample,
+                                         int order) throws IOException {
+
+        int[] coefficients = new int[order];
+        coefficients[0] = 2 << LPC_SHIFT;
+        coefficients[1] = -(1 << LPC_SHIFT);
+
+        for (int i = 2; i < order; i++) {
+            coefficients[i] = (i % 2 == 0) ? 3 : -3;
+        }
+
+        writer.write(0, 1);
+        writer.write(0x20 | (order - 1), 6);
+        writer.write(0, 1);
+
+        for (int i = 0; i < order; i++) {
+            writer.write(samples[i], bitsPerSample);
+        }
+
+        writer.write(LPC_PRECISION - 1, 4);
+        writer.write(LPC_SHIFT, 5);
+
+        for (int coefficient : coefficients) {
+            writer.write(coefficient, LPC_PRECISION);
+        }
+
+        int[] residuals = new int[BLOCK_SIZE];
+        long magnitudeSum = 0;
+
+        for (int i = order; i < BLOCK_SIZE; i++) {
+            long sum = 0;
+
+            for (int j = 0; j < order; j++) {
+                sum += (long) coefficients[j] * samples[i - j - 1];
+            }
+
+            int residual = samples[i] - (int) (sum >> LPC_SHIFT);
+            residuals[i] = (residual << 1) ^ (residual >> 31);
+            magnitudeSum += residuals[i];
+        }
+
+        long mean = magnitudeSum / (BLOCK_SIZE - order);
+        int parameter = Math.min(14, mean > 0 ? 63 - Long.numberOfLeadingZeros(mean) : 0);
+
+        // Rice coding with a single partition.
+        writer.write(0, 2);
+        writer.write(0, 4);
+        writer.write(parameter, 4);
+
+        for (int i = order; i < BLOCK_SIZE; i++) {
+            writer.write(0, residuals[i] >>> parameter);
+            writer.write(1, 1);
+            writer.write(residuals[i], parameter);
+        }
+    }
+
+    /**
+     * The frame reader before the optimisations, with the LPC prediction always summed in a long.
+     */
+    private static class BaselineFrameReader {
+        private static int readFlacFrame(InputStream inputStream, BitStreamReader reader, FlacStreamInfo streamInfo,
+                                         int[][] rawSampleBuffers, short[][] sampleBuffers, int[] temporaryBuffer)
+            throws IOException {
+
+            int blockingStrategy = skipToFrameSync(inputStream);
+
+            if (blockingStrategy == -1) {
+                return 0;
+            }
+
+            FlacFrameInfo frameInfo = FlacFrameHeaderReader.readFrameHeader(reader, streamInfo, blockingStrategy == 1);
+
+            for (int i = 0; i < streamInfo.channelCount; i++) {
+                readSubFrame(reader, streamInfo, frameInfo, rawSampleBuffers[i], i, temporaryBuffer);
+            }
+
+            reader.readRemainingBits();
+            reader.asInteger(16);
+
+            applyChannelDelta(frameInfo.channelDelta, rawSampleBuffers, frameInfo.sampleCount);
+
+            int shiftRight = streamInfo.bitsPerSample - 16;
+
+            for (int channel = 0; channel < streamInfo.channelCount; channel++) {
+                for (int i = 0; i < frameInfo.sampleCount; i++) {
+                    sampleBuffers[channel][i] = (short) (rawSampleBuffers[channel][i] >> shiftRight);
+                }
+            }
+
+            return frameInfo.sampleCount;
+        }
+
+        private static int skipToFrameSync(InputStream inputStream) throws IOException {
+            int lastByte = -1;
+            int currentByte;
+
+            while ((currentByte = inputStream.read()) != -1) {
+                if (lastByte == 0xFF && (currentByte & 0xFE) == 0xF8) {
+                    return currentByte & 0x01;
+                }
+                lastByte = currentByte;
+            }
+
+            return -1;
+        }
+
+        private static void applyChannelDelta(ChannelDelta channelDelta, int[][] rawSampleBuffers, int sampleCount) {
+            if (channelDelta == ChannelDelta.LEFT_SIDE) {
+                for (int i = 0; i < sampleCount; i++) {
+                    rawSampleBuffers[1][i] = rawSampleBuffers[0][i] - rawSampleBuffers[1][i];
+                }
+            } else if (channelDelta != ChannelDelta.NONE) {
+                throw new UnsupportedOperationException("Not used by the benchmark.");
+            }
+        }
+
+        private static void readSubFrame(BitStreamReader reader, FlacStreamInfo streamInfo, FlacFrameInfo frameInfo,
+                                         int[] sampleBuffer, int channel, int[] coefficients) throws IOException {
+
+            if (reader.asInteger(1) == 1) {
+                throw new IllegalStateException("Subframe header must start with 0 bit.");
+            }
+
+            boolean isDeltaChannel = frameInfo.channelDelta.deltaChannel == channel;
+            int subFrameDescriptor = reader.asInteger(6);
+
+            if ((subFrameDescriptor & 0x20) == 0 || reader.asInteger(1) == 1) {
+                throw new UnsupportedOperationException("Not used by the benchmark.");
+            }
+
+            int bitsPerSample = streamInfo.bitsPerSample + (isDeltaChannel ? 1 : 0);
+            int order = (subFrameDescriptor & 0x1F) + 1;
+            int sampleCount = frameInfo.sampleCount;
+
+            for (int i = 0; i < order; i++) {
+                sampleBuffer[i] = reader.asSignedInteger(bitsPerSample);
+            }
+
+            int precision = reader.asInteger(4) + 1;
+            int shift = reader.asInteger(5);
+
+            for (int i = 0; i < order; i++) {
+                coefficients[i] = reader.asSignedInteger(precision);
+            }
+
+            readResidual(reader, order, sampleBuffer, sampleCount);
+
+            for (int i = order; i < sampleCount; i++) {
+                long sum = 0;
+
+                for (int j = 0; j < order; j++) {
+                    sum += (long) coefficients[j] * sampleBuffer[i - j - 1];
+                }
+
+                sampleBuffer[i] += (int) (sum >> shift);
+            }
+        }
+
+        private static void readResidual(BitStreamReader reader, int order, int[] buffer, int sampleCount)
+            throws IOException {
+
+            if (reader.asInteger(2) != 0 || reader.asInteger(4) != 0) {
+                throw new UnsupportedOperationException("Not used by the benchmark.");
+            }
+
+            int parameter = reader.asInteger(4);
+
+            for (int i = order; i < sampleCount; i++) {
+                int lowOrderSigned = (reader.readAllZeroes() << parameter) | reader.asInteger(parameter);
+                buffer[i] = (lowOrderSigned & 1) == 0 ? lowOrderSigned >> 1 : -(lowOrderSigned >> 1) - 1;
+            }
+        }
+    }
+
+    /**
+     * The bit stream reader before the optimisations, which reads values through a long and zero runs bit by bit.
+     */
+    private static class BaselineBitStreamReader extends BitStreamReader {
+        private final InputStream stream;
+        private int currentByte;
+        private int bitsLeft;
+
+        private BaselineBitStreamReader(InputStream stream) {
+            super(stream);
+            this.stream = stream;
+        }
+
+        @Override
+        public long asLong(int bitsNeeded) throws IOException {
+            long value = 0;
+
+            while (bitsNeeded > 0) {
+                fill();
+
+                int chunk = Math.min(bitsNeeded, bitsLeft);
+                int mask = (1 << chunk) - 1;
+
+                value <<= chunk;
+                value |= (currentByte >> (bitsLeft - chunk)) & mask;
+
+                bitsNeeded -= chunk;
+                bitsLeft -= chunk;
+            }
+
+            return value;
+        }
+
+        @Override
+        public long asSignedLong(int bitsNeeded) throws IOException {
+            long value = asLong(bitsNeeded);
+
+            if ((value & (1L << (bitsNeeded - 1))) != 0) {
+                return value | ~((1L << bitsNeeded) - 1);
+            } else {
+                return value;
+            }
+        }
+
+        @Override
+        public int asInteger(int bitsNeeded) throws IOException {
+            return Math.toIntExact(asLong(bitsNeeded));
+        }
+
+        @Override
+        public int asSignedInteger(int bitsNeeded) throws IOException {
+            return Math.toIntExact(asSignedLong(bitsNeeded));
+        }
+
+        @Override
+        public int readAllZeroes() throws IOException {
+            int count = 0;
+            fill();
+
+            while ((currentByte & (1 << --bitsLeft)) == 0) {
+                count++;
+                fill();
+            }
+
+            return count;
+        }
+
+        @Override
+        public int readRemainingBits() {
+            int value = currentByte & ((1 << bitsLeft) - 1);
+            bitsLeft = 0;
+            return value;
+        }
+
+        private void fill() throws IOException {
+            if (bitsLeft == 0) {
+                currentByte = stream.read();
+                bitsLeft = 8;
+
+                if (currentByte == -1) {
+                    throw new EOFException("Bit stream needs more bytes");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.sedmelluq.discord.lavaplayer.source.soundcloud;
+
+import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long loading a large SoundCloud set takes with different batch concurrency settings. The track list API
+ * is replaced by a local stub server which responds after a fixed latency, all requests are routed to it. Run the main
+ * method, no network access is needed.
+ */
+public class SoundCloudPlaylistLoaderBenchmark {
+    private static final int TRACK_COUNT = 2000;
+    private static final long RESPONSE_LATENCY_MS = 80;
+    private static final String MISSING_TRACK_ID = "7919";
+    private static final String BLOCKED_TRACK_ID = "15838";
+
+    public static void main(String[] args) throws Exception {
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 50);
+        server.createContext("/", SoundCloudPlaylistLoaderBenchmark::respondWithTracks);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        HttpHost stubHost = new HttpHost("127.0.0.1", server.getAddress().getPort(), "http");
+        HttpInterfaceManager httpInterfaceManager = HttpClientTools.createDefaultThreadLocalManager();
+        httpInterfaceManager.configureBuilder(builder ->
+            builder.setRoutePlanner((target, request, context) -> new HttpRoute(stubHost))
+        );
+
+        JsonBrowser setData = JsonBrowser.parse(buildSetJson());
+        DefaultSoundCloudPlaylistLoader loader = new DefaultSoundCloudPlaylistLoader(
+            (httpInterface, url) -> setData,
+            new DefaultSoundCloudDataReader(),
+            new DefaultSoundCloudFormatHandler()
+        );
+
+        List<String> expectedTitles = expectedTitles();
+
+        try {
+            // The first round warms up the connection pool and the JIT.
+            for (int concurrency : new int[] { 1, 1, 2, 4, 8 }) {
+                loader.setBatchConcurrency(concurrency);
+
+                long start = System.nanoTime();
+                long[] firstPartTime = new long[1];
+
+                AudioPlaylist playlist = loader.load(
+                    "https://soundcloud.com/user/sets/benchmark",
+                    httpInterfaceManager,
+                    trackInfo -> new SoundCloudAudioTrack(trackInfo, null),
+                    tracks -> {
+                        if (firstPartTime[0] == 0) {
+                            firstPartTime[0] = System.nanoTime() - start;
+                        }
+                    }
+                );
+
+                long total = System.nanoTime() - start;
+                List<String> titles = new ArrayList<>();
+
+                for (AudioTrack track : playlist.getTracks()) {
+                    titles.add(track.getInfo().title);
+                }
+
+                System.out.printf("concurrency=%d tracks=%d ordered=%s first=%dms total=%dms%n",
+                    concurrency,
+                    titles.size(),
+                    titles.equals(expectedTitles),
+                    TimeUnit.NANOSECONDS.toMillis(firstPartTime[0]),
+                    TimeUnit.NANOSECONDS.toMillis(total)
+                );
+            }
+        } finally {
+            httpInterfaceManager.close();
+            server.stop(0);
+            serverExecutor.shutdown();
+        }
+    }
+
+    private static String trackId(int index) {
+        return String.valueOf(index * 7919L % 100003);
+    }
+
+    private static String buildSetJson() {
+        StringBuilder builder = new StringBuilder("{\"kind\":\"playlist\",\"id\":1,\"title\":\"Benchmark\",\"tracks\":[");
+
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            builder.append(i > 0 ? "," : "").append("{\"id\":").append(trackId(i)).append("}");
+        }
+
+        return builder.append("]}").toString();
+    }
+
+    private static List<String> expectedTitles() {
+        List<String> titles = new ArrayList<>();
+
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            String id = trackId(i);
+
+            if (!id.equals(MISSING_TRACK_ID) && !id.equals(BLOCKED_TRACK_ID)) {
+                titles.add("track " + id);
+            }
+        }
+
+        return titles;
+    }
+
+    private static void respondWithTracks(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        String ids = URLDecoder.decode(query.substring(query.indexOf("ids=") + 4), "UTF-8");
+
+        // The API does not return the tracks in the requested order.
+        List<String> trackIds = new ArrayList<>(Arrays.asList(ids.split(",")));
+        Collections.shuffle(trackIds);
+
+        StringBuilder builder = new StringBuilder("[");
+
+        for (String id : trackIds) {
+            if (id.equals(MISSING_TRACK_ID)) {
+                continue;
+            }
+
+            builder.append(builder.length() > 1 ? "," : "")
+                .append("{\"id\":").append(id)
+                .append(",\"title\":\"track ").append(id)
+                .append("\",\"user\":{\"username\":\"user\",\"avatar_url\":\"\"},\"full_duration\":1000")
+                .append(",\"permalink_url\":\"https://soundcloud.com/user/track-").append(id)
+                .append("\",\"policy\":\"").append(id.equals(BLOCKED_TRACK_ID) ? "BLOCK" : "ALLOW")
+                .append("\",\"media\":{\"transcodings\":[{\"url\":\"https://api-v2.soundcloud.com/media/").append(id)
+                .append("\",\"format\":{\"protocol\":\"progressive\",\"mime_type\":\"audio/mpeg\"}}]}}");
+        }
+
+        byte[] body = builder.append("]").toString().getBytes(StandardCharsets.UTF_8);
+
+        try {
+            Thread.sleep(RESPONSE_LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
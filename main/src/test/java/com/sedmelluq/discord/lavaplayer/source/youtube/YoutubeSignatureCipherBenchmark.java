@@ -0,0 +1,240 @@
+package com.sedmelluq.discord.lavaplayer.source.youtube;
+
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.entity.ContentType;
+import org.mozilla.javascript.engine.RhinoScriptEngineFactory;
+
+import javax.script.Invocable;
+import javax.script.ScriptEngine;
+import java.io.DataOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link YoutubeSignatureCipherManager#resolveFormatUrl} with the compiled and memoised n
+ * function, compared with the previous way of evaluating the n function source on a shared script engine and invoking
+ * it for every URL. The cipher is loaded from a persisted cache file with a synthetic n function shaped like the ones in
+ * the player scripts, so no network access is needed. Run the main method.
+ */
+public class YoutubeSignatureCipherBenchmark {
+    private static final String SCRIPT_URL = "/s/player/benchmark/player_ias.vflset/en_US/base.js";
+    private static final int CALL_COUNT = 64;
+    private static final int URLS_PER_ROUND = 500;
+    private static final int VIDEO_COUNT = 10;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Random random = new Random(41);
+        String nFunction = buildNFunction(random);
+        List<YoutubeCipherOperation> operations = buildOperations(random);
+
+        Path cacheFile = Files.createTempFile("lavaplayer-cipher-benchmark", ".bin");
+
+        try {
+            writeCacheFile(cacheFile, nFunction, operations);
+
+            YoutubeSignatureCipherManager manager = new YoutubeSignatureCipherManager();
+            manager.setPersistentCacheFile(cacheFile);
+
+            YoutubeSignatureCipher baselineCipher = new YoutubeSignatureCipher();
+            operations.forEach(baselineCipher::addOperation);
+            ScriptEngine scriptEngine = new RhinoScriptEngineFactory().getScriptEngine();
+
+            List<YoutubeTrackFormat> checkFormats = buildFormats(random, URLS_PER_ROUND);
+            boolean identical = true;
+
+            for (YoutubeTrackFormat format : checkFormats) {
+                URI expected = resolveWithScriptEngine(scriptEngine, baselineCipher, nFunction, format);
+                identical &= expected.equals(manager.resolveFormatUrl(null, SCRIPT_URL, format));
+            }
+
+            System.out.printf("identical=%s%n", identical);
+
+            long bestEval = Long.MAX_VALUE;
+            long bestCompiled = Long.MAX_VALUE;
+            long bestMemoised = Long.MAX_VALUE;
+
+            for (int round = 0; round < ROUNDS; round++) {
+                // Unique n values every round, so that the compiled path never hits the memoised results.
+                List<YoutubeTrackFormat> uniqueFormats = buildFormats(random, URLS_PER_ROUND);
+                List<YoutubeTrackFormat> repeatedFormats = repeat(buildFormats(random, VIDEO_COUNT), URLS_PER_ROUND);
+
+                long start = System.nanoTime();
+
+                for (YoutubeTrackFormat format : uniqueFormats) {
+                    resolveWithScriptEngine(scriptEngine, baselineCipher, nFunction, format);
+                }
+
+                bestEval = Math.min(bestEval, System.nanoTime() - start);
+
+                uniqueFormats = buildFormats(random, URLS_PER_ROUND);
+                start = System.nanoTime();
+
+                for (YoutubeTrackFormat format : uniqueFormats) {
+                    manager.resolveFormatUrl(null, SCRIPT_URL, format);
+                }
+
+                bestCompiled = Math.min(bestCompiled, System.nanoTime() - start);
+                start = System.nanoTime();
+
+                for (YoutubeTrackFormat format : repeatedFormats) {
+                    manager.resolveFormatUrl(null, SCRIPT_URL, format);
+                }
+
+                bestMemoised = Math.min(bestMemoised, System.nanoTime() - start);
+            }
+
+            printResult("eval+invoke", bestEval);
+            printResult("compiled", bestCompiled);
+            printResult("memoised", bestMemoised);
+        } finally {
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+
+    private static void printResult(String path, long bestNanos) {
+        System.out.printf("path=%s urls=%d total=%dms perUrl=%.1fus throughput=%.0f/s%n",
+            path,
+            URLS_PER_ROUND,
+            TimeUnit.NANOSECONDS.toMillis(bestNanos),
+            bestNanos / 1000.0 / URLS_PER_ROUND,
+            URLS_PER_ROUND / (bestNanos / 1e9)
+        );
+    }
+
+    /**
+     * The URL resolution as it was before the n function was compiled once.
+     */
+    private static URI resolveWithScriptEngine(ScriptEngine scriptEngine, YoutubeSignatureCipher cipher, String nFunction,
+                                               YoutubeTrackFormat format) throws Exception {
+
+        URIBuilder uri = new URIBuilder(format.getUrl());
+        uri.setParameter(format.getSignatureKey(), cipher.apply(format.getSignature()));
+
+        scriptEngine.eval("n=" + nFunction);
+        uri.setParameter("n", (String) ((Invocable) scriptEngine).invokeFunction("n", format.getNParameter()));
+
+        return uri.setParameter("ratebypass", "yes").build();
+    }
+
+    private static List<YoutubeTrackFormat> repeat(List<YoutubeTrackFormat> formats, int count) {
+        List<YoutubeTrackFormat> repeated = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            repeated.add(formats.get(i % formats.size()));
+        }
+
+        return repeated;
+    }
+
+    private static List<YoutubeTrackFormat> buildFormats(Random random, int count) {
+        List<YoutubeTrackFormat> formats = new ArrayList<>(count);
+        ContentType type = ContentType.parse("audio/webm; codecs=\"opus\"");
+
+        for (int i = 0; i < count; i++) {
+            String nParameter = randomText(random, 16);
+
+            formats.add(new YoutubeTrackFormat(
+                type,
+                160000,
+                3_500_000,
+                2,
+                "https://rr1---sn-benchmark.googlevideo.com/videoplayback?expire=1700000000&itag=251&n=" + nParameter,
+                nParameter,
+                randomText(random, 108),
+                "sig",
+                true
+            ));
+        }
+
+        return formats;
+    }
+
+    private static String randomText(Random random, int length) {
+        String alphabet = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-_";
+        StringBuilder builder = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Builds an n function in the same shape as the ones in player scripts: the input is split into an array, which is
+     * then shuffled by a long list of calls to helper functions stored in a lookup array.
+     */
+    private static String buildNFunction(Random random) {
+        String[] helpers = {
+            "function(d){d.reverse()}",
+            "function(d,e){e=(e%d.length+d.length)%d.length;var f=d[0];d[0]=d[e];d[e]=f}",
+            "function(d,e){e=(e%d.length+d.length)%d.length;d.splice(0,1,d.splice(e,1,d[0])[0])}",
+            "function(d,e){for(e=(e%d.length+d.length)%d.length;e--;)d.unshift(d.pop())}",
+            "function(d,e){e=(e%d.length+d.length)%d.length;d.splice(-e).reverse().forEach(function(f){d.unshift(f)})}"
+        };
+
+        StringBuilder lookup = new StringBuilder("b");
+        int numberStart = helpers.length + 1;
+
+        for (String helper : helpers) {
+            lookup.append(',').append(helper);
+        }
+
+        for (int i = 0; i < 16; i++) {
+            lookup.append(',').append(random.nextInt(2000) - 1000);
+        }
+
+        StringBuilder calls = new StringBuilder();
+
+        for (int i = 0; i < CALL_COUNT; i++) {
+            int helper = 1 + random.nextInt(helpers.length);
+            int argument = numberStart + random.nextInt(16);
+
+            calls.append(i > 0 ? "," : "").append("c[").append(helper).append("](c[0],c[").append(argument).append("])");
+        }
+
+        return "function(a){var b=a.split(\"\"),c=[" + lookup + "];c[0]=b;try{" + calls +
+            "}catch(d){return\"enhanced_except_benchmark\"+a}return b.join(\"\")};";
+    }
+
+    private static List<YoutubeCipherOperation> buildOperations(Random random) {
+        List<YoutubeCipherOperation> operations = new ArrayList<>();
+        operations.add(new YoutubeCipherOperation(YoutubeCipherOperationType.REVERSE, 0));
+        operations.add(new YoutubeCipherOperation(YoutubeCipherOperationType.SWAP, random.nextInt(60)));
+        operations.add(new YoutubeCipherOperation(YoutubeCipherOperationType.SLICE, 2));
+        operations.add(new YoutubeCipherOperation(YoutubeCipherOperationType.SWAP, random.nextInt(60)));
+        operations.add(new YoutubeCipherOperation(YoutubeCipherOperationType.REVERSE, 0));
+        return operations;
+    }
+
+    private static void writeCacheFile(Path file, String nFunction, List<YoutubeCipherOperation> operations)
+        throws Exception {
+
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(file))) {
+            output.writeInt(1);
+            output.writeInt(1);
+            writeString(output, SCRIPT_URL);
+            writeString(output, "19999");
+            writeString(output, nFunction);
+            output.writeInt(operations.size());
+
+            for (YoutubeCipherOperation operation : operations) {
+                output.writeUTF(operation.type.name());
+                output.writeInt(operation.parameter);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String text) throws Exception {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
@@ -0,0 +1,204 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the time and the memory allocated for reading the video renderers from a YouTube search response with
+ * {@link JsonPathExtractor}, compared with parsing the whole response with {@link JsonBrowser#parse} and navigating the
+ * tree. The response is synthetic, shaped like a real one: the video renderers are accompanied by other renderers and by
+ * large sections which the search does not read. Run the main method.
+ */
+public class JsonPathExtractorBenchmark {
+    private static final String VIDEO_RENDERER_PATH =
+        "contents.sectionListRenderer.contents[*].itemSectionRenderer.contents[*].compactVideoRenderer";
+
+    private static final int SECTION_COUNT = 3;
+    private static final int VIDEOS_PER_SECTION = 16;
+    private static final int WARMUP_ITERATIONS = 300;
+    private static final int ITERATIONS = 500;
+
+    public static void main(String[] args) throws Exception {
+        byte[] document = buildSearchResponse(new Random(46)).getBytes(StandardCharsets.UTF_8);
+        JsonPathExtractor extractor = JsonPathExtractor.compile(VIDEO_RENDERER_PATH);
+
+        List<String> expected = formatAll(navigateTree(JsonBrowser.parse(new ByteArrayInputStream(document))));
+        List<String> extracted = formatAll(extractor.extract(new ByteArrayInputStream(document)).values(VIDEO_RENDERER_PATH));
+
+        System.out.printf("documentSize=%dKB videoRenderers=%d identical=%s%n",
+            document.length / 1024, expected.size(), expected.equals(extracted));
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            navigateTree(JsonBrowser.parse(new ByteArrayInputStream(document)));
+            extractor.extract(new ByteArrayInputStream(document)).values(VIDEO_RENDERER_PATH);
+        }
+
+        long[] tree = measure(() -> navigateTree(JsonBrowser.parse(new ByteArrayInputStream(document))));
+        long[] streaming = measure(() -> extractor.extract(new ByteArrayInputStream(document)).values(VIDEO_RENDERER_PATH));
+
+        printResult("JsonBrowser.parse", tree);
+        printResult("JsonPathExtractor", streaming);
+    }
+
+    private static long[] measure(Task task) throws Exception {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new long[] { elapsed / ITERATIONS, allocated / ITERATIONS };
+    }
+
+    private static void printResult(String path, long[] result) {
+        System.out.printf("path=%s perDocument=%.2fms allocatedPerDocument=%.2fMB%n",
+            path,
+            result[0] / 1e6,
+            result[1] / (1024.0 * 1024.0)
+        );
+    }
+
+    /**
+     * The navigation the search provider did on the full tree before it used the extractor.
+     */
+    private static List<JsonBrowser> navigateTree(JsonBrowser json) {
+        List<JsonBrowser> videoRenderers = new ArrayList<>();
+
+        for (JsonBrowser section : json.get("contents").get("sectionListRenderer").get("contents").values()) {
+            for (JsonBrowser item : section.get("itemSectionRenderer").get("contents").values()) {
+                JsonBrowser videoRenderer = item.get("compactVideoRenderer");
+
+                if (!videoRenderer.isNull()) {
+                    videoRenderers.add(videoRenderer);
+                }
+            }
+        }
+
+        return videoRenderers;
+    }
+
+    private static List<String> formatAll(List<JsonBrowser> values) {
+        List<String> formatted = new ArrayList<>(values.size());
+
+        for (JsonBrowser value : values) {
+            formatted.add(value.format());
+        }
+
+        return formatted;
+    }
+
+    private static String buildSearchResponse(Random random) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"responseContext\":{\"visitorData\":\"").append(randomText(random, 32))
+            .append("\",\"serviceTrackingParams\":[");
+
+        for (int i = 0; i < 40; i++) {
+            json.append(i > 0 ? "," : "").append("{\"service\":\"SERVICE_").append(i).append("\",\"params\":[");
+
+            for (int j = 0; j < 8; j++) {
+                json.append(j > 0 ? "," : "").append("{\"key\":\"key_").append(j).append("\",\"value\":\"")
+                    .append(randomText(random, 40)).append("\"}");
+            }
+
+            json.append("]}");
+        }
+
+        json.append("]},\"contents\":{\"sectionListRenderer\":{\"contents\":[");
+
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            json.append(section > 0 ? "," : "").append("{\"itemSectionRenderer\":{\"contents\":[");
+
+            for (int video = 0; video < VIDEOS_PER_SECTION; video++) {
+                if (video > 0) {
+                    json.append(',');
+                }
+
+                if (video % 5 == 4) {
+                    appendOtherRenderer(json, random);
+                    json.append(',');
+                }
+
+                appendVideoRenderer(json, random, section * VIDEOS_PER_SECTION + video);
+            }
+
+            json.append("],\"trackingParams\":\"").append(randomText(random, 64)).append("\"}}");
+        }
+
+        json.append(",{\"continuationItemRenderer\":{\"continuationEndpoint\":{\"continuationCommand\":{\"token\":\"")
+            .append(randomText(random, 400)).append("\"}}}}]}},\"trackingParams\":\"")
+            .append(randomText(random, 64)).append("\",\"frameworkUpdates\":{\"entityBatchUpdate\":{\"mutations\":[");
+
+        for (int i = 0; i < 1100; i++) {
+            json.append(i > 0 ? "," : "").append("{\"entityKey\":\"").append(randomText(random, 48))
+                .append("\",\"type\":\"ENTITY_MUTATION_TYPE_REPLACE\",\"payload\":{\"engagementToolbarStateEntityPayload\":{")
+                .append("\"key\":\"").append(randomText(random, 48)).append("\",\"likeState\":\"TOGGLE_STATE_NEUTRAL\",")
+                .append("\"counts\":[").append(random.nextInt(100000)).append(',').append(random.nextInt(1000))
+                .append("],\"opaque\":\"").append(randomText(random, 120)).append("\"}}}");
+        }
+
+        json.append("]}}}");
+        return json.toString();
+    }
+
+    private static void appendVideoRenderer(StringBuilder json, Random random, int index) {
+        String videoId = randomText(random, 11);
+
+        json.append("{\"compactVideoRenderer\":{\"videoId\":\"").append(videoId).append("\",\"thumbnail\":{\"thumbnails\":[");
+
+        for (int i = 0; i < 4; i++) {
+            json.append(i > 0 ? "," : "").append("{\"url\":\"https://i.ytimg.com/vi/").append(videoId)
+                .append("/hqdefault.jpg?sqp=").append(randomText(random, 60)).append("\",\"width\":")
+                .append(168 * (i + 1)).append(",\"height\":").append(94 * (i + 1)).append('}');
+        }
+
+        json.append("]},\"title\":{\"runs\":[{\"text\":\"Benchmark video ").append(index)
+            .append("\"}],\"accessibility\":{\"accessibilityData\":{\"label\":\"").append(randomText(random, 80))
+            .append("\"}}},\"longBylineText\":{\"runs\":[{\"text\":\"Channel ").append(index % 7)
+            .append("\",\"navigationEndpoint\":{\"browseEndpoint\":{\"browseId\":\"UC").append(randomText(random, 22))
+            .append("\"}}}]},\"lengthText\":{\"runs\":[{\"text\":\"").append(1 + random.nextInt(59)).append(':')
+            .append(String.format("%02d", random.nextInt(60))).append("\"}]},\"viewCountText\":{\"runs\":[{\"text\":\"")
+            .append(random.nextInt(10000000)).append(" views\"}]},\"navigationEndpoint\":{\"clickTrackingParams\":\"")
+            .append(randomText(random, 120)).append("\",\"watchEndpoint\":{\"videoId\":\"").append(videoId)
+            .append("\"}},\"menu\":{\"menuRenderer\":{\"items\":[");
+
+        for (int i = 0; i < 3; i++) {
+            json.append(i > 0 ? "," : "").append("{\"menuServiceItemRenderer\":{\"text\":{\"runs\":[{\"text\":\"Action ")
+                .append(i).append("\"}]},\"trackingParams\":\"").append(randomText(random, 100)).append("\"}}");
+        }
+
+        json.append("]}},\"trackingParams\":\"").append(randomText(random, 120)).append("\"}}");
+    }
+
+    private static void appendOtherRenderer(StringBuilder json, Random random) {
+        json.append("{\"compactPlaylistRenderer\":{\"playlistId\":\"PL").append(randomText(random, 32))
+            .append("\",\"title\":{\"runs\":[{\"text\":\"").append(randomText(random, 40))
+            .append("\"}]},\"videoCountText\":{\"runs\":[{\"text\":\"").append(random.nextInt(200))
+            .append(" videos\"}]},\"trackingParams\":\"").append(randomText(random, 2000)).append("\"}}");
+    }
+
+    private static String randomText(Random random, int length) {
+        String alphabet = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-_";
+        StringBuilder builder = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+
+        return builder.toString();
+    }
+
+    private interface Task {
+        void run() throws Exception;
+    }
+}